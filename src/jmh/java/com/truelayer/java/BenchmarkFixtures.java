@@ -0,0 +1,80 @@
+package com.truelayer.java;
+
+import static com.truelayer.java.TestUtils.JSON_RESPONSES_LOCATION;
+
+import com.truelayer.java.entities.Address;
+import com.truelayer.java.entities.CurrencyCode;
+import com.truelayer.java.entities.ProviderFilter;
+import com.truelayer.java.entities.User;
+import com.truelayer.java.entities.beneficiary.Beneficiary;
+import com.truelayer.java.entities.providerselection.UserSelectedProviderSelection;
+import com.truelayer.java.payments.entities.CountryCode;
+import com.truelayer.java.payments.entities.CreatePaymentRequest;
+import com.truelayer.java.payments.entities.CustomerSegment;
+import com.truelayer.java.payments.entities.ReleaseChannel;
+import com.truelayer.java.payments.entities.paymentmethod.PaymentMethod;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Fixtures shared by the benchmarks. Files are resolved against the root of the project, like in tests.
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {}
+
+    /**
+     * @return a payment request with all the commonly used fields set
+     */
+    public static CreatePaymentRequest createPaymentRequest() {
+        return CreatePaymentRequest.builder()
+                .amountInMinor(100)
+                .currency(CurrencyCode.GBP)
+                .paymentMethod(PaymentMethod.bankTransfer()
+                        .providerSelection(UserSelectedProviderSelection.builder()
+                                .filter(ProviderFilter.builder()
+                                        .countries(Arrays.asList(CountryCode.GB, CountryCode.DE))
+                                        .releaseChannel(ReleaseChannel.GENERAL_AVAILABILITY)
+                                        .customerSegments(Collections.singletonList(CustomerSegment.RETAIL))
+                                        .providerIds(Collections.singletonList("mock-payments-gb-redirect"))
+                                        .build())
+                                .build())
+                        .beneficiary(Beneficiary.merchantAccount()
+                                .merchantAccountId("e83c4c20-b2ad-4b73-8a32-ee855362d72a")
+                                .reference("a-reference")
+                                .build())
+                        .build())
+                .user(User.builder()
+                        .name("Andrea Di Lisio")
+                        .email("andrea@truelayer.com")
+                        .dateOfBirth(LocalDate.of(1990, 1, 31))
+                        .address(Address.builder()
+                                .addressLine1("1 Hardwick Street")
+                                .city("London")
+                                .state("Greater London")
+                                .zip("EC1R 4RB")
+                                .countryCode("GB")
+                                .build())
+                        .build())
+                .metadata(Collections.singletonMap("a_custom_key", "a-custom-value"))
+                .build();
+    }
+
+    /**
+     * Reads a JSON response fixture.
+     * @param name the path of the fixture, relative to the test responses folder
+     * @return the content of the fixture
+     */
+    public static byte[] readJsonResponse(String name) {
+        try {
+            return Files.readAllBytes(Paths.get(JSON_RESPONSES_LOCATION + name));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
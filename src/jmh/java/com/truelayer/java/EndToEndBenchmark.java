@@ -0,0 +1,73 @@
+package com.truelayer.java;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.payments.entities.CreatePaymentRequest;
+import com.truelayer.java.payments.entities.CreatePaymentResponse;
+import com.truelayer.java.payments.entities.paymentdetail.PaymentDetail;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures whole API calls, from the client interface down to the socket and back, against an in-process
+ * WireMock server on the loopback interface. Access tokens are cached, as recommended in production.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class EndToEndBenchmark {
+    private static final String A_PAYMENT_ID = "a-payment-id";
+
+    private WireMockServer wireMockServer;
+
+    private TrueLayerClient tlClient;
+
+    private CreatePaymentRequest createPaymentRequest;
+
+    @Setup
+    public void setup() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        wireMockServer.start();
+        wireMockServer.stubFor(post(urlPathEqualTo("/connect/token"))
+                .willReturn(fileResponse(200, "auth/200.access_token.json")));
+        wireMockServer.stubFor(post(urlPathEqualTo("/payments"))
+                .willReturn(fileResponse(201, "payments/201.create_payment.authorization_required.json")));
+        wireMockServer.stubFor(get(urlPathEqualTo("/payments/" + A_PAYMENT_ID))
+                .willReturn(fileResponse(200, "payments/200.get_payment_by_id.executed.json")));
+
+        tlClient = TrueLayerClient.New()
+                .clientCredentials(TestUtils.getClientCredentials())
+                .signingOptions(TestUtils.getSigningOptions())
+                .environment(TestUtils.getTestEnvironment(URI.create(wireMockServer.baseUrl())))
+                .withCredentialsCaching()
+                .build();
+        createPaymentRequest = BenchmarkFixtures.createPaymentRequest();
+    }
+
+    @TearDown
+    public void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @Benchmark
+    public ApiResponse<CreatePaymentResponse> createPayment() {
+        return tlClient.payments().createPayment(createPaymentRequest).join();
+    }
+
+    @Benchmark
+    public ApiResponse<PaymentDetail> getPayment() {
+        return tlClient.payments().getPayment(A_PAYMENT_ID).join();
+    }
+
+    private static ResponseDefinitionBuilder fileResponse(int status, String bodyFile) {
+        return aResponse()
+                .withStatus(status)
+                .withHeader("Content-Type", "application/json")
+                .withBodyFile(bodyFile);
+    }
+}
@@ -0,0 +1,61 @@
+package com.truelayer.java.http;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.truelayer.java.BenchmarkFixtures;
+import com.truelayer.java.Utils;
+import com.truelayer.java.merchantaccounts.entities.ListTransactionsResponse;
+import com.truelayer.java.merchantaccounts.entities.transactions.Transaction;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the consumption of a large list of transactions, streamed item by item versus deserialized
+ * as a whole into the list response.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class StreamingItemsIteratorBenchmark {
+    private static final MediaType JSON = MediaType.get("application/json");
+
+    @Param({"100000"})
+    private int items;
+
+    private byte[] listJson;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper objectMapper = Utils.getObjectMapper();
+        byte[] fixtureJson = BenchmarkFixtures.readJsonResponse("merchant_accounts/200.get_transactions.json");
+        JsonNode fixture = objectMapper.readTree(fixtureJson);
+        JsonNode fixtureItems = fixture.get("items");
+
+        ObjectNode list = objectMapper.createObjectNode();
+        ArrayNode listItems = list.putArray("items");
+        for (int i = 0; i < items; i++) {
+            listItems.add(fixtureItems.get(i % fixtureItems.size()));
+        }
+        listJson = objectMapper.writeValueAsBytes(list);
+    }
+
+    @Benchmark
+    public void streamItems(Blackhole blackhole) {
+        StreamingItemsIterator<Transaction> iterator = new StreamingItemsIterator<>(
+                ResponseBody.create(JSON, listJson), Utils.getObjectMapper(), Transaction.class);
+        iterator.forEachRemaining(blackhole::consume);
+    }
+
+    @Benchmark
+    public void readWholeList(Blackhole blackhole) throws IOException {
+        ListTransactionsResponse response =
+                Utils.getObjectMapper().readValue(listJson, ListTransactionsResponse.class);
+        response.getItems().forEach(blackhole::consume);
+    }
+}
@@ -0,0 +1,133 @@
+package com.truelayer.java.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.truelayer.java.TlsOptions;
+import com.truelayer.java.versioninfo.VersionInfoLoader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.SSLSocket;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.tls.HeldCertificate;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures HTTPS calls that open a new connection each time, like the calls refilling the connection pool,
+ * against an in-process WireMock server on the loopback interface. Connections either resume the TLS session
+ * cached by the client built with {@link TlsOptions}, or perform a full handshake because the client sessions
+ * are invalidated before each call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TlsHandshakeBenchmark {
+    private static final String KEY_STORE_TYPE = "PKCS12";
+
+    private static final char[] PASSWORD = "password".toCharArray();
+
+    @Param({"true", "false"})
+    private boolean resumeSessions;
+
+    private WireMockServer wireMockServer;
+
+    private OkHttpClient httpClient;
+
+    private Request request;
+
+    private volatile SSLSessionContext sessionContext;
+
+    @Setup
+    public void setup() throws IOException, GeneralSecurityException {
+        HeldCertificate certificate = new HeldCertificate.Builder()
+                .addSubjectAlternativeName("localhost")
+                .build();
+
+        KeyStore keyStore = newKeyStore();
+        Certificate[] chain = {certificate.certificate()};
+        keyStore.setKeyEntry("localhost", certificate.keyPair().getPrivate(), PASSWORD, chain);
+        KeyStore trustStore = newKeyStore();
+        trustStore.setCertificateEntry("localhost", certificate.certificate());
+
+        wireMockServer = new WireMockServer(wireMockConfig()
+                .httpDisabled(true)
+                .dynamicHttpsPort()
+                .keystorePath(store(keyStore).getAbsolutePath())
+                .keystoreType(KEY_STORE_TYPE)
+                .keystorePassword(String.valueOf(PASSWORD))
+                .keyManagerPassword(String.valueOf(PASSWORD)));
+        wireMockServer.start();
+        wireMockServer.stubFor(get(urlPathEqualTo("/ping")).willReturn(aResponse().withStatus(200)));
+
+        // the TLS context built from the options trusts the certificates of the JVM default trust store
+        System.setProperty("javax.net.ssl.trustStore", store(trustStore).getAbsolutePath());
+        System.setProperty("javax.net.ssl.trustStorePassword", String.valueOf(PASSWORD));
+        System.setProperty("javax.net.ssl.trustStoreType", KEY_STORE_TYPE);
+
+        OkHttpClient sharedHttpClient = new OkHttpClient.Builder()
+                .addNetworkInterceptor(chain -> {
+                    sessionContext = ((SSLSocket) chain.connection().socket())
+                            .getSession()
+                            .getSessionContext();
+                    return chain.proceed(chain.request());
+                })
+                .build();
+        httpClient = new OkHttpClientFactory(new VersionInfoLoader())
+                .buildBaseApiClient(BaseApiClientOptions.builder()
+                        .sharedHttpClient(sharedHttpClient)
+                        .tlsOptions(TlsOptions.builder().build())
+                        .build());
+        request = new Request.Builder()
+                .url("https://localhost:" + wireMockServer.httpsPort() + "/ping")
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpClient.connectionPool().evictAll();
+        wireMockServer.stop();
+    }
+
+    @Benchmark
+    public int newConnection() throws IOException {
+        httpClient.connectionPool().evictAll();
+        if (!resumeSessions && sessionContext != null) {
+            for (byte[] sessionId : Collections.list(sessionContext.getIds())) {
+                SSLSession session = sessionContext.getSession(sessionId);
+                if (session != null) {
+                    session.invalidate();
+                }
+            }
+        }
+        try (Response response = httpClient.newCall(request).execute()) {
+            return response.code();
+        }
+    }
+
+    private static KeyStore newKeyStore() throws IOException, GeneralSecurityException {
+        KeyStore keyStore = KeyStore.getInstance(KEY_STORE_TYPE);
+        keyStore.load(null, PASSWORD);
+        return keyStore;
+    }
+
+    private static File store(KeyStore keyStore) throws IOException, GeneralSecurityException {
+        File file = File.createTempFile("tls-handshake-benchmark", ".p12");
+        file.deleteOnExit();
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            keyStore.store(outputStream, PASSWORD);
+        }
+        return file;
+    }
+}
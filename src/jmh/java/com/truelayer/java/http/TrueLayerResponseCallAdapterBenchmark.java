@@ -0,0 +1,131 @@
+package com.truelayer.java.http;
+
+import com.truelayer.java.BenchmarkFixtures;
+import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.http.tracing.CallTracer;
+import com.truelayer.java.http.tracing.ISpan;
+import com.truelayer.java.http.tracing.TracingOptions;
+import java.util.concurrent.TimeUnit;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import okio.Timeout;
+import org.openjdk.jmh.annotations.*;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Measures the overhead the call adapter adds on top of Retrofit calls: the future, the callback, the mapping
+ * of successful and error responses, and optionally the tracing of the call. Calls complete synchronously,
+ * so that no HTTP client nor thread hand-off is involved.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class TrueLayerResponseCallAdapterBenchmark {
+    private static final MediaType JSON = MediaType.get("application/json");
+
+    @Param({"false", "true"})
+    private boolean tracing;
+
+    private TrueLayerResponseCallAdapter<String> callAdapter;
+
+    private Request request;
+
+    private okhttp3.Response successRawResponse;
+
+    private okhttp3.Response errorRawResponse;
+
+    private byte[] errorBody;
+
+    @Setup
+    public void setup() {
+        CallTracer callTracer = tracing
+                ? new CallTracer(TracingOptions.builder()
+                        .tracer(endpoint -> ISpan.NOOP)
+                        .build())
+                : null;
+        callAdapter = new TrueLayerResponseCallAdapter<>(String.class, callTracer);
+        request = new Request.Builder()
+                .url("https://api.truelayer.com/payments/a-payment-id")
+                .build();
+        successRawResponse = rawResponse(200);
+        errorRawResponse = rawResponse(404);
+        errorBody = BenchmarkFixtures.readJsonResponse("payments/404.payment_not_found.json");
+    }
+
+    @Benchmark
+    public ApiResponse<String> adaptSuccess() {
+        return callAdapter
+                .adapt(new CompletedCall(Response.success("a-payment", successRawResponse)))
+                .join();
+    }
+
+    @Benchmark
+    public ApiResponse<String> adaptError() {
+        return callAdapter
+                .adapt(new CompletedCall(
+                        Response.error(ResponseBody.create(JSON, errorBody), errorRawResponse)))
+                .join();
+    }
+
+    private okhttp3.Response rawResponse(int code) {
+        return new okhttp3.Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_2)
+                .code(code)
+                .message("")
+                .build();
+    }
+
+    /**
+     * Retrofit call that completes with the given response as soon as it's enqueued.
+     */
+    private final class CompletedCall implements Call<String> {
+        private final Response<String> response;
+
+        CompletedCall(Response<String> response) {
+            this.response = response;
+        }
+
+        @Override
+        public Response<String> execute() {
+            return response;
+        }
+
+        @Override
+        public void enqueue(Callback<String> callback) {
+            callback.onResponse(this, response);
+        }
+
+        @Override
+        public boolean isExecuted() {
+            return true;
+        }
+
+        @Override
+        public void cancel() {}
+
+        @Override
+        public boolean isCanceled() {
+            return false;
+        }
+
+        @Override
+        public Call<String> clone() {
+            return new CompletedCall(response);
+        }
+
+        @Override
+        public Request request() {
+            return request;
+        }
+
+        @Override
+        public Timeout timeout() {
+            return Timeout.NONE;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.truelayer.java.http.auth.cache;
+
+import com.truelayer.java.auth.entities.AccessToken;
+import java.time.Clock;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the default credentials cache, which every authenticated call reads, both uncontended and
+ * shared by many reader threads while a token is being refreshed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SimpleCredentialsCacheBenchmark {
+
+    private SimpleCredentialsCache credentialsCache;
+
+    private AccessToken accessToken;
+
+    @Setup
+    public void setup() {
+        credentialsCache = new SimpleCredentialsCache(Clock.systemUTC());
+        accessToken = new AccessToken("an-access-token", 3600, "payments", "Bearer");
+        credentialsCache.storeToken(accessToken);
+    }
+
+    @Benchmark
+    public Optional<AccessToken> getToken() {
+        return credentialsCache.getToken();
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(7)
+    public Optional<AccessToken> contendedGetToken() {
+        return credentialsCache.getToken();
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public void contendedStoreToken() {
+        credentialsCache.storeToken(accessToken);
+    }
+}
@@ -0,0 +1,98 @@
+package com.truelayer.java.http.interceptors;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Interceptor chain that runs the given interceptors in order, and ends with a canned response instead of
+ * a network call, to measure the cost of the interceptors alone.
+ */
+public final class BenchmarkChain implements Interceptor.Chain {
+    private final List<Interceptor> interceptors;
+    private final int index;
+    private final Request request;
+    private final Function<Request, Response> responder;
+
+    private BenchmarkChain(
+            List<Interceptor> interceptors, int index, Request request, Function<Request, Response> responder) {
+        this.interceptors = interceptors;
+        this.index = index;
+        this.request = request;
+        this.responder = responder;
+    }
+
+    /**
+     * Runs a request through the given interceptors.
+     * @param interceptors the interceptors, in the order they are invoked
+     * @param request the request to run
+     * @param responder the function that returns the response of the last request in the chain
+     * @return the response returned by the first interceptor
+     * @throws IOException if any interceptor fails
+     */
+    public static Response proceed(
+            List<Interceptor> interceptors, Request request, Function<Request, Response> responder)
+            throws IOException {
+        return new BenchmarkChain(interceptors, 0, request, responder).proceed(request);
+    }
+
+    @Override
+    public Request request() {
+        return request;
+    }
+
+    @Override
+    public Response proceed(Request request) throws IOException {
+        if (index == interceptors.size()) {
+            return responder.apply(request);
+        }
+        BenchmarkChain next = new BenchmarkChain(interceptors, index + 1, request, responder);
+        return interceptors.get(index).intercept(next);
+    }
+
+    @Override
+    public Connection connection() {
+        return null;
+    }
+
+    @Override
+    public Call call() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int connectTimeoutMillis() {
+        return 0;
+    }
+
+    @Override
+    public Interceptor.Chain withConnectTimeout(int timeout, TimeUnit unit) {
+        return this;
+    }
+
+    @Override
+    public int readTimeoutMillis() {
+        return 0;
+    }
+
+    @Override
+    public Interceptor.Chain withReadTimeout(int timeout, TimeUnit unit) {
+        return this;
+    }
+
+    @Override
+    public int writeTimeoutMillis() {
+        return 0;
+    }
+
+    @Override
+    public Interceptor.Chain withWriteTimeout(int timeout, TimeUnit unit) {
+        return this;
+    }
+}
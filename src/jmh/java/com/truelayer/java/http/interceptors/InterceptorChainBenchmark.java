@@ -0,0 +1,73 @@
+package com.truelayer.java.http.interceptors;
+
+import com.truelayer.java.BenchmarkFixtures;
+import com.truelayer.java.TestUtils;
+import com.truelayer.java.Utils;
+import com.truelayer.java.auth.entities.AccessToken;
+import com.truelayer.java.http.auth.IAccessTokenManager;
+import com.truelayer.java.http.interceptors.logging.HttpLogConsumer;
+import com.truelayer.java.http.interceptors.logging.HttpLoggingInterceptor;
+import com.truelayer.java.http.interceptors.logging.SensitiveHeaderGuard;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the whole chain of interceptors a payment creation goes through, in the order set up by
+ * the HTTP client factory, with HTTP logs either disabled or consumed as text.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class InterceptorChainBenchmark {
+
+    @Param({"false", "true"})
+    private boolean httpLogs;
+
+    private List<Interceptor> interceptors;
+
+    private Request request;
+
+    // sink of the log messages, so that they are not optimized away
+    private volatile int loggedChars;
+
+    @Setup
+    public void setup() throws IOException {
+        AccessToken accessToken = new AccessToken("an-access-token", 3600, "payments", "Bearer");
+        IAccessTokenManager tokenManager = new IAccessTokenManager() {
+            @Override
+            public AccessToken getToken() {
+                return accessToken;
+            }
+
+            @Override
+            public void invalidateToken() {}
+        };
+        HttpLogConsumer logConsumer = HttpLogConsumer.of(message -> loggedChars += message.length(), () -> httpLogs);
+
+        interceptors = Arrays.asList(
+                new UserAgentInterceptor(TestUtils.getVersionInfo()),
+                new IdempotencyKeyInterceptor(),
+                new SignatureInterceptor(TestUtils.getSigningOptions()),
+                new AuthenticationInterceptor(tokenManager),
+                new HttpLoggingInterceptor(logConsumer, new SensitiveHeaderGuard()));
+
+        byte[] payload = Utils.getObjectMapper().writeValueAsBytes(BenchmarkFixtures.createPaymentRequest());
+        request = new Request.Builder()
+                .url("https://api.truelayer.com/payments")
+                .post(RequestBody.create(MediaType.get("application/json"), payload))
+                .build();
+    }
+
+    @Benchmark
+    public Response createPayment() throws IOException {
+        return BenchmarkChain.proceed(interceptors, request, SignatureInterceptorBenchmark::respond);
+    }
+}
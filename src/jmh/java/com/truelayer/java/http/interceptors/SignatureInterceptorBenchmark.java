@@ -0,0 +1,69 @@
+package com.truelayer.java.http.interceptors;
+
+import static com.truelayer.java.Constants.HeaderNames.IDEMPOTENCY_KEY;
+
+import com.truelayer.java.BenchmarkFixtures;
+import com.truelayer.java.TestUtils;
+import com.truelayer.java.Utils;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the signing of requests with the <code>Tl-Signature</code> header, which includes the parsing
+ * of the private key, the canonicalization of the request and the ECDSA signature itself.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SignatureInterceptorBenchmark {
+
+    private List<Interceptor> interceptors;
+
+    private Request postRequest;
+
+    private Request getRequest;
+
+    @Setup
+    public void setup() throws IOException {
+        interceptors = Collections.singletonList(new SignatureInterceptor(TestUtils.getSigningOptions()));
+        byte[] payload = Utils.getObjectMapper().writeValueAsBytes(BenchmarkFixtures.createPaymentRequest());
+        postRequest = new Request.Builder()
+                .url("https://api.truelayer.com/payments")
+                .header(IDEMPOTENCY_KEY, UUID.randomUUID().toString())
+                .post(RequestBody.create(MediaType.get("application/json"), payload))
+                .build();
+        getRequest = new Request.Builder()
+                .url("https://api.truelayer.com/payments/a-payment-id")
+                .get()
+                .build();
+    }
+
+    @Benchmark
+    public Response signPost() throws IOException {
+        return BenchmarkChain.proceed(interceptors, postRequest, SignatureInterceptorBenchmark::respond);
+    }
+
+    @Benchmark
+    public Response skipGet() throws IOException {
+        return BenchmarkChain.proceed(interceptors, getRequest, SignatureInterceptorBenchmark::respond);
+    }
+
+    static Response respond(Request request) {
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_2)
+                .code(200)
+                .message("")
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.truelayer.java.http.interceptors.logging;
+
+import static com.truelayer.java.Constants.HeaderNames.AUTHORIZATION;
+import static com.truelayer.java.Constants.HeaderNames.IDEMPOTENCY_KEY;
+
+import com.truelayer.java.http.interceptors.BenchmarkChain;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Interceptor;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the cost of HTTP trace logging per call: skipped when disabled, formatted as text into the reused
+ * buffers, or handed over to the asynchronous consumer. Best run with the GC profiler to see the allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class HttpLoggingBenchmark {
+
+    @Param({"disabled", "text", "async"})
+    private String consumer;
+
+    private List<Interceptor> interceptors;
+
+    private AsyncHttpLogConsumer asyncConsumer;
+
+    private Request request;
+
+    private Response response;
+
+    // sink of the log messages, so that they are not optimized away
+    private volatile int loggedChars;
+
+    @Setup
+    public void setup() {
+        HttpLogConsumer textConsumer = HttpLogConsumer.of(message -> loggedChars += message.length());
+        HttpLogConsumer logConsumer;
+        switch (consumer) {
+            case "disabled":
+                logConsumer = HttpLogConsumer.of(message -> loggedChars += message.length(), () -> false);
+                break;
+            case "text":
+                logConsumer = textConsumer;
+                break;
+            default:
+                asyncConsumer = AsyncHttpLogConsumer.builder()
+                        .delegate(textConsumer)
+                        .dropPolicy(AsyncHttpLogConsumer.DropPolicy.DROP_OLDEST)
+                        .build();
+                logConsumer = asyncConsumer;
+        }
+        interceptors =
+                Collections.singletonList(new HttpLoggingInterceptor(logConsumer, new SensitiveHeaderGuard()));
+
+        request = new Request.Builder()
+                .url("https://api.truelayer.com/payments/a-payment-id")
+                .header(IDEMPOTENCY_KEY, UUID.randomUUID().toString())
+                .header(AUTHORIZATION, "Bearer an-access-token")
+                .build();
+        response = new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_2)
+                .code(200)
+                .message("")
+                .header("X-Tl-Correlation-Id", UUID.randomUUID().toString())
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (asyncConsumer != null) {
+            asyncConsumer.close();
+        }
+    }
+
+    @Benchmark
+    public Response logCall() throws IOException {
+        return BenchmarkChain.proceed(interceptors, request, r -> response);
+    }
+}
@@ -0,0 +1,77 @@
+package com.truelayer.java.http.mappers;
+
+import static com.truelayer.java.Constants.HeaderNames.TL_CORRELATION_ID;
+
+import com.truelayer.java.BenchmarkFixtures;
+import com.truelayer.java.http.entities.ProblemDetails;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.*;
+import retrofit2.Response;
+
+/**
+ * Measures the mapping of error responses to problem details, on a single thread and during an error storm,
+ * where all the threads of an application map errors at once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ErrorMapperBenchmark {
+    private static final MediaType JSON = MediaType.get("application/problem+json");
+
+    @Param({"problem_details", "legacy", "oversized"})
+    private String errorBody;
+
+    private final ErrorMapper errorMapper = new ErrorMapper();
+
+    private okhttp3.Response rawResponse;
+
+    private byte[] errorBodyBytes;
+
+    @Setup
+    public void setup() {
+        switch (errorBody) {
+            case "problem_details":
+                errorBodyBytes = BenchmarkFixtures.readJsonResponse("payments/400.request_invalid.json");
+                break;
+            case "legacy":
+                errorBodyBytes = BenchmarkFixtures.readJsonResponse("auth/400.invalid_client.json");
+                break;
+            default:
+                // twice the default limit, to measure how fast oversized bodies are given up on
+                char[] padding = new char[ErrorMapper.DEFAULT_MAX_ERROR_BODY_SIZE * 2];
+                Arrays.fill(padding, 'a');
+                errorBodyBytes = ("{\"title\":\"" + new String(padding) + "\"}").getBytes(StandardCharsets.UTF_8);
+        }
+        rawResponse = new okhttp3.Response.Builder()
+                .request(new Request.Builder()
+                        .url("https://api.truelayer.com/payments")
+                        .build())
+                .protocol(Protocol.HTTP_2)
+                .code(400)
+                .message("Bad Request")
+                .header(TL_CORRELATION_ID, "a-correlation-id")
+                .build();
+    }
+
+    @Benchmark
+    public ProblemDetails mapError() {
+        return errorMapper.toProblemDetails(errorResponse());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public ProblemDetails mapErrorStorm() {
+        return errorMapper.toProblemDetails(errorResponse());
+    }
+
+    private Response<Object> errorResponse() {
+        // bodies are consumed by the mapping, hence created for each invocation
+        return Response.error(ResponseBody.create(JSON, errorBodyBytes), rawResponse);
+    }
+}
@@ -0,0 +1,87 @@
+package com.truelayer.java.serialization;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.truelayer.java.BenchmarkFixtures;
+import com.truelayer.java.SerializationOptions;
+import com.truelayer.java.Utils;
+import com.truelayer.java.http.TypedJacksonConverterFactory;
+import com.truelayer.java.payments.entities.CreatePaymentRequest;
+import com.truelayer.java.payments.entities.paymentdetail.PaymentDetail;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the JSON serialization of payment requests and the (de)serialization of payment details,
+ * with the discriminator based dispatch of the library and the Jackson type deserializers it replaced.
+ * The mapper of the library is measured with and without Afterburner, as registered by
+ * {@link SerializationOptions#isPreferAfterburner()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"payments/200.get_payment_by_id.executed.json", "payments/200.get_payment_by_id.failed.json"})
+    private String paymentDetailFixture;
+
+    @Param({"false", "true"})
+    private boolean preferAfterburner;
+
+    private CreatePaymentRequest createPaymentRequest;
+
+    private byte[] paymentDetailJson;
+
+    private ObjectWriter createPaymentRequestWriter;
+
+    private ObjectReader paymentDetailReader;
+
+    private ObjectWriter paymentDetailWriter;
+
+    private ObjectReader annotationBasedPaymentDetailReader;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper objectMapper = TypedJacksonConverterFactory.create(SerializationOptions.builder()
+                        .preferAfterburner(preferAfterburner)
+                        .build())
+                .getObjectMapper();
+        createPaymentRequest = BenchmarkFixtures.createPaymentRequest();
+        createPaymentRequestWriter = objectMapper.writerFor(CreatePaymentRequest.class);
+        paymentDetailJson = BenchmarkFixtures.readJsonResponse(paymentDetailFixture);
+        paymentDetailReader = objectMapper.readerFor(PaymentDetail.class);
+        paymentDetailWriter = objectMapper.writerFor(PaymentDetail.class);
+        // the subtype deserializer is bypassed as in the reference test, to fall back to @JsonTypeInfo
+        annotationBasedPaymentDetailReader = Utils.newObjectMapper()
+                .addMixIn(PaymentDetail.class, AnnotationBased.class)
+                .readerFor(PaymentDetail.class);
+    }
+
+    @Benchmark
+    public byte[] writeCreatePaymentRequest() throws IOException {
+        return createPaymentRequestWriter.writeValueAsBytes(createPaymentRequest);
+    }
+
+    @Benchmark
+    public PaymentDetail readPaymentDetail() throws IOException {
+        return paymentDetailReader.readValue(paymentDetailJson);
+    }
+
+    @Benchmark
+    public PaymentDetail readPaymentDetailWithTypeDeserializer() throws IOException {
+        return annotationBasedPaymentDetailReader.readValue(paymentDetailJson);
+    }
+
+    @Benchmark
+    public PaymentDetail roundTripPaymentDetail() throws IOException {
+        PaymentDetail paymentDetail = paymentDetailReader.readValue(paymentDetailJson);
+        return paymentDetailReader.readValue(paymentDetailWriter.writeValueAsBytes(paymentDetail));
+    }
+
+    @JsonDeserialize(using = JsonDeserializer.None.class)
+    private abstract static class AnnotationBased {}
+}
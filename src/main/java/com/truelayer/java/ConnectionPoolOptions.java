@@ -1,8 +1,11 @@
 package com.truelayer.java;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import lombok.Builder;
 import lombok.Getter;
+import okhttp3.Protocol;
 
 @Builder
 @Getter
@@ -14,6 +17,23 @@ public class ConnectionPoolOptions {
     @Builder.Default
     private KeepAliveDuration keepAliveDuration = KeepAliveDuration.builder().build();
 
+    /**
+     * Optional list of protocols to negotiate, in order of preference. If not set, HTTP/2 is preferred over HTTP/1.1.
+     */
+    private List<Protocol> protocols;
+
+    /**
+     * Optional interval between HTTP/2 pings. Connections whose pings are not acknowledged in time are considered
+     * dead and are evicted from the pool, instead of failing the next call multiplexed over them.
+     */
+    private Duration pingInterval;
+
+    /**
+     * Optional maximum number of concurrent requests per host. As requests to the same host are multiplexed
+     * over a shared HTTP/2 connection, this effectively caps the number of concurrent streams per connection.
+     */
+    private Integer maxRequestsPerHost;
+
     @Builder
     @Getter
     public static class KeepAliveDuration {
@@ -30,5 +30,16 @@ public final class Constants {
         public static final String AUTHORIZATION = "Authorization";
         public static final String COOKIE = "Cookie";
         public static final String TL_CORRELATION_ID = "X-Tl-Correlation-Id";
+        public static final String TRACEPARENT = "traceparent";
+        public static final String CACHE_CONTROL = "Cache-Control";
+        public static final String PRAGMA = "Pragma";
+        public static final String RETRY_AFTER = "Retry-After";
+        public static final String SERVER_TIMING = "Server-Timing";
+        public static final String RATELIMIT_LIMIT = "RateLimit-Limit";
+        public static final String RATELIMIT_REMAINING = "RateLimit-Remaining";
+        public static final String RATELIMIT_RESET = "RateLimit-Reset";
+        public static final String X_RATELIMIT_LIMIT = "X-RateLimit-Limit";
+        public static final String X_RATELIMIT_REMAINING = "X-RateLimit-Remaining";
+        public static final String X_RATELIMIT_RESET = "X-RateLimit-Reset";
     }
 }
@@ -0,0 +1,58 @@
+package com.truelayer.java;
+
+import com.truelayer.java.http.caching.HttpCacheStats;
+import java.io.File;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Class that models the options of the HTTP response cache of the library. Cached responses are revalidated
+ * with the server using their <code>ETag</code> or <code>Last-Modified</code> validators, if any, so that
+ * unchanged resources are not transferred again.
+ * <p>
+ * Responses are stored in a subdirectory of the given directory dedicated to the client id and the environment
+ * in use, so that clients with different credentials, or targeting different environments, never share cached
+ * entries. A subdirectory must be used by a single client at a time: clients built with the same credentials
+ * and environment, in the same process or not, must be given different directories.
+ */
+@Builder
+@Getter
+public class HttpCacheOptions {
+
+    /**
+     * The directory where responses are stored.
+     */
+    private File directory;
+
+    /**
+     * The maximum size in bytes of the cache. Defaults to 10 MiB.
+     */
+    @Builder.Default
+    private long maxSize = 10L * 1024 * 1024;
+
+    /**
+     * The caching policy of each GET endpoint, expressed as a path pattern where <code>*</code> matches a single
+     * path segment, mapped to the time responses can be served without revalidation. A zero duration means
+     * responses are always revalidated. Endpoints not listed here follow the cache headers returned by the server.
+     * By default, merchant accounts, sweeping settings and payment sources are always revalidated.
+     */
+    @Builder.Default
+    private Map<String, Duration> endpointPolicies = defaultEndpointPolicies();
+
+    /**
+     * Optional collector of the cache statistics.
+     */
+    private HttpCacheStats stats;
+
+    private static Map<String, Duration> defaultEndpointPolicies() {
+        Map<String, Duration> policies = new HashMap<>();
+        policies.put("/merchant-accounts", Duration.ZERO);
+        policies.put("/merchant-accounts/*", Duration.ZERO);
+        policies.put("/merchant-accounts/*/sweeping", Duration.ZERO);
+        policies.put("/merchant-accounts/*/payment-sources", Duration.ZERO);
+        return policies;
+    }
+}
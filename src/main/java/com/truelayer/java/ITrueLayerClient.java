@@ -8,6 +8,7 @@ import com.truelayer.java.http.entities.ApiResponse;
 import com.truelayer.java.mandates.IMandatesHandler;
 import com.truelayer.java.merchantaccounts.IMerchantAccountsHandler;
 import com.truelayer.java.payments.IPaymentsApi;
+import com.truelayer.java.payments.IReactivePaymentsApi;
 import com.truelayer.java.paymentsproviders.IPaymentsProvidersHandler;
 import java.util.concurrent.CompletableFuture;
 
@@ -28,6 +29,14 @@ public interface ITrueLayerClient {
      */
     IPaymentsApi payments();
 
+    /**
+     * Entrypoint for payments endpoints, exposed as Reactive Streams publishers.
+     * @return a utility to interact with payments endpoints in a reactive fashion.
+     */
+    default IReactivePaymentsApi reactivePayments() {
+        throw new UnsupportedOperationException("reactivePayments is not supported by " + getClass().getName());
+    }
+
     /**
      * Entrypoint for payments providers endpoints.
      * @return a utility to interact with payments providers endpoints.
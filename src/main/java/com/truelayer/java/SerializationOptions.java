@@ -0,0 +1,34 @@
+package com.truelayer.java;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.truelayer.java.http.mappers.ErrorMapper;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Class that models the JSON serialization options of the library.
+ */
+@Builder
+@Getter
+public class SerializationOptions {
+
+    /**
+     * Optional custom object mapper used to serialize requests and deserialize responses. It should be derived
+     * from <code>Utils.newObjectMapper()</code>, so that the naming strategy and the modules required by the
+     * library are preserved.
+     */
+    private ObjectMapper objectMapper;
+
+    /**
+     * Whether to register the Jackson
+     * <a href="https://github.com/FasterXML/jackson-modules-base/tree/2.13/afterburner">Afterburner</a> module,
+     * which generates bytecode to access properties, when it's available on the classpath.
+     */
+    private boolean preferAfterburner;
+
+    /**
+     * Maximum number of bytes read from the body of error responses. Larger bodies are mapped to a generic error.
+     */
+    @Builder.Default
+    private int maxErrorBodySize = ErrorMapper.DEFAULT_MAX_ERROR_BODY_SIZE;
+}
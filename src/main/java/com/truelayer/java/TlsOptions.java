@@ -0,0 +1,50 @@
+package com.truelayer.java;
+
+import java.security.Provider;
+import java.time.Duration;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Class that models the TLS options of the internal HTTP client. A single TLS context is shared by all the
+ * connections of the client, hence a large enough session cache allows connections opened to refill the pool
+ * to resume previous sessions instead of performing full handshakes.
+ */
+@Builder
+@Getter
+public class TlsOptions {
+
+    /**
+     * Maximum number of client sessions cached for resumption. Zero means no limit.
+     */
+    @Builder.Default
+    private int sessionCacheSize = 100;
+
+    /**
+     * Time after which cached sessions can no longer be resumed.
+     */
+    @Builder.Default
+    private Duration sessionTimeout = Duration.ofHours(1);
+
+    /**
+     * Optional security provider used to build the TLS context. If not set, the JVM default one is used.
+     */
+    private Provider securityProvider;
+
+    /**
+     * Whether to use <a href="https://github.com/google/conscrypt">Conscrypt</a> as security provider when it's
+     * available on the classpath. Ignored if a security provider is explicitly set.
+     */
+    private boolean preferConscrypt;
+
+    /**
+     * Optional list of TLS versions to enable, for instance <code>TLSv1.3</code> and <code>TLSv1.2</code>.
+     */
+    private List<String> tlsVersions;
+
+    /**
+     * Optional list of cipher suites to enable, in order of preference.
+     */
+    private List<String> cipherSuites;
+}
@@ -7,29 +7,40 @@ import com.truelayer.java.commonapi.entities.SubmitPaymentReturnParametersRespon
 import com.truelayer.java.hpp.IHostedPaymentPageLinkBuilder;
 import com.truelayer.java.http.entities.ApiResponse;
 import com.truelayer.java.mandates.IMandatesHandler;
+import com.truelayer.java.management.TrueLayerClientManagement.Registration;
 import com.truelayer.java.merchantaccounts.IMerchantAccountsHandler;
 import com.truelayer.java.payments.IPaymentsApi;
+import com.truelayer.java.payments.IReactivePaymentsApi;
 import com.truelayer.java.paymentsproviders.IPaymentsProvidersHandler;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.AllArgsConstructor;
 import org.apache.commons.lang3.ObjectUtils;
 
 /**
  * Main class that holds TrueLayer API client. Should be built with the help of its builder
  * class. Acts as entrypoint for the Java client library capabilities.
+ * <p>
+ * Clients registered as JMX beans should be closed once discarded, while the application keeps running.
  *
  * @see TrueLayerClientBuilder
  */
 @AllArgsConstructor
-public class TrueLayerClient implements ITrueLayerClient {
+public class TrueLayerClient implements ITrueLayerClient, AutoCloseable {
     private IAuthenticationHandler authenticationHandler;
     private IPaymentsApi paymentsHandler;
+    private IReactivePaymentsApi reactivePaymentsHandler;
     private IPaymentsProvidersHandler paymentsProvidersHandler;
     private IMerchantAccountsHandler merchantAccountsHandler;
     private IMandatesHandler mandatesHandler;
     private IHostedPaymentPageLinkBuilder hostedPaymentPageLinkBuilder;
     private ICommonApi commonApi;
 
+    /**
+     * Optional registration of the JMX bean of this client.
+     */
+    private final AtomicReference<Registration> managementRegistration = new AtomicReference<>();
+
     public TrueLayerClient(
             IAuthenticationHandler authenticationHandler,
             IHostedPaymentPageLinkBuilder hostedPaymentPageLinkBuilder,
@@ -66,6 +77,17 @@ public class TrueLayerClient implements ITrueLayerClient {
         return paymentsHandler;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IReactivePaymentsApi reactivePayments() {
+        if (ObjectUtils.isEmpty(reactivePaymentsHandler)) {
+            throw buildInitializationException("reactive payments");
+        }
+        return reactivePaymentsHandler;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -110,6 +132,23 @@ public class TrueLayerClient implements ITrueLayerClient {
         return commonApi.submitPaymentReturnParameters(request);
     }
 
+    /**
+     * Unregisters the JMX bean of this client, if any. The HTTP resources of the client, like its connection pool,
+     * are released by the HTTP client itself once idle, hence the client can still be used after being closed.
+     */
+    @Override
+    public void close() {
+        Registration registration = managementRegistration.getAndSet(null);
+        if (registration != null) {
+            registration.close();
+        }
+    }
+
+    TrueLayerClient withManagementRegistration(Registration registration) {
+        managementRegistration.set(registration);
+        return this;
+    }
+
     private TrueLayerException buildInitializationException(String handlerName) {
         return new TrueLayerException(String.format(
                 "%s handler not initialized."
@@ -1,17 +1,33 @@
 package com.truelayer.java;
 
 import static org.apache.commons.lang3.ObjectUtils.isEmpty;
+import static org.apache.commons.lang3.ObjectUtils.isNotEmpty;
 
 import com.truelayer.java.auth.AuthenticationHandler;
 import com.truelayer.java.auth.IAuthenticationHandler;
 import com.truelayer.java.commonapi.ICommonApi;
 import com.truelayer.java.hpp.HostedPaymentPageLinkBuilder;
 import com.truelayer.java.hpp.IHostedPaymentPageLinkBuilder;
+import com.truelayer.java.http.BaseApiClientOptions;
 import com.truelayer.java.http.OkHttpClientFactory;
 import com.truelayer.java.http.RetrofitFactory;
+import com.truelayer.java.http.TypedJacksonConverterFactory;
 import com.truelayer.java.http.auth.cache.ICredentialsCache;
 import com.truelayer.java.http.auth.cache.SimpleCredentialsCache;
+import com.truelayer.java.http.caching.ResponseCache;
+import com.truelayer.java.http.coalescing.RequestCoalescer;
+import com.truelayer.java.http.connections.ConnectionStats;
+import com.truelayer.java.http.deduplication.RequestDeduplicator;
+import com.truelayer.java.http.dns.CachingDns;
+import com.truelayer.java.http.interceptors.logging.AsyncHttpLogConsumer;
 import com.truelayer.java.http.interceptors.logging.DefaultLogConsumer;
+import com.truelayer.java.http.interceptors.logging.HttpLogConsumer;
+import com.truelayer.java.http.metrics.HttpMetrics;
+import com.truelayer.java.http.metrics.HttpPhase;
+import com.truelayer.java.http.metrics.IHttpMetricsRecorder;
+import com.truelayer.java.http.tracing.CallTracer;
+import com.truelayer.java.http.tracing.TracingOptions;
+import com.truelayer.java.management.TrueLayerClientManagement;
 import com.truelayer.java.mandates.IMandatesApi;
 import com.truelayer.java.mandates.IMandatesHandler;
 import com.truelayer.java.mandates.MandatesHandler;
@@ -19,6 +35,7 @@ import com.truelayer.java.merchantaccounts.IMerchantAccountsApi;
 import com.truelayer.java.merchantaccounts.IMerchantAccountsHandler;
 import com.truelayer.java.merchantaccounts.MerchantAccountsHandler;
 import com.truelayer.java.payments.IPaymentsApi;
+import com.truelayer.java.payments.IReactivePaymentsApi;
 import com.truelayer.java.paymentsproviders.IPaymentsProvidersHandler;
 import com.truelayer.java.paymentsproviders.PaymentsProvidersHandler;
 import com.truelayer.java.versioninfo.VersionInfoLoader;
@@ -26,6 +43,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
+import okhttp3.Dns;
 import okhttp3.OkHttpClient;
 
 /**
@@ -48,18 +66,78 @@ public class TrueLayerClientBuilder {
      */
     private ConnectionPoolOptions connectionPoolOptions;
 
+    /**
+     * Optional collector of per-connection statistics of the internal HTTP client.
+     */
+    private ConnectionStats connectionStats;
+
+    /**
+     * Optional recorder of the latency of the phases of HTTP calls.
+     */
+    private IHttpMetricsRecorder metricsRecorder;
+
+    /**
+     * Optional DNS resolver to be used by the internal HTTP client.
+     */
+    private Dns dns;
+
+    /**
+     * Optional TLS configuration for the internal HTTP client.
+     */
+    private TlsOptions tlsOptions;
+
+    /**
+     * Optional configuration of the HTTP response cache.
+     */
+    private HttpCacheOptions httpCacheOptions;
+
+    /**
+     * Optional JSON serialization configuration.
+     */
+    private SerializationOptions serializationOptions;
+
     /**
      * Optional execution service to be used by the internal HTTP client.
      */
     private ExecutorService requestExecutor;
 
+    /**
+     * Optional HTTP client shared with the rest of the application.
+     */
+    private OkHttpClient httpClient;
+
     // By default, production is used
     private Environment environment = Environment.live();
 
-    private Consumer<String> logMessageConsumer;
+    private HttpLogConsumer logConsumer;
 
     private ICredentialsCache credentialsCache;
 
+    /**
+     * Optional coalescer of identical in-flight GET requests.
+     */
+    private RequestCoalescer requestCoalescer;
+
+    /**
+     * Optional cache of payment and mandate details.
+     */
+    private ResponseCache responseCache;
+
+    /**
+     * Optional deduplicator of payments created with the same idempotency key.
+     */
+    private RequestDeduplicator requestDeduplicator;
+
+    /**
+     * Optional name of the JMX bean exposing the internals of the client.
+     */
+    private String jmxName;
+
+    /**
+     * Optional tracing of the calls.
+     */
+    private TracingOptions tracingOptions;
+
     TrueLayerClientBuilder() {}
 
     /**
@@ -106,6 +184,77 @@ public class TrueLayerClientBuilder {
         return this;
     }
 
+    /**
+     * Enables the collection of per-connection statistics for the internal HTTP client
+     * @param connectionStats the collector to feed. Its snapshots can be inspected at any time
+     * @return the instance of the client builder used.
+     * @see ConnectionStats
+     */
+    public TrueLayerClientBuilder withConnectionStats(ConnectionStats connectionStats) {
+        this.connectionStats = connectionStats;
+        return this;
+    }
+
+    /**
+     * Utility to record the latency of each phase of the HTTP calls, such as queueing, token fetching, signing,
+     * DNS resolution, connection set up and server time, per endpoint.
+     * @param metricsRecorder the recorder to feed, like an {@link HttpMetrics} instance whose snapshots can be
+     *                        inspected at any time
+     * @return the instance of the client builder used
+     * @see HttpPhase
+     */
+    public TrueLayerClientBuilder withHttpMetrics(IHttpMetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+        return this;
+    }
+
+    /**
+     * Sets a custom DNS resolver for the internal HTTP client. A caching implementation that refreshes
+     * entries in background and serves stale addresses if the resolution fails is available.
+     * @param dns the DNS resolver to use
+     * @return the instance of the client builder used.
+     * @see CachingDns
+     */
+    public TrueLayerClientBuilder withDns(Dns dns) {
+        this.dns = dns;
+        return this;
+    }
+
+    /**
+     * Sets the TLS options for the internal HTTP client, such as the session cache used for resumption,
+     * the security provider and the enabled TLS versions and cipher suites.
+     * @param tlsOptions the TLS options to use
+     * @return the instance of the client builder used.
+     * @see TlsOptions
+     */
+    public TrueLayerClientBuilder withTlsOptions(TlsOptions tlsOptions) {
+        this.tlsOptions = tlsOptions;
+        return this;
+    }
+
+    /**
+     * Enables an HTTP response cache for the GET endpoints, which revalidates stored responses with
+     * the server using their <code>ETag</code> or <code>Last-Modified</code> validators.
+     * @param httpCacheOptions the HTTP cache options to use
+     * @return the instance of the client builder used.
+     * @see HttpCacheOptions
+     */
+    public TrueLayerClientBuilder withHttpCache(HttpCacheOptions httpCacheOptions) {
+        this.httpCacheOptions = httpCacheOptions;
+        return this;
+    }
+
+    /**
+     * Sets the JSON serialization options, such as a custom tuned object mapper.
+     * @param serializationOptions the serialization options to use
+     * @return the instance of the client builder used.
+     * @see SerializationOptions
+     */
+    public TrueLayerClientBuilder withSerializationOptions(SerializationOptions serializationOptions) {
+        this.serializationOptions = serializationOptions;
+        return this;
+    }
+
     /**
      * Sets a custom HTTP request dispatcher for the internal HTTP client
      * @param requestExecutor an executor service responsible for handling the HTTP requests
@@ -116,6 +265,28 @@ public class TrueLayerClientBuilder {
         return this;
     }
 
+    /**
+     * Sets an existing HTTP client as the transport of the library. The internal clients are derived from it,
+     * thus sharing its connection pool, dispatcher and HTTP/2 connections with the rest of the application.
+     * Signing, authentication, idempotency and logging capabilities are added on top of the given client,
+     * which is left untouched.
+     * <p>
+     * Options that would change the shared resources are applied to dedicated ones instead: connection pool
+     * options replace the connection pool, while a request executor or a maximum number of requests per host
+     * replace the dispatcher. To keep sharing them, configure the given client and leave those options unset.
+     * <p>
+     * OkHttp only reuses a pooled connection for calls to the same {@link okhttp3.Address}, which includes the
+     * DNS resolver and the TLS socket factory. Setting {@link #withDns(Dns)} or {@link #withTlsOptions(TlsOptions)}
+     * therefore gives the library connections of its own: the pool object is still shared, but none of its
+     * connections are shared with the application client.
+     * @param httpClient the HTTP client to share
+     * @return the instance of the client builder used.
+     */
+    public TrueLayerClientBuilder withHttpClient(OkHttpClient httpClient) {
+        this.httpClient = httpClient;
+        return this;
+    }
+
     /**
      * Utility to configure the library to interact a specific <i>TrueLayer</i> environment.
      * By default, <i>TrueLayer</i> production environment is used.
@@ -133,19 +304,34 @@ public class TrueLayerClientBuilder {
      * @return the instance of the client builder used
      */
     public TrueLayerClientBuilder withHttpLogs() {
-        this.logMessageConsumer = new DefaultLogConsumer();
+        DefaultLogConsumer defaultLogConsumer = new DefaultLogConsumer();
+        this.logConsumer = HttpLogConsumer.of(defaultLogConsumer, defaultLogConsumer::isEnabled);
         return this;
     }
 
     /**
      * Utility to enable custom logging for HTTP traces. Please notice that blocking
      * in the context of this consumer invocation will affect performance. An asynchronous implementation is
-     * strongly advised.
+     * strongly advised, such as {@link AsyncHttpLogConsumer}.
      * @param logConsumer a custom log consumer
      * @return the instance of the client builder used
      */
     public TrueLayerClientBuilder withHttpLogs(Consumer<String> logConsumer) {
-        this.logMessageConsumer = logConsumer;
+        this.logConsumer = isNotEmpty(logConsumer) ? HttpLogConsumer.of(logConsumer) : null;
+        return this;
+    }
+
+    /**
+     * Utility to enable structured logging for HTTP traces. Traces are built only if the consumer is enabled,
+     * and the events handed to it are reused, hence they must not be retained past the consumer invocation.
+     * Please notice that blocking in the context of this consumer invocation will affect performance:
+     * {@link AsyncHttpLogConsumer} hands traces over to a background thread, with optional sampling.
+     * @param logConsumer a custom structured log consumer
+     * @return the instance of the client builder used
+     * @see HttpLogConsumer
+     */
+    public TrueLayerClientBuilder withStructuredHttpLogs(HttpLogConsumer logConsumer) {
+        this.logConsumer = logConsumer;
         return this;
     }
 
@@ -167,6 +353,91 @@ public class TrueLayerClientBuilder {
         return this;
     }
 
+    /**
+     * Utility to enable the coalescing of identical in-flight requests to the payments and mandates GET endpoints.
+     * Concurrent callers polling the same resource share a single network call and result.
+     * @return the instance of the client builder used
+     */
+    public TrueLayerClientBuilder withRequestCoalescing() {
+        this.requestCoalescer = new RequestCoalescer();
+        return this;
+    }
+
+    /**
+     * Utility to enable the coalescing of identical in-flight requests to the payments and mandates GET endpoints
+     * with a given coalescer, whose statistics can be inspected at any time.
+     * @param requestCoalescer the coalescer to use
+     * @return the instance of the client builder used
+     * @see RequestCoalescer
+     */
+    public TrueLayerClientBuilder withRequestCoalescing(RequestCoalescer requestCoalescer) {
+        this.requestCoalescer = requestCoalescer;
+        return this;
+    }
+
+    /**
+     * Utility to enable a status aware cache of payment and mandate details. Resources in a terminal status
+     * are kept until evicted, while the others expire after a short time. The given cache instance exposes
+     * the APIs to invalidate its entries, for instance upon receiving webhook notifications. A cache can be shared
+     * by several clients: its entries are partitioned by client id.
+     * @param responseCache the cache to use
+     * @return the instance of the client builder used
+     * @see ResponseCache
+     */
+    public TrueLayerClientBuilder withResponseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+        return this;
+    }
+
+    /**
+     * Utility to enable the deduplication of payments created more than once with the same idempotency key
+     * within a short time window, for instance because of client side retries.
+     * @return the instance of the client builder used
+     */
+    public TrueLayerClientBuilder withRequestDeduplication() {
+        this.requestDeduplicator = RequestDeduplicator.builder().build();
+        return this;
+    }
+
+    /**
+     * Utility to enable the deduplication of payments created more than once with the same idempotency key
+     * with a given deduplicator, whose retention window and statistics can be configured and inspected.
+     * @param requestDeduplicator the deduplicator to use
+     * @return the instance of the client builder used
+     * @see RequestDeduplicator
+     */
+    public TrueLayerClientBuilder withRequestDeduplication(RequestDeduplicator requestDeduplicator) {
+        this.requestDeduplicator = requestDeduplicator;
+        return this;
+    }
+
+    /**
+     * Utility to register a JMX bean exposing the live state of the client internals, such as the connection pool,
+     * the dispatcher queue and the cached access token, along with a few safe operations. Attributes are read
+     * on demand only, hence this adds no work to the HTTP calls. The bean is registered once the client is built,
+     * and unregistered when the client is closed.
+     * @param name the name of the client, unique in the JVM
+     * @return the instance of the client builder used
+     * @see TrueLayerClientManagement
+     */
+    public TrueLayerClientBuilder withJmx(String name) {
+        this.jmxName = name;
+        return this;
+    }
+
+    /**
+     * Utility to trace the calls made by the client with the tracing system of the application. Spans are started
+     * when calls are submitted, and the call futures are completed in their context. Optionally, the W3C
+     * <code>traceparent</code> header is sent with each request.
+     * @param tracingOptions the tracing options, with the tracer to use
+     * @return the instance of the client builder used
+     * @see TracingOptions
+     */
+    public TrueLayerClientBuilder withTracing(TracingOptions tracingOptions) {
+        this.tracingOptions = tracingOptions;
+        return this;
+    }
+
     /**
      * Builds the Java library main class to interact with TrueLayer APIs.
      * @return a client instance
@@ -177,16 +448,38 @@ public class TrueLayerClientBuilder {
             throw new TrueLayerException("client credentials must be set");
         }
 
-        OkHttpClientFactory httpClientFactory = new OkHttpClientFactory(new VersionInfoLoader());
+        OkHttpClientFactory httpClientFactory = new OkHttpClientFactory(new VersionInfoLoader(), metricsRecorder);
+
+        OkHttpClient baseHttpClient = httpClientFactory.buildBaseApiClient(BaseApiClientOptions.builder()
+                .sharedHttpClient(httpClient)
+                .timeout(timeout)
+                .connectionPoolOptions(connectionPoolOptions)
+                .requestExecutor(requestExecutor)
+                .logConsumer(logConsumer)
+                .connectionStats(connectionStats)
+                .dns(dns)
+                .tlsOptions(tlsOptions)
+                .build());
+
+        if (isNotEmpty(httpCacheOptions)) {
+            baseHttpClient = httpClientFactory.buildCachingApiClient(
+                    baseHttpClient, httpCacheOptions, clientCredentials, environment);
+        }
 
-        OkHttpClient baseHttpClient = httpClientFactory.buildBaseApiClient(
-                timeout, connectionPoolOptions, requestExecutor, logMessageConsumer);
+        CallTracer callTracer = isNotEmpty(tracingOptions) ? new CallTracer(tracingOptions) : null;
+        if (isNotEmpty(callTracer) && callTracer.isEnabled()) {
+            baseHttpClient = httpClientFactory.buildTracingApiClient(baseHttpClient, callTracer);
+        }
 
         OkHttpClient authHttpClient = httpClientFactory.buildAuthApiClient(baseHttpClient, clientCredentials);
 
+        // a single converter factory lets all the APIs share the JSON readers and writers of common types
+        TypedJacksonConverterFactory converterFactory = TypedJacksonConverterFactory.create(serializationOptions);
+
         IAuthenticationHandler authenticationHandler = AuthenticationHandler.New()
                 .clientCredentials(clientCredentials)
-                .httpClient(RetrofitFactory.build(authHttpClient, environment.getAuthApiUri()))
+                .httpClient(RetrofitFactory.build(
+                        authHttpClient, environment.getAuthApiUri(), converterFactory, callTracer))
                 .build();
 
         IHostedPaymentPageLinkBuilder hppLinkBuilder =
@@ -194,42 +487,79 @@ public class TrueLayerClientBuilder {
 
         // We're reusing a client with only User agent and Idempotency key interceptors and give it our base payment
         // endpoint
-        ICommonApi commonApiHandler = RetrofitFactory.build(authHttpClient, environment.getPaymentsApiUri())
+        ICommonApi commonApiHandler = RetrofitFactory.build(
+                        authHttpClient, environment.getPaymentsApiUri(), converterFactory, callTracer)
                 .create(ICommonApi.class);
 
         // As per our RFC, if signing options is not configured we create a client which is able to interact
         // with the Authentication API only
         if (isEmpty(signingOptions)) {
-            return new TrueLayerClient(authenticationHandler, hppLinkBuilder, commonApiHandler);
+            return registerManagement(
+                    new TrueLayerClient(authenticationHandler, hppLinkBuilder, commonApiHandler), baseHttpClient);
         }
 
         OkHttpClient paymentsHttpClient = httpClientFactory.buildPaymentsApiClient(
                 authHttpClient, authenticationHandler, signingOptions, credentialsCache);
 
-        IPaymentsApi paymentsHandler = RetrofitFactory.build(paymentsHttpClient, environment.getPaymentsApiUri())
+        IPaymentsApi paymentsHandler = RetrofitFactory.build(
+                        paymentsHttpClient, environment.getPaymentsApiUri(), converterFactory, callTracer)
                 .create(IPaymentsApi.class);
+        if (isNotEmpty(requestCoalescer)) {
+            paymentsHandler = requestCoalescer.coalesce(IPaymentsApi.class, paymentsHandler);
+        }
+        if (isNotEmpty(responseCache)) {
+            paymentsHandler = responseCache.cache(paymentsHandler, clientCredentials.getClientId());
+        }
+        if (isNotEmpty(requestDeduplicator)) {
+            paymentsHandler = requestDeduplicator.deduplicate(paymentsHandler);
+        }
+
+        IReactivePaymentsApi reactivePaymentsHandler = RetrofitFactory.build(
+                        paymentsHttpClient, environment.getPaymentsApiUri(), converterFactory, callTracer)
+                .create(IReactivePaymentsApi.class);
 
         IPaymentsProvidersHandler paymentsProvidersHandler = PaymentsProvidersHandler.New()
                 .clientCredentials(clientCredentials)
-                .httpClient(RetrofitFactory.build(baseHttpClient, environment.getPaymentsApiUri()))
+                .httpClient(RetrofitFactory.build(
+                        baseHttpClient, environment.getPaymentsApiUri(), converterFactory, callTracer))
                 .build();
 
         IMerchantAccountsApi merchantAccountsApi = RetrofitFactory.build(
-                        paymentsHttpClient, environment.getPaymentsApiUri())
+                        paymentsHttpClient, environment.getPaymentsApiUri(), converterFactory, callTracer)
                 .create(IMerchantAccountsApi.class);
-        IMerchantAccountsHandler merchantAccountsHandler = new MerchantAccountsHandler(merchantAccountsApi);
+        IMerchantAccountsHandler merchantAccountsHandler =
+                new MerchantAccountsHandler(merchantAccountsApi, converterFactory.getObjectMapper());
 
-        IMandatesApi mandatesApi = RetrofitFactory.build(paymentsHttpClient, environment.getPaymentsApiUri())
+        IMandatesApi mandatesApi = RetrofitFactory.build(
+                        paymentsHttpClient, environment.getPaymentsApiUri(), converterFactory, callTracer)
                 .create(IMandatesApi.class);
-        IMandatesHandler mandatesHandler = new MandatesHandler(mandatesApi);
-
-        return new TrueLayerClient(
-                authenticationHandler,
-                paymentsHandler,
-                paymentsProvidersHandler,
-                merchantAccountsHandler,
-                mandatesHandler,
-                hppLinkBuilder,
-                commonApiHandler);
+        if (isNotEmpty(requestCoalescer)) {
+            mandatesApi = requestCoalescer.coalesce(IMandatesApi.class, mandatesApi);
+        }
+        if (isNotEmpty(responseCache)) {
+            mandatesApi = responseCache.cache(mandatesApi, clientCredentials.getClientId());
+        }
+        IMandatesHandler mandatesHandler = new MandatesHandler(mandatesApi, converterFactory.getObjectMapper());
+
+        return registerManagement(
+                new TrueLayerClient(
+                        authenticationHandler,
+                        paymentsHandler,
+                        reactivePaymentsHandler,
+                        paymentsProvidersHandler,
+                        merchantAccountsHandler,
+                        mandatesHandler,
+                        hppLinkBuilder,
+                        commonApiHandler),
+                baseHttpClient);
+    }
+
+    private TrueLayerClient registerManagement(TrueLayerClient client, OkHttpClient baseHttpClient) {
+        if (isEmpty(jmxName)) {
+            return client;
+        }
+        // all the clients derived from the base one share its connection pool and dispatcher
+        return client.withManagementRegistration(
+                new TrueLayerClientManagement(baseHttpClient, credentialsCache).register(jmxName));
     }
 }
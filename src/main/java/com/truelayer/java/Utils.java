@@ -14,27 +14,35 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 public class Utils {
     private Utils() {}
 
-    private static ObjectMapper OBJECT_MAPPER_INSTANCE = null;
+    // built eagerly, as part of the class initialization, hence safely published to all threads
+    private static final ObjectMapper OBJECT_MAPPER_INSTANCE = newObjectMapper();
 
     public static ObjectMapper getObjectMapper() {
-        if (OBJECT_MAPPER_INSTANCE == null) {
-            ObjectMapper objectMapper = new ObjectMapper();
+        return OBJECT_MAPPER_INSTANCE;
+    }
 
-            // required for optionals deserialization
-            objectMapper.registerModule(new Jdk8Module());
-            // required for ZonedDatetime instances
-            objectMapper.registerModule(new JavaTimeModule());
-            // serialize all camel cases fields to snake
-            objectMapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
-            // do not include null fields in JSON
-            objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-            // do not fail in case of unknown properties returned JSON payloads
-            objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-            // do not fail in case of empty beans on requests
-            objectMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+    /**
+     * Builds a new object mapper configured as required by the library. To be used as a base
+     * for custom tuned object mappers.
+     * @return a new object mapper instance
+     * @see SerializationOptions
+     */
+    public static ObjectMapper newObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
 
-            OBJECT_MAPPER_INSTANCE = objectMapper;
-        }
-        return OBJECT_MAPPER_INSTANCE;
+        // required for optionals deserialization
+        objectMapper.registerModule(new Jdk8Module());
+        // required for ZonedDatetime instances
+        objectMapper.registerModule(new JavaTimeModule());
+        // serialize all camel cases fields to snake
+        objectMapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        // do not include null fields in JSON
+        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        // do not fail in case of unknown properties returned JSON payloads
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        // do not fail in case of empty beans on requests
+        objectMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+
+        return objectMapper;
     }
 }
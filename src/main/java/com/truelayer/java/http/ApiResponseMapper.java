@@ -0,0 +1,29 @@
+package com.truelayer.java.http;
+
+import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.http.mappers.ErrorMapper;
+import retrofit2.Response;
+
+/**
+ * Maps Retrofit responses to TrueLayer ApiResponse objects, for all the call adapters.
+ */
+final class ApiResponseMapper {
+
+    private ApiResponseMapper() {}
+
+    static <R> ApiResponse<R> toApiResponse(Response<R> response, ErrorMapper errorMapper) {
+        if (response.isSuccessful()) {
+            return ApiResponse.<R>builder()
+                    .data(response.body())
+                    .status(response.code())
+                    .headers(response.headers())
+                    .build();
+        }
+
+        return ApiResponse.<R>builder()
+                .error(errorMapper.toProblemDetails(response))
+                .status(response.code())
+                .headers(response.headers())
+                .build();
+    }
+}
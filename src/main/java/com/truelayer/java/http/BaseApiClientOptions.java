@@ -0,0 +1,46 @@
+package com.truelayer.java.http;
+
+import com.truelayer.java.ConnectionPoolOptions;
+import com.truelayer.java.TlsOptions;
+import com.truelayer.java.http.connections.ConnectionStats;
+import com.truelayer.java.http.interceptors.logging.HttpLogConsumer;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import lombok.Builder;
+import lombok.Getter;
+import okhttp3.Dns;
+import okhttp3.OkHttpClient;
+
+/**
+ * Class that models the options of the base HTTP client shared by all the APIs of a client. All of them are optional.
+ * @see OkHttpClientFactory#buildBaseApiClient(BaseApiClientOptions)
+ */
+@Builder
+@Getter
+public class BaseApiClientOptions {
+
+    /**
+     * The client the base client is derived from, to share its connection pool and dispatcher.
+     */
+    private OkHttpClient sharedHttpClient;
+
+    /**
+     * The timeout of the whole calls.
+     */
+    private Duration timeout;
+
+    private ConnectionPoolOptions connectionPoolOptions;
+
+    /**
+     * The executor running the asynchronous calls.
+     */
+    private ExecutorService requestExecutor;
+
+    private HttpLogConsumer logConsumer;
+
+    private ConnectionStats connectionStats;
+
+    private Dns dns;
+
+    private TlsOptions tlsOptions;
+}
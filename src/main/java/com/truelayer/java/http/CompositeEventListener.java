@@ -0,0 +1,188 @@
+package com.truelayer.java.http;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * HTTP client event listener that forwards the events of a call to several listeners, in order.
+ * OkHttp supports a single listener per call, hence listeners are composed rather than replaced.
+ */
+final class CompositeEventListener extends EventListener {
+    private final EventListener[] listeners;
+
+    private CompositeEventListener(EventListener[] listeners) {
+        this.listeners = listeners;
+    }
+
+    /**
+     * Composes several listener factories into one.
+     * @param factories the factories of the listeners to notify, in order
+     * @return a factory of composite listeners
+     */
+    static EventListener.Factory factory(List<EventListener.Factory> factories) {
+        if (factories.size() == 1) {
+            return factories.get(0);
+        }
+        List<EventListener.Factory> copy = Collections.unmodifiableList(new ArrayList<>(factories));
+        return call -> {
+            EventListener[] listeners = new EventListener[copy.size()];
+            for (int i = 0; i < listeners.length; i++) {
+                listeners[i] = copy.get(i).create(call);
+            }
+            return new CompositeEventListener(listeners);
+        };
+    }
+
+    @Override
+    public void callStart(Call call) {
+        for (EventListener listener : listeners) {
+            listener.callStart(call);
+        }
+    }
+
+    @Override
+    public void dnsStart(Call call, String domainName) {
+        for (EventListener listener : listeners) {
+            listener.dnsStart(call, domainName);
+        }
+    }
+
+    @Override
+    public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+        for (EventListener listener : listeners) {
+            listener.dnsEnd(call, domainName, inetAddressList);
+        }
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        for (EventListener listener : listeners) {
+            listener.connectStart(call, inetSocketAddress, proxy);
+        }
+    }
+
+    @Override
+    public void secureConnectStart(Call call) {
+        for (EventListener listener : listeners) {
+            listener.secureConnectStart(call);
+        }
+    }
+
+    @Override
+    public void secureConnectEnd(Call call, Handshake handshake) {
+        for (EventListener listener : listeners) {
+            listener.secureConnectEnd(call, handshake);
+        }
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        for (EventListener listener : listeners) {
+            listener.connectEnd(call, inetSocketAddress, proxy, protocol);
+        }
+    }
+
+    @Override
+    public void connectFailed(
+            Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol, IOException ioe) {
+        for (EventListener listener : listeners) {
+            listener.connectFailed(call, inetSocketAddress, proxy, protocol, ioe);
+        }
+    }
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        for (EventListener listener : listeners) {
+            listener.connectionAcquired(call, connection);
+        }
+    }
+
+    @Override
+    public void connectionReleased(Call call, Connection connection) {
+        for (EventListener listener : listeners) {
+            listener.connectionReleased(call, connection);
+        }
+    }
+
+    @Override
+    public void requestHeadersStart(Call call) {
+        for (EventListener listener : listeners) {
+            listener.requestHeadersStart(call);
+        }
+    }
+
+    @Override
+    public void requestHeadersEnd(Call call, Request request) {
+        for (EventListener listener : listeners) {
+            listener.requestHeadersEnd(call, request);
+        }
+    }
+
+    @Override
+    public void requestBodyStart(Call call) {
+        for (EventListener listener : listeners) {
+            listener.requestBodyStart(call);
+        }
+    }
+
+    @Override
+    public void requestBodyEnd(Call call, long byteCount) {
+        for (EventListener listener : listeners) {
+            listener.requestBodyEnd(call, byteCount);
+        }
+    }
+
+    @Override
+    public void responseHeadersStart(Call call) {
+        for (EventListener listener : listeners) {
+            listener.responseHeadersStart(call);
+        }
+    }
+
+    @Override
+    public void responseHeadersEnd(Call call, Response response) {
+        for (EventListener listener : listeners) {
+            listener.responseHeadersEnd(call, response);
+        }
+    }
+
+    @Override
+    public void responseBodyStart(Call call) {
+        for (EventListener listener : listeners) {
+            listener.responseBodyStart(call);
+        }
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        for (EventListener listener : listeners) {
+            listener.responseBodyEnd(call, byteCount);
+        }
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        for (EventListener listener : listeners) {
+            listener.callEnd(call);
+        }
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        for (EventListener listener : listeners) {
+            listener.callFailed(call, ioe);
+        }
+    }
+}
@@ -6,59 +6,161 @@ import static org.apache.commons.lang3.ObjectUtils.isNotEmpty;
 import com.truelayer.java.ClientCredentials;
 import com.truelayer.java.ConnectionPoolOptions;
 import com.truelayer.java.ConnectionPoolOptions.KeepAliveDuration;
+import com.truelayer.java.Environment;
+import com.truelayer.java.HttpCacheOptions;
 import com.truelayer.java.SigningOptions;
+import com.truelayer.java.TlsOptions;
 import com.truelayer.java.TrueLayerException;
 import com.truelayer.java.auth.IAuthenticationHandler;
 import com.truelayer.java.http.auth.AccessTokenInvalidator;
 import com.truelayer.java.http.auth.AccessTokenManager;
 import com.truelayer.java.http.auth.cache.ICredentialsCache;
+import com.truelayer.java.http.caching.CachePolicyInterceptor;
+import com.truelayer.java.http.caching.HttpCacheStatsInterceptor;
+import com.truelayer.java.http.connections.ConnectionStatsEventListener;
 import com.truelayer.java.http.interceptors.AuthenticationInterceptor;
 import com.truelayer.java.http.interceptors.IdempotencyKeyInterceptor;
 import com.truelayer.java.http.interceptors.SignatureInterceptor;
 import com.truelayer.java.http.interceptors.UserAgentInterceptor;
+import com.truelayer.java.http.interceptors.logging.HttpLogConsumer;
 import com.truelayer.java.http.interceptors.logging.HttpLoggingInterceptor;
 import com.truelayer.java.http.interceptors.logging.SensitiveHeaderGuard;
+import com.truelayer.java.http.metrics.HttpMetricsEventListenerFactory;
+import com.truelayer.java.http.metrics.IHttpMetricsRecorder;
+import com.truelayer.java.http.tracing.CallTracer;
 import com.truelayer.java.versioninfo.VersionInfoLoader;
+import java.io.File;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.Provider;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509TrustManager;
 import lombok.Value;
+import okhttp3.Cache;
 import okhttp3.ConnectionPool;
+import okhttp3.ConnectionSpec;
 import okhttp3.Dispatcher;
+import okhttp3.EventListener;
 import okhttp3.OkHttpClient;
+import okio.ByteString;
 
 @Value
 public class OkHttpClientFactory {
     VersionInfoLoader versionInfoLoader;
 
+    /**
+     * Optional recorder of the latency of the phases of HTTP calls.
+     */
+    IHttpMetricsRecorder metricsRecorder;
+
+    public OkHttpClientFactory(VersionInfoLoader versionInfoLoader) {
+        this(versionInfoLoader, null);
+    }
+
+    public OkHttpClientFactory(VersionInfoLoader versionInfoLoader, IHttpMetricsRecorder metricsRecorder) {
+        this.versionInfoLoader = versionInfoLoader;
+        this.metricsRecorder = metricsRecorder;
+    }
+
     public OkHttpClient buildBaseApiClient(
             Duration timeout,
             ConnectionPoolOptions connectionPoolOptions,
             ExecutorService requestExecutor,
             Consumer<String> logMessageConsumer) {
+        return buildBaseApiClient(BaseApiClientOptions.builder()
+                .timeout(timeout)
+                .connectionPoolOptions(connectionPoolOptions)
+                .requestExecutor(requestExecutor)
+                .logConsumer(isNotEmpty(logMessageConsumer) ? HttpLogConsumer.of(logMessageConsumer) : null)
+                .build());
+    }
+
+    public OkHttpClient buildBaseApiClient(BaseApiClientOptions options) {
+        OkHttpClient sharedHttpClient = options.getSharedHttpClient();
+        ConnectionPoolOptions connectionPoolOptions = options.getConnectionPoolOptions();
 
-        OkHttpClient.Builder clientBuilder = new OkHttpClient.Builder();
+        // By deriving from a shared client we reuse its connection pool, dispatcher and
+        // HTTP/2 connections, while our interceptors are added to our own copy only
+        OkHttpClient.Builder clientBuilder =
+                isNotEmpty(sharedHttpClient) ? sharedHttpClient.newBuilder() : new OkHttpClient.Builder();
 
-        if (isNotEmpty(timeout)) {
-            clientBuilder.callTimeout(timeout);
+        if (isNotEmpty(options.getTimeout())) {
+            clientBuilder.callTimeout(options.getTimeout());
         }
 
+        Dispatcher dispatcher =
+                isNotEmpty(options.getRequestExecutor()) ? new Dispatcher(options.getRequestExecutor()) : null;
+
         if (isNotEmpty(connectionPoolOptions)) {
             KeepAliveDuration keepAliveDuration = connectionPoolOptions.getKeepAliveDuration();
             clientBuilder.connectionPool(new ConnectionPool(
                     connectionPoolOptions.getMaxIdleConnections(),
                     keepAliveDuration.getDuration(),
                     keepAliveDuration.getTimeUnit()));
+
+            if (isNotEmpty(connectionPoolOptions.getProtocols())) {
+                clientBuilder.protocols(connectionPoolOptions.getProtocols());
+            }
+
+            if (isNotEmpty(connectionPoolOptions.getPingInterval())) {
+                clientBuilder.pingInterval(connectionPoolOptions.getPingInterval());
+            }
+
+            if (isNotEmpty(connectionPoolOptions.getMaxRequestsPerHost())) {
+                // never change the limits of a dispatcher we don't own
+                dispatcher = isNotEmpty(dispatcher) ? dispatcher : new Dispatcher();
+                dispatcher.setMaxRequestsPerHost(connectionPoolOptions.getMaxRequestsPerHost());
+            }
+        }
+
+        if (isNotEmpty(dispatcher)) {
+            clientBuilder.dispatcher(dispatcher);
         }
 
-        if (isNotEmpty(requestExecutor)) {
-            clientBuilder.dispatcher(new Dispatcher(requestExecutor));
+        if (isNotEmpty(options.getDns())) {
+            clientBuilder.dns(options.getDns());
+        }
+
+        if (isNotEmpty(options.getTlsOptions())) {
+            configureTls(clientBuilder, options.getTlsOptions());
+        }
+
+        List<EventListener.Factory> eventListenerFactories = new ArrayList<>();
+        if (isNotEmpty(options.getConnectionStats())) {
+            ConnectionStatsEventListener connectionStatsListener =
+                    new ConnectionStatsEventListener(options.getConnectionStats());
+            eventListenerFactories.add(call -> connectionStatsListener);
+        }
+
+        if (isNotEmpty(metricsRecorder)) {
+            HttpMetricsEventListenerFactory metricsListenerFactory =
+                    new HttpMetricsEventListenerFactory(metricsRecorder);
+            eventListenerFactories.add(metricsListenerFactory);
+            // queueing ends as soon as the first interceptor runs
+            clientBuilder.interceptors().add(0, metricsListenerFactory.queueTimeInterceptor());
+        }
+
+        if (!eventListenerFactories.isEmpty()) {
+            // the listeners of a shared client keep being notified
+            if (isNotEmpty(sharedHttpClient)) {
+                eventListenerFactories.add(0, sharedHttpClient.eventListenerFactory());
+            }
+            clientBuilder.eventListenerFactory(CompositeEventListener.factory(eventListenerFactories));
         }
 
         // Setup logging if required
-        if (isNotEmpty(logMessageConsumer)) {
+        if (isNotEmpty(options.getLogConsumer())) {
             clientBuilder.addNetworkInterceptor(
-                    new HttpLoggingInterceptor(logMessageConsumer, new SensitiveHeaderGuard()));
+                    new HttpLoggingInterceptor(options.getLogConsumer(), new SensitiveHeaderGuard()));
         }
 
         clientBuilder.addInterceptor(new UserAgentInterceptor(versionInfoLoader.load()));
@@ -66,6 +168,104 @@ public class OkHttpClientFactory {
         return clientBuilder.build();
     }
 
+    private void configureTls(OkHttpClient.Builder clientBuilder, TlsOptions tlsOptions) {
+        X509TrustManager trustManager = getDefaultTrustManager();
+        SSLContext sslContext;
+        try {
+            Provider securityProvider = getSecurityProvider(tlsOptions);
+            sslContext = isNotEmpty(securityProvider)
+                    ? SSLContext.getInstance("TLS", securityProvider)
+                    : SSLContext.getInstance("TLS");
+            sslContext.init(null, new TrustManager[] {trustManager}, null);
+        } catch (GeneralSecurityException e) {
+            throw new TrueLayerException("Unable to build the TLS context", e);
+        }
+
+        SSLSessionContext sessionContext = sslContext.getClientSessionContext();
+        sessionContext.setSessionCacheSize(tlsOptions.getSessionCacheSize());
+        sessionContext.setSessionTimeout((int) tlsOptions.getSessionTimeout().getSeconds());
+        clientBuilder.sslSocketFactory(sslContext.getSocketFactory(), trustManager);
+
+        if (isNotEmpty(tlsOptions.getTlsVersions()) || isNotEmpty(tlsOptions.getCipherSuites())) {
+            ConnectionSpec.Builder connectionSpec = new ConnectionSpec.Builder(ConnectionSpec.MODERN_TLS);
+            if (isNotEmpty(tlsOptions.getTlsVersions())) {
+                connectionSpec.tlsVersions(tlsOptions.getTlsVersions().toArray(new String[0]));
+            }
+            if (isNotEmpty(tlsOptions.getCipherSuites())) {
+                connectionSpec.cipherSuites(tlsOptions.getCipherSuites().toArray(new String[0]));
+            }
+            // cleartext connections are still allowed for non TLS endpoints
+            clientBuilder.connectionSpecs(Arrays.asList(connectionSpec.build(), ConnectionSpec.CLEARTEXT));
+        }
+    }
+
+    private Provider getSecurityProvider(TlsOptions tlsOptions) {
+        if (isNotEmpty(tlsOptions.getSecurityProvider()) || !tlsOptions.isPreferConscrypt()) {
+            return tlsOptions.getSecurityProvider();
+        }
+        try {
+            Class<?> conscrypt = Class.forName("org.conscrypt.Conscrypt");
+            return (Provider) conscrypt.getMethod("newProvider").invoke(null);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Conscrypt is not available, we fall back to the default provider
+            return null;
+        }
+    }
+
+    private X509TrustManager getDefaultTrustManager() {
+        try {
+            TrustManagerFactory trustManagerFactory =
+                    TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+            trustManagerFactory.init((KeyStore) null);
+            return Arrays.stream(trustManagerFactory.getTrustManagers())
+                    .filter(X509TrustManager.class::isInstance)
+                    .map(X509TrustManager.class::cast)
+                    .findFirst()
+                    .orElseThrow(() -> new TrueLayerException("No X509 trust manager available"));
+        } catch (GeneralSecurityException e) {
+            throw new TrueLayerException("Unable to load the default trust manager", e);
+        }
+    }
+
+    public OkHttpClient buildCachingApiClient(
+            OkHttpClient baseHttpClient,
+            HttpCacheOptions cacheOptions,
+            ClientCredentials clientCredentials,
+            Environment environment) {
+        if (isEmpty(cacheOptions.getDirectory())) {
+            throw new TrueLayerException("cache directory must be set");
+        }
+
+        // Cache keys do not include the Authorization header, hence every client id gets its own partition,
+        // in each environment as the same client id can be used against different ones
+        String partitionName = String.format(
+                "%s|%s|%s",
+                environment.getAuthApiUri(), environment.getPaymentsApiUri(), clientCredentials.clientId());
+        File partition = new File(
+                cacheOptions.getDirectory(),
+                ByteString.encodeUtf8(partitionName).sha256().hex());
+
+        OkHttpClient.Builder clientBuilder = baseHttpClient.newBuilder();
+        clientBuilder.cache(new Cache(partition, cacheOptions.getMaxSize()));
+
+        if (isNotEmpty(cacheOptions.getEndpointPolicies())) {
+            clientBuilder.addNetworkInterceptor(new CachePolicyInterceptor(cacheOptions.getEndpointPolicies()));
+        }
+
+        if (isNotEmpty(cacheOptions.getStats())) {
+            clientBuilder.addInterceptor(new HttpCacheStatsInterceptor(cacheOptions.getStats()));
+        }
+
+        return clientBuilder.build();
+    }
+
+    public OkHttpClient buildTracingApiClient(OkHttpClient baseHttpClient, CallTracer callTracer) {
+        OkHttpClient.Builder clientBuilder = baseHttpClient.newBuilder();
+        // runs before any interceptor rebuilds the request, including the ones of a shared client
+        clientBuilder.interceptors().add(0, callTracer.traceContextInterceptor());
+        return clientBuilder.build();
+    }
+
     public OkHttpClient buildAuthApiClient(OkHttpClient baseHttpClient, ClientCredentials clientCredentials) {
 
         if (isEmpty(clientCredentials)) {
@@ -89,7 +289,7 @@ public class OkHttpClientFactory {
         // as all the others are inherited
         OkHttpClient.Builder paymentsHttpClientBuilder = authApiHttpClient.newBuilder();
 
-        paymentsHttpClientBuilder.addInterceptor(new SignatureInterceptor(signingOptions));
+        paymentsHttpClientBuilder.addInterceptor(new SignatureInterceptor(signingOptions, metricsRecorder));
 
         AccessTokenManager.AccessTokenManagerBuilder accessTokenManagerBuilder =
                 AccessTokenManager.builder().authenticationHandler(authenticationHandler);
@@ -100,11 +300,12 @@ public class OkHttpClientFactory {
                     accessTokenManagerBuilder.credentialsCache(credentialsCache).build();
 
             paymentsHttpClientBuilder
-                    .addInterceptor(new AuthenticationInterceptor(accessTokenManager))
+                    .addInterceptor(new AuthenticationInterceptor(accessTokenManager, metricsRecorder))
                     .authenticator(new AccessTokenInvalidator(accessTokenManager));
         } else {
             AccessTokenManager accessTokenManager = accessTokenManagerBuilder.build();
-            paymentsHttpClientBuilder.addInterceptor(new AuthenticationInterceptor(accessTokenManager));
+            paymentsHttpClientBuilder.addInterceptor(
+                    new AuthenticationInterceptor(accessTokenManager, metricsRecorder));
         }
 
         return paymentsHttpClientBuilder.build();
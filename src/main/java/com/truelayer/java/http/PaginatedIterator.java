@@ -0,0 +1,197 @@
+package com.truelayer.java.http;
+
+import static org.apache.commons.lang3.ObjectUtils.isEmpty;
+import static org.apache.commons.lang3.ObjectUtils.isNotEmpty;
+
+import com.truelayer.java.TrueLayerException;
+import com.truelayer.java.http.entities.ApiResponse;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Blocking iterator over the items of a cursor based paginated endpoint.
+ * Pages are fetched sequentially, following the pagination cursor, and at most the configured lookahead of pages
+ * is fetched ahead of the one being consumed, so that memory usage does not depend on the total number of items.
+ * Closing the iterator cancels the in-flight page request, if any, and stops further fetches.
+ *
+ * @param <P> the type of the page returned by the endpoint
+ * @param <T> the type of the items emitted
+ */
+public final class PaginatedIterator<P, T> implements Iterator<T>, AutoCloseable {
+    private final Function<String, CompletableFuture<ApiResponse<P>>> pageFetcher;
+    private final Function<P, List<T>> itemsExtractor;
+    private final Function<P, String> nextCursorExtractor;
+    private final int lookahead;
+
+    /**
+     * internal state, guarded by this
+     */
+    private final Deque<CompletableFuture<ApiResponse<P>>> pages = new ArrayDeque<>();
+
+    private String nextCursor;
+    private boolean fetching;
+    // completes once the cursor of the last fetched page has been recorded
+    private CompletableFuture<?> inFlightFetch = CompletableFuture.completedFuture(null);
+    private boolean lastPageRequested;
+    // raised once the items of the page whose cursor could not be read have been consumed
+    private RuntimeException cursorFailure;
+    private boolean closed;
+
+    // accessed by the consuming thread only
+    private Iterator<T> currentPage = Collections.emptyIterator();
+
+    /**
+     * Constructor for this class.
+     * @param pageFetcher function that fetches the page identified by the given cursor. The first page is requested
+     *                    with the initial cursor
+     * @param itemsExtractor function that returns the items of a page
+     * @param nextCursorExtractor function that returns the cursor of the next page, or null on the last page
+     * @param firstCursor optional cursor of the first page to fetch
+     * @param lookahead the maximum number of pages fetched ahead of the one being consumed. With zero, pages are
+     *                  fetched only once the previous one has been consumed
+     */
+    public PaginatedIterator(
+            Function<String, CompletableFuture<ApiResponse<P>>> pageFetcher,
+            Function<P, List<T>> itemsExtractor,
+            Function<P, String> nextCursorExtractor,
+            String firstCursor,
+            int lookahead) {
+        if (lookahead < 0) {
+            throw new TrueLayerException("lookahead must not be negative");
+        }
+        this.pageFetcher = pageFetcher;
+        this.itemsExtractor = itemsExtractor;
+        this.nextCursorExtractor = nextCursorExtractor;
+        this.nextCursor = firstCursor;
+        this.lookahead = lookahead;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!currentPage.hasNext()) {
+            CompletableFuture<ApiResponse<P>> page;
+            CompletableFuture<?> pendingFetch;
+            synchronized (this) {
+                fetchAhead(true);
+                page = pages.pollFirst();
+                if (page == null && (closed || !fetching)) {
+                    if (!closed && cursorFailure != null) {
+                        throw new TrueLayerException("Unable to read the cursor of the next page", cursorFailure);
+                    }
+                    return false;
+                }
+                pendingFetch = inFlightFetch;
+                if (page != null) {
+                    // a slot has been released, hence the following page can be prefetched
+                    fetchAhead(false);
+                }
+            }
+            if (page == null) {
+                // the page just consumed is complete, but its cursor might not have been recorded yet
+                awaitQuietly(pendingFetch);
+                continue;
+            }
+            currentPage = toItems(page);
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentPage.next();
+    }
+
+    /**
+     * Returns a spliterator over the remaining items.
+     * @return an ordered spliterator of unknown size
+     */
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            // propagates the cancellation down to the HTTP calls
+            pages.forEach(page -> page.cancel(true));
+            pages.clear();
+        }
+        currentPage = Collections.emptyIterator();
+    }
+
+    private void fetchAhead(boolean pageNeeded) {
+        boolean slotAvailable = pages.size() < lookahead || (pageNeeded && pages.isEmpty());
+        if (closed || fetching || lastPageRequested || !slotAvailable) {
+            return;
+        }
+
+        fetching = true;
+        CompletableFuture<ApiResponse<P>> page;
+        try {
+            page = pageFetcher.apply(nextCursor);
+        } catch (RuntimeException e) {
+            page = new CompletableFuture<>();
+            page.completeExceptionally(e);
+        }
+        pages.addLast(page);
+        inFlightFetch = page.whenComplete((response, throwable) -> {
+            synchronized (this) {
+                fetching = false;
+                if (throwable != null || response.isError() || response.getData() == null) {
+                    // errors are raised to the consumer once it reaches the failed page
+                    lastPageRequested = true;
+                } else {
+                    try {
+                        nextCursor = nextCursorExtractor.apply(response.getData());
+                        lastPageRequested = isEmpty(nextCursor);
+                    } catch (RuntimeException e) {
+                        cursorFailure = e;
+                        lastPageRequested = true;
+                    }
+                }
+                fetchAhead(false);
+            }
+        });
+    }
+
+    private static void awaitQuietly(CompletableFuture<?> future) {
+        try {
+            future.join();
+        } catch (CancellationException | CompletionException e) {
+            // failures are raised by the page itself
+        }
+    }
+
+    private Iterator<T> toItems(CompletableFuture<ApiResponse<P>> page) {
+        ApiResponse<P> response;
+        try {
+            response = page.join();
+        } catch (CancellationException e) {
+            return Collections.emptyIterator();
+        } catch (CompletionException e) {
+            throw new TrueLayerException("Unable to fetch page", e.getCause());
+        }
+        if (response.isError()) {
+            throw new TrueLayerException(String.format("Unable to fetch page: %s", response.getError()));
+        }
+        if (response.getData() == null) {
+            return Collections.emptyIterator();
+        }
+        List<T> items = itemsExtractor.apply(response.getData());
+        return isNotEmpty(items) ? items.iterator() : Collections.emptyIterator();
+    }
+}
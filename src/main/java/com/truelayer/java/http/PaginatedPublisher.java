@@ -0,0 +1,239 @@
+package com.truelayer.java.http;
+
+import static org.apache.commons.lang3.ObjectUtils.isEmpty;
+import static org.apache.commons.lang3.ObjectUtils.isNotEmpty;
+
+import com.truelayer.java.TrueLayerException;
+import com.truelayer.java.http.entities.ApiResponse;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Cold Reactive Streams publisher that emits the items of a cursor based paginated endpoint.
+ * Pages are fetched lazily, while the subscriber has outstanding demand, and at most the configured
+ * lookahead of pages is buffered ahead of the one being consumed: with a positive lookahead, the following
+ * pages are prefetched while the current one is being consumed. Cancelling the subscription cancels the in-flight
+ * page request, if any.
+ *
+ * @param <P> the type of the page returned by the endpoint
+ * @param <T> the type of the items emitted
+ */
+public final class PaginatedPublisher<P, T> implements Publisher<T> {
+    private final Function<String, CompletableFuture<ApiResponse<P>>> pageFetcher;
+    private final Function<P, List<T>> itemsExtractor;
+    private final Function<P, String> nextCursorExtractor;
+    private final String firstCursor;
+    private final int lookahead;
+
+    /**
+     * Constructor for this class. Pages are fetched one at a time, once the previous one has been consumed.
+     * @param pageFetcher function that fetches the page identified by the given cursor. The first page is requested
+     *                    with the initial cursor
+     * @param itemsExtractor function that returns the items of a page
+     * @param nextCursorExtractor function that returns the cursor of the next page, or null on the last page
+     * @param firstCursor optional cursor of the first page to fetch
+     */
+    public PaginatedPublisher(
+            Function<String, CompletableFuture<ApiResponse<P>>> pageFetcher,
+            Function<P, List<T>> itemsExtractor,
+            Function<P, String> nextCursorExtractor,
+            String firstCursor) {
+        this(pageFetcher, itemsExtractor, nextCursorExtractor, firstCursor, 0);
+    }
+
+    /**
+     * Constructor for this class.
+     * @param pageFetcher function that fetches the page identified by the given cursor. The first page is requested
+     *                    with the initial cursor
+     * @param itemsExtractor function that returns the items of a page
+     * @param nextCursorExtractor function that returns the cursor of the next page, or null on the last page
+     * @param firstCursor optional cursor of the first page to fetch
+     * @param lookahead the maximum number of pages fetched ahead of the one being consumed. With zero, pages are
+     *                  fetched only once the previous one has been consumed
+     */
+    public PaginatedPublisher(
+            Function<String, CompletableFuture<ApiResponse<P>>> pageFetcher,
+            Function<P, List<T>> itemsExtractor,
+            Function<P, String> nextCursorExtractor,
+            String firstCursor,
+            int lookahead) {
+        if (lookahead < 0) {
+            throw new TrueLayerException("lookahead must not be negative");
+        }
+        this.pageFetcher = pageFetcher;
+        this.itemsExtractor = itemsExtractor;
+        this.nextCursorExtractor = nextCursorExtractor;
+        this.firstCursor = firstCursor;
+        this.lookahead = lookahead;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber must not be null");
+        subscriber.onSubscribe(new PageSubscription(subscriber));
+    }
+
+    private final class PageSubscription implements Subscription {
+        private final Subscriber<? super T> subscriber;
+        private final Queue<Iterator<T>> pages = new ConcurrentLinkedQueue<>();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile String nextCursor = firstCursor;
+        private volatile boolean lastPageFetched;
+        private volatile boolean fetching;
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+        private volatile Throwable invalidRequest;
+        private volatile CompletableFuture<ApiResponse<P>> inFlightPage;
+
+        // accessed by the draining thread only
+        private Iterator<T> currentPage = Collections.emptyIterator();
+
+        PageSubscription(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("requested items must be positive, got " + n);
+            } else {
+                addDemand(n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            CompletableFuture<ApiResponse<P>> page = inFlightPage;
+            if (page != null) {
+                // propagates the cancellation down to the HTTP call
+                page.cancel(true);
+            }
+        }
+
+        private void addDemand(long n) {
+            long current;
+            long next;
+            do {
+                current = requested.get();
+                next = current + n < 0 ? Long.MAX_VALUE : current + n;
+            } while (!requested.compareAndSet(current, next));
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            do {
+                if (invalidRequest != null && !cancelled) {
+                    cancel();
+                    pages.clear();
+                    subscriber.onError(invalidRequest);
+                    return;
+                }
+
+                long demand = requested.get();
+                long emitted = 0;
+                while (emitted != demand && !cancelled) {
+                    if (!currentPage.hasNext()) {
+                        Iterator<T> nextPage = pages.poll();
+                        if (nextPage == null) {
+                            break;
+                        }
+                        currentPage = nextPage;
+                        continue;
+                    }
+                    subscriber.onNext(currentPage.next());
+                    emitted++;
+                }
+                if (emitted != 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+
+                if (cancelled) {
+                    pages.clear();
+                    return;
+                }
+
+                boolean drained = !currentPage.hasNext() && pages.isEmpty();
+                if (drained && !fetching) {
+                    if (error != null) {
+                        cancelled = true;
+                        subscriber.onError(error);
+                        return;
+                    }
+                    if (lastPageFetched) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                        return;
+                    }
+                }
+
+                // pages are fetched on demand once drained, and prefetched up to the lookahead while consumed
+                boolean fetchNeeded = drained ? requested.get() > 0 : pages.size() < lookahead;
+                if (!fetching && !lastPageFetched && error == null && fetchNeeded) {
+                    fetchNextPage();
+                }
+
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void fetchNextPage() {
+            fetching = true;
+            CompletableFuture<ApiResponse<P>> page;
+            try {
+                page = pageFetcher.apply(nextCursor);
+            } catch (Exception e) {
+                page = new CompletableFuture<>();
+                page.completeExceptionally(e);
+            }
+            inFlightPage = page;
+            page.whenComplete((response, throwable) -> {
+                if (throwable != null) {
+                    error = throwable;
+                } else if (response.isError()) {
+                    error = new TrueLayerException(String.format("Unable to fetch page: %s", response.getError()));
+                } else {
+                    try {
+                        onPage(response.getData());
+                    } catch (RuntimeException e) {
+                        error = new TrueLayerException("Unable to read page", e);
+                    }
+                }
+                inFlightPage = null;
+                fetching = false;
+                drain();
+            });
+        }
+
+        private void onPage(P page) {
+            if (page == null) {
+                lastPageFetched = true;
+                return;
+            }
+            List<T> items = itemsExtractor.apply(page);
+            if (isNotEmpty(items)) {
+                pages.add(items.iterator());
+            }
+            nextCursor = nextCursorExtractor.apply(page);
+            lastPageFetched = isEmpty(nextCursor);
+        }
+    }
+}
@@ -1,18 +1,80 @@
 package com.truelayer.java.http;
 
 import com.truelayer.java.Utils;
+import com.truelayer.java.http.mappers.ErrorMapper;
+import com.truelayer.java.http.tracing.CallTracer;
 import java.net.URI;
 import okhttp3.OkHttpClient;
+import retrofit2.Converter;
 import retrofit2.Retrofit;
-import retrofit2.converter.jackson.JacksonConverterFactory;
 
 public class RetrofitFactory {
+    private static final TypedJacksonConverterFactory DEFAULT_CONVERTER_FACTORY =
+            new TypedJacksonConverterFactory(Utils.getObjectMapper());
+
     public static Retrofit build(OkHttpClient httpClient, URI baseUrl) {
+        return build(httpClient, baseUrl, DEFAULT_CONVERTER_FACTORY);
+    }
+
+    /**
+     * Builds a Retrofit instance serializing payloads with the given converter factory. Services created from it
+     * are validated eagerly, so that the JSON readers and writers of all their endpoints are ready before the
+     * first request.
+     * @param httpClient the HTTP client to use
+     * @param baseUrl the base URL of the API
+     * @param converterFactory the converter factory to use, to be shared across the APIs of a client
+     * @return a Retrofit instance
+     * @see TypedJacksonConverterFactory
+     */
+    public static Retrofit build(OkHttpClient httpClient, URI baseUrl, Converter.Factory converterFactory) {
+        return build(httpClient, baseUrl, converterFactory, null);
+    }
+
+    /**
+     * Builds a Retrofit instance whose calls are traced with the given tracer.
+     * @param httpClient the HTTP client to use, with the trace context interceptor of the tracer
+     * @param baseUrl the base URL of the API
+     * @param converterFactory the converter factory to use, to be shared across the APIs of a client
+     * @param callTracer optional tracer of the calls
+     * @return a Retrofit instance
+     * @see CallTracer
+     */
+    public static Retrofit build(
+            OkHttpClient httpClient, URI baseUrl, Converter.Factory converterFactory, CallTracer callTracer) {
+        return build(httpClient, baseUrl, converterFactory, new ErrorMapper(), callTracer);
+    }
+
+    /**
+     * Builds a Retrofit instance whose error responses are mapped with the error mapper of the given
+     * converter factory, thus sharing its object mapper and error body size limit.
+     * @param httpClient the HTTP client to use
+     * @param baseUrl the base URL of the API
+     * @param converterFactory the converter factory to use, to be shared across the APIs of a client
+     * @param callTracer optional tracer of the calls
+     * @return a Retrofit instance
+     * @see TypedJacksonConverterFactory#getErrorMapper()
+     */
+    public static Retrofit build(
+            OkHttpClient httpClient,
+            URI baseUrl,
+            TypedJacksonConverterFactory converterFactory,
+            CallTracer callTracer) {
+        return build(httpClient, baseUrl, converterFactory, converterFactory.getErrorMapper(), callTracer);
+    }
+
+    private static Retrofit build(
+            OkHttpClient httpClient,
+            URI baseUrl,
+            Converter.Factory converterFactory,
+            ErrorMapper errorMapper,
+            CallTracer callTracer) {
         return new Retrofit.Builder()
                 .client(httpClient)
                 .baseUrl(baseUrl.toString())
-                .addConverterFactory(JacksonConverterFactory.create(Utils.getObjectMapper()))
-                .addCallAdapterFactory(new TrueLayerApiAdapterFactory())
+                .addConverterFactory(converterFactory)
+                .addCallAdapterFactory(new TrueLayerApiAdapterFactory(errorMapper, callTracer))
+                .addCallAdapterFactory(new TrueLayerPublisherAdapterFactory(errorMapper))
+                .validateEagerly(true)
                 .build();
     }
 }
@@ -0,0 +1,154 @@
+package com.truelayer.java.http;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.truelayer.java.TrueLayerException;
+import com.truelayer.java.Utils;
+import com.truelayer.java.http.entities.ApiResponse;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import okhttp3.ResponseBody;
+
+/**
+ * Iterator that deserializes the <code>items</code> array of a list response one element at a time,
+ * straight from the HTTP response body. Only the item being returned is held in memory, so memory usage
+ * does not depend on the size of the response. The response body is released once the last item
+ * has been read, or when the iterator is closed: callers that stop early must close it.
+ *
+ * @param <T> the type of the items
+ */
+public final class StreamingItemsIterator<T> implements Iterator<T>, Closeable {
+    private static final String ITEMS_FIELD = "items";
+
+    private final ResponseBody body;
+    private final ObjectMapper objectMapper;
+    private final Class<T> itemType;
+
+    private JsonParser parser;
+    private boolean started;
+    private boolean finished;
+    private T next;
+
+    /**
+     * Constructor for this class. No data is read until the first item is requested.
+     * @param body the streamed response body, containing a JSON object with an <code>items</code> array
+     * @param objectMapper the object mapper used to deserialize each item
+     * @param itemType the type of the items
+     */
+    public StreamingItemsIterator(ResponseBody body, ObjectMapper objectMapper, Class<T> itemType) {
+        this.body = body;
+        this.objectMapper = objectMapper;
+        this.itemType = itemType;
+    }
+
+    /**
+     * Maps a streamed list response to a response holding an iterator over its items, deserialized with the
+     * default library object mapper.
+     * @param response the streamed list response
+     * @param itemType the type of the items
+     * @return a response with the items iterator, or the original error
+     * @param <T> the type of the items
+     */
+    public static <T> ApiResponse<StreamingItemsIterator<T>> fromResponse(
+            ApiResponse<ResponseBody> response, Class<T> itemType) {
+        return fromResponse(response, Utils.getObjectMapper(), itemType);
+    }
+
+    /**
+     * Maps a streamed list response to a response holding an iterator over its items.
+     * @param response the streamed list response
+     * @param objectMapper the object mapper used to deserialize each item
+     * @param itemType the type of the items
+     * @return a response with the items iterator, or the original error
+     * @param <T> the type of the items
+     */
+    public static <T> ApiResponse<StreamingItemsIterator<T>> fromResponse(
+            ApiResponse<ResponseBody> response, ObjectMapper objectMapper, Class<T> itemType) {
+        if (response.isError()) {
+            return ApiResponse.<StreamingItemsIterator<T>>builder()
+                    .error(response.getError())
+                    .metadataOf(response)
+                    .build();
+        }
+        return ApiResponse.<StreamingItemsIterator<T>>builder()
+                .data(new StreamingItemsIterator<>(response.getData(), objectMapper, itemType))
+                .metadataOf(response)
+                .build();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        try {
+            if (!started) {
+                started = true;
+                parser = objectMapper.getFactory().createParser(body.byteStream());
+                if (!moveToItems()) {
+                    close();
+                    return false;
+                }
+            }
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                close();
+                return false;
+            }
+            next = objectMapper.readValue(parser, itemType);
+            return true;
+        } catch (IOException e) {
+            close();
+            throw new TrueLayerException("Unable to read list items", e);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T item = next;
+        next = null;
+        return item;
+    }
+
+    /**
+     * Releases the underlying response body. Pending items, if any, are discarded.
+     */
+    @Override
+    public void close() {
+        finished = true;
+        next = null;
+        try {
+            if (parser != null) {
+                parser.close();
+            }
+        } catch (IOException ignored) {
+            // the body is closed below anyway
+        } finally {
+            body.close();
+        }
+    }
+
+    private boolean moveToItems() throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            boolean isItems = ITEMS_FIELD.equals(parser.getCurrentName());
+            JsonToken value = parser.nextToken();
+            if (isItems && value == JsonToken.START_ARRAY) {
+                return true;
+            }
+            // other fields, like pagination, are skipped without being materialized
+            parser.skipChildren();
+        }
+        return false;
+    }
+}
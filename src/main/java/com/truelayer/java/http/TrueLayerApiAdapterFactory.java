@@ -1,6 +1,8 @@
 package com.truelayer.java.http;
 
 import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.http.mappers.ErrorMapper;
+import com.truelayer.java.http.tracing.CallTracer;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -15,6 +17,22 @@ import retrofit2.Retrofit;
  * @see ApiResponse
  */
 final class TrueLayerApiAdapterFactory extends CallAdapter.Factory {
+    private final ErrorMapper errorMapper;
+
+    /**
+     * Optional tracer of the calls.
+     */
+    private final CallTracer callTracer;
+
+    TrueLayerApiAdapterFactory() {
+        this(new ErrorMapper(), null);
+    }
+
+    TrueLayerApiAdapterFactory(ErrorMapper errorMapper, CallTracer callTracer) {
+        this.errorMapper = errorMapper;
+        this.callTracer = callTracer;
+    }
+
     @Override
     public CallAdapter<?, ?> get(Type returnType, Annotation[] annotations, Retrofit retrofit) {
         if (getRawType(returnType) != CompletableFuture.class) {
@@ -32,6 +50,6 @@ final class TrueLayerApiAdapterFactory extends CallAdapter.Factory {
                     "Response must be parameterized" + " as Response<Foo> or Response<? extends Foo>");
         }
         Type responseType = getParameterUpperBound(0, (ParameterizedType) innerType);
-        return new TrueLayerResponseCallAdapter<>(responseType);
+        return new TrueLayerResponseCallAdapter<>(responseType, errorMapper, callTracer);
     }
 }
@@ -0,0 +1,49 @@
+package com.truelayer.java.http;
+
+import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.http.mappers.ErrorMapper;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import org.reactivestreams.Publisher;
+import retrofit2.CallAdapter;
+import retrofit2.Retrofit;
+
+/**
+ * Call adapter factory that supports Reactive Streams <code>Publisher</code> return types,
+ * wrapping the result in a TrueLayer ApiResponse object.
+ *
+ * @see TrueLayerResponsePublisherAdapter
+ * @see ApiResponse
+ */
+final class TrueLayerPublisherAdapterFactory extends CallAdapter.Factory {
+    private final ErrorMapper errorMapper;
+
+    TrueLayerPublisherAdapterFactory() {
+        this(new ErrorMapper());
+    }
+
+    TrueLayerPublisherAdapterFactory(ErrorMapper errorMapper) {
+        this.errorMapper = errorMapper;
+    }
+
+    @Override
+    public CallAdapter<?, ?> get(Type returnType, Annotation[] annotations, Retrofit retrofit) {
+        if (getRawType(returnType) != Publisher.class) {
+            return null;
+        }
+        if (!(returnType instanceof ParameterizedType)) {
+            throw new IllegalStateException(
+                    "Publisher return type must be parameterized" + " as Publisher<Foo> or Publisher<? extends Foo>");
+        }
+        Type innerType = getParameterUpperBound(0, (ParameterizedType) returnType);
+
+        // Generic type is Response<T>. Extract T and create the Response version of the adapter.
+        if (!(innerType instanceof ParameterizedType)) {
+            throw new IllegalStateException(
+                    "Response must be parameterized" + " as Response<Foo> or Response<? extends Foo>");
+        }
+        Type responseType = getParameterUpperBound(0, (ParameterizedType) innerType);
+        return new TrueLayerResponsePublisherAdapter<>(responseType, errorMapper);
+    }
+}
@@ -2,8 +2,11 @@ package com.truelayer.java.http;
 
 import com.truelayer.java.http.entities.ApiResponse;
 import com.truelayer.java.http.mappers.ErrorMapper;
+import com.truelayer.java.http.tracing.CallTracer;
+import com.truelayer.java.http.tracing.CallTracer.ActiveSpan;
 import java.lang.reflect.Type;
 import java.util.concurrent.CompletableFuture;
+import okhttp3.Request;
 import retrofit2.*;
 
 /**
@@ -16,9 +19,23 @@ final class TrueLayerResponseCallAdapter<R> implements CallAdapter<R, Completabl
     private final Type responseType;
     private final ErrorMapper errorMapper;
 
+    /**
+     * Optional tracer of the calls.
+     */
+    private final CallTracer callTracer;
+
     TrueLayerResponseCallAdapter(Type responseType) {
+        this(responseType, null);
+    }
+
+    TrueLayerResponseCallAdapter(Type responseType, CallTracer callTracer) {
+        this(responseType, new ErrorMapper(), callTracer);
+    }
+
+    TrueLayerResponseCallAdapter(Type responseType, ErrorMapper errorMapper, CallTracer callTracer) {
         this.responseType = responseType;
-        this.errorMapper = new ErrorMapper();
+        this.errorMapper = errorMapper;
+        this.callTracer = callTracer != null && callTracer.isEnabled() ? callTracer : null;
     }
 
     @Override
@@ -29,25 +46,56 @@ final class TrueLayerResponseCallAdapter<R> implements CallAdapter<R, Completabl
     @Override
     public CompletableFuture<ApiResponse<R>> adapt(final Call<R> call) {
         CompletableFuture<ApiResponse<R>> future = new CallCancelCompletableFuture<>(call);
-        call.enqueue(new ResponseCallback(future));
+        call.enqueue(new ResponseCallback(future, startSpan(call)));
         return future;
     }
 
+    private ActiveSpan startSpan(Call<R> call) {
+        if (callTracer == null) {
+            return null;
+        }
+        Request request;
+        try {
+            request = call.request();
+        } catch (RuntimeException e) {
+            // the request could not be created, the failure is reported by the call itself
+            return null;
+        }
+        return callTracer.start(request);
+    }
+
     protected class ResponseCallback implements Callback<R> {
         private final CompletableFuture<ApiResponse<R>> future;
+        private final ActiveSpan span;
 
         public ResponseCallback(CompletableFuture<ApiResponse<R>> future) {
+            this(future, null);
+        }
+
+        ResponseCallback(CompletableFuture<ApiResponse<R>> future, ActiveSpan span) {
             this.future = future;
+            this.span = span;
         }
 
         @Override
         public void onResponse(Call<R> call, Response<R> response) {
-            future.complete(handleResponse(response));
+            ApiResponse<R> apiResponse = ApiResponseMapper.toApiResponse(response, errorMapper);
+            if (span == null) {
+                future.complete(apiResponse);
+                return;
+            }
+            span.end(response.raw());
+            span.runInContext(() -> future.complete(apiResponse));
         }
 
         @Override
         public void onFailure(Call<R> call, Throwable t) {
-            future.completeExceptionally(t);
+            if (span == null) {
+                future.completeExceptionally(t);
+                return;
+            }
+            span.end(t);
+            span.runInContext(() -> future.completeExceptionally(t));
         }
     }
 
@@ -66,14 +114,4 @@ final class TrueLayerResponseCallAdapter<R> implements CallAdapter<R, Completabl
             return super.cancel(mayInterruptIfRunning);
         }
     }
-
-    private ApiResponse<R> handleResponse(Response<R> response) {
-        if (response.isSuccessful()) {
-            return ApiResponse.<R>builder().data(response.body()).build();
-        }
-
-        return ApiResponse.<R>builder()
-                .error(errorMapper.toProblemDetails(response))
-                .build();
-    }
 }
@@ -0,0 +1,105 @@
+package com.truelayer.java.http;
+
+import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.http.mappers.ErrorMapper;
+import java.lang.reflect.Type;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import retrofit2.*;
+
+/**
+ * Adapts Retrofit calls to cold Reactive Streams publishers of TrueLayer ApiResponse objects.
+ * Each subscription clones the underlying call, which is enqueued only once the subscriber signals demand.
+ * Cancelling the subscription cancels the underlying HTTP call.
+ *
+ * @see ApiResponse
+ */
+final class TrueLayerResponsePublisherAdapter<R> implements CallAdapter<R, Publisher<ApiResponse<R>>> {
+    private final Type responseType;
+    private final ErrorMapper errorMapper;
+
+    TrueLayerResponsePublisherAdapter(Type responseType) {
+        this(responseType, new ErrorMapper());
+    }
+
+    TrueLayerResponsePublisherAdapter(Type responseType, ErrorMapper errorMapper) {
+        this.responseType = responseType;
+        this.errorMapper = errorMapper;
+    }
+
+    @Override
+    public Type responseType() {
+        return responseType;
+    }
+
+    @Override
+    public Publisher<ApiResponse<R>> adapt(final Call<R> call) {
+        return new CallPublisher(call);
+    }
+
+    private final class CallPublisher implements Publisher<ApiResponse<R>> {
+        private final Call<R> call;
+
+        CallPublisher(Call<R> call) {
+            this.call = call;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ApiResponse<R>> subscriber) {
+            Objects.requireNonNull(subscriber, "subscriber must not be null");
+            // Retrofit calls can be executed only once, hence every subscriber gets its own copy
+            subscriber.onSubscribe(new CallSubscription(call.clone(), subscriber));
+        }
+    }
+
+    private final class CallSubscription implements Subscription, Callback<R> {
+        private final Call<R> call;
+        private final Subscriber<? super ApiResponse<R>> subscriber;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private volatile boolean cancelled;
+
+        CallSubscription(Call<R> call, Subscriber<? super ApiResponse<R>> subscriber) {
+            this.call = call;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+            if (n <= 0) {
+                cancelled = true;
+                subscriber.onError(new IllegalArgumentException("requested items must be positive, got " + n));
+                return;
+            }
+            call.enqueue(this);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            call.cancel();
+        }
+
+        @Override
+        public void onResponse(Call<R> call, Response<R> response) {
+            if (cancelled) {
+                return;
+            }
+            subscriber.onNext(ApiResponseMapper.toApiResponse(response, errorMapper));
+            subscriber.onComplete();
+        }
+
+        @Override
+        public void onFailure(Call<R> call, Throwable t) {
+            if (cancelled) {
+                return;
+            }
+            subscriber.onError(t);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.truelayer.java.http;
+
+import static org.apache.commons.lang3.ObjectUtils.isEmpty;
+import static org.apache.commons.lang3.ObjectUtils.isNotEmpty;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.truelayer.java.SerializationOptions;
+import com.truelayer.java.Utils;
+import com.truelayer.java.http.mappers.ErrorMapper;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.Getter;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+
+/**
+ * Jackson converter factory that builds an <code>ObjectReader</code> or <code>ObjectWriter</code> once per type,
+ * and shares it across all the APIs using the same factory. Readers and writers resolve their root
+ * deserializer and serializer when created, and response bodies are parsed from bytes rather than characters,
+ * leaving the charset detection to Jackson. Error bodies are mapped by an {@link ErrorMapper} using the same
+ * object mapper.
+ */
+public final class TypedJacksonConverterFactory extends Converter.Factory {
+    private static final MediaType MEDIA_TYPE = MediaType.get("application/json; charset=UTF-8");
+
+    /**
+     * The object mapper used by this factory, to be shared by the responses not converted by Retrofit.
+     */
+    @Getter
+    private final ObjectMapper objectMapper;
+
+    /**
+     * The mapper of the error responses of the APIs using this factory.
+     */
+    @Getter
+    private final ErrorMapper errorMapper;
+
+    private final ConcurrentMap<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Type, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public TypedJacksonConverterFactory(ObjectMapper objectMapper) {
+        this(objectMapper, ErrorMapper.DEFAULT_MAX_ERROR_BODY_SIZE);
+    }
+
+    /**
+     * Constructor for this class.
+     * @param objectMapper the object mapper used to read and write payloads
+     * @param maxErrorBodySize the maximum number of bytes read from the body of error responses
+     */
+    public TypedJacksonConverterFactory(ObjectMapper objectMapper, int maxErrorBodySize) {
+        this.objectMapper = objectMapper;
+        this.errorMapper = new ErrorMapper(objectMapper, maxErrorBodySize);
+    }
+
+    /**
+     * Creates a converter factory according to the given serialization options.
+     * @param serializationOptions the serialization options. If not set, the default library object mapper is used
+     * @return a converter factory
+     */
+    public static TypedJacksonConverterFactory create(SerializationOptions serializationOptions) {
+        if (isEmpty(serializationOptions)) {
+            return new TypedJacksonConverterFactory(Utils.getObjectMapper());
+        }
+
+        ObjectMapper objectMapper = serializationOptions.getObjectMapper();
+        if (serializationOptions.isPreferAfterburner()) {
+            // the shared library object mapper is never modified
+            objectMapper = isNotEmpty(objectMapper) ? objectMapper.copy() : Utils.newObjectMapper();
+            registerAfterburner(objectMapper);
+        }
+        return new TypedJacksonConverterFactory(
+                isNotEmpty(objectMapper) ? objectMapper : Utils.getObjectMapper(),
+                serializationOptions.getMaxErrorBodySize());
+    }
+
+    @Override
+    public Converter<ResponseBody, ?> responseBodyConverter(
+            Type type, Annotation[] annotations, Retrofit retrofit) {
+        ObjectReader reader = readers.computeIfAbsent(type, t -> objectMapper.readerFor(objectMapper.constructType(t)));
+        return body -> {
+            try {
+                return reader.readValue(body.byteStream());
+            } finally {
+                body.close();
+            }
+        };
+    }
+
+    @Override
+    public Converter<?, RequestBody> requestBodyConverter(
+            Type type, Annotation[] parameterAnnotations, Annotation[] methodAnnotations, Retrofit retrofit) {
+        ObjectWriter writer = writers.computeIfAbsent(type, t -> objectMapper.writerFor(objectMapper.constructType(t)));
+        return value -> RequestBody.create(MEDIA_TYPE, writer.writeValueAsBytes(value));
+    }
+
+    private static void registerAfterburner(ObjectMapper objectMapper) {
+        try {
+            Class<?> afterburner = Class.forName("com.fasterxml.jackson.module.afterburner.AfterburnerModule");
+            objectMapper.registerModule((Module) afterburner.getConstructor().newInstance());
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Afterburner is not available, we fall back to the reflection based property access
+        }
+    }
+}
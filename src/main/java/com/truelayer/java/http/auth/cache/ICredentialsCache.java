@@ -1,6 +1,7 @@
 package com.truelayer.java.http.auth.cache;
 
 import com.truelayer.java.auth.entities.AccessToken;
+import java.time.Duration;
 import java.util.Optional;
 
 public interface ICredentialsCache {
@@ -21,4 +22,12 @@ public interface ICredentialsCache {
      * Resets the cache
      */
     void clearToken();
+
+    /**
+     * Gets the time left before the cached access token expires, for monitoring purposes.
+     * @return an optional duration. If no token is cached, or its expiry is unknown, an empty optional is returned
+     */
+    default Optional<Duration> getTimeToExpiry() {
+        return Optional.empty();
+    }
 }
@@ -4,6 +4,7 @@ import static org.apache.commons.lang3.ObjectUtils.isEmpty;
 
 import com.truelayer.java.auth.entities.AccessToken;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import lombok.Getter;
@@ -50,6 +51,17 @@ public class SimpleCredentialsCache implements ICredentialsCache {
         tokenRecord = null;
     }
 
+    @Override
+    public Optional<Duration> getTimeToExpiry() {
+        AccessTokenRecord record = tokenRecord;
+        if (isEmpty(record)) {
+            return Optional.empty();
+        }
+
+        Duration timeToExpiry = Duration.between(LocalDateTime.now(clock), record.expiresAt);
+        return timeToExpiry.isNegative() || timeToExpiry.isZero() ? Optional.empty() : Optional.of(timeToExpiry);
+    }
+
     @Getter
     @RequiredArgsConstructor
     public static class AccessTokenRecord {
@@ -0,0 +1,66 @@
+package com.truelayer.java.http.caching;
+
+import com.truelayer.java.Constants;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Network interceptor that applies the configured caching policy to successful GET responses,
+ * overriding the cache headers returned by the server. Validators like <code>ETag</code> and
+ * <code>Last-Modified</code> are left untouched, so that the cache can revalidate stored responses.
+ */
+public class CachePolicyInterceptor implements Interceptor {
+    private final Map<Pattern, String> cacheControlByPath = new LinkedHashMap<>();
+
+    /**
+     * Constructor for this class.
+     * @param endpointPolicies the time responses can be served without revalidation, by path pattern
+     */
+    public CachePolicyInterceptor(Map<String, Duration> endpointPolicies) {
+        endpointPolicies.forEach((path, maxAge) -> cacheControlByPath.put(toPattern(path), toCacheControl(maxAge)));
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        Response response = chain.proceed(request);
+        if (!"GET".equals(request.method()) || !response.isSuccessful()) {
+            return response;
+        }
+
+        String path = request.url().encodedPath();
+        for (Map.Entry<Pattern, String> policy : cacheControlByPath.entrySet()) {
+            if (policy.getKey().matcher(path).matches()) {
+                return response.newBuilder()
+                        .header(Constants.HeaderNames.CACHE_CONTROL, policy.getValue())
+                        .removeHeader(Constants.HeaderNames.PRAGMA)
+                        .build();
+            }
+        }
+        return response;
+    }
+
+    private static Pattern toPattern(String path) {
+        StringBuilder regex = new StringBuilder();
+        String[] parts = path.split("\\*", -1);
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                regex.append("[^/]+");
+            }
+            regex.append(Pattern.quote(parts[i]));
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private static String toCacheControl(Duration maxAge) {
+        return maxAge.isZero() || maxAge.isNegative()
+                ? "private, no-cache"
+                : String.format("private, max-age=%d", maxAge.getSeconds());
+    }
+}
@@ -0,0 +1,75 @@
+package com.truelayer.java.http.caching;
+
+import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.mandates.IMandatesApi;
+import com.truelayer.java.mandates.entities.CreateMandateRequest;
+import com.truelayer.java.mandates.entities.CreateMandateResponse;
+import com.truelayer.java.mandates.entities.GetConfirmationOfFundsResponse;
+import com.truelayer.java.mandates.entities.ListMandatesResponse;
+import com.truelayer.java.mandates.entities.mandatedetail.MandateDetail;
+import com.truelayer.java.payments.entities.AuthorizationFlowResponse;
+import com.truelayer.java.payments.entities.StartAuthorizationFlowRequest;
+import com.truelayer.java.payments.entities.SubmitProviderSelectionRequest;
+import java.util.concurrent.CompletableFuture;
+import okhttp3.ResponseBody;
+
+/**
+ * Mandates API decorator that serves mandate details from a response cache.
+ */
+final class CachingMandatesApi implements IMandatesApi {
+    private final ResponseCache cache;
+    private final IMandatesApi mandatesApi;
+    private final String partition;
+
+    CachingMandatesApi(ResponseCache cache, IMandatesApi mandatesApi, String partition) {
+        this.cache = cache;
+        this.mandatesApi = mandatesApi;
+        this.partition = partition;
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<CreateMandateResponse>> createMandate(CreateMandateRequest request) {
+        return mandatesApi.createMandate(request);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<AuthorizationFlowResponse>> startAuthorizationFlow(
+            String mandateId, StartAuthorizationFlowRequest request) {
+        return mandatesApi.startAuthorizationFlow(mandateId, request);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<AuthorizationFlowResponse>> submitProviderSelection(
+            String mandateId, SubmitProviderSelectionRequest request) {
+        return mandatesApi.submitProviderSelection(mandateId, request);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<ListMandatesResponse>> listMandates(
+            String userId, String cursor, Integer limit) {
+        return mandatesApi.listMandates(userId, cursor, limit);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<ResponseBody>> streamMandates(String userId, String cursor, Integer limit) {
+        return mandatesApi.streamMandates(userId, cursor, limit);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<MandateDetail>> getMandate(String mandateId) {
+        return cache.getMandate(partition, mandateId, () -> mandatesApi.getMandate(mandateId));
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<Void>> revokeMandate(String mandateId) {
+        CompletableFuture<ApiResponse<Void>> revocation = mandatesApi.revokeMandate(mandateId);
+        return ResponseCache.propagateCancellation(
+                revocation, revocation.whenComplete((response, throwable) -> cache.invalidateMandate(mandateId)));
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<GetConfirmationOfFundsResponse>> getConfirmationOfFunds(
+            String mandateId, String amount_in_minor, String currency) {
+        return mandatesApi.getConfirmationOfFunds(mandateId, amount_in_minor, currency);
+    }
+}
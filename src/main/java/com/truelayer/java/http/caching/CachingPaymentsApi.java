@@ -0,0 +1,62 @@
+package com.truelayer.java.http.caching;
+
+import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.payments.IPaymentsApi;
+import com.truelayer.java.payments.entities.*;
+import com.truelayer.java.payments.entities.paymentdetail.PaymentDetail;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Payments API decorator that serves payment details from a response cache.
+ */
+final class CachingPaymentsApi implements IPaymentsApi {
+    private final ResponseCache cache;
+    private final IPaymentsApi paymentsApi;
+    private final String partition;
+
+    CachingPaymentsApi(ResponseCache cache, IPaymentsApi paymentsApi, String partition) {
+        this.cache = cache;
+        this.paymentsApi = paymentsApi;
+        this.partition = partition;
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<CreatePaymentResponse>> createPayment(CreatePaymentRequest request) {
+        return paymentsApi.createPayment(request);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<CreatePaymentResponse>> createPayment(
+            String idempotencyKey, CreatePaymentRequest request) {
+        return paymentsApi.createPayment(idempotencyKey, request);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<PaymentDetail>> getPayment(String paymentId) {
+        return cache.getPayment(partition, paymentId, () -> paymentsApi.getPayment(paymentId));
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<AuthorizationFlowResponse>> startAuthorizationFlow(
+            String paymentId, StartAuthorizationFlowRequest request) {
+        return paymentsApi.startAuthorizationFlow(paymentId, request);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<AuthorizationFlowResponse>> submitProviderSelection(
+            String paymentId, SubmitProviderSelectionRequest request) {
+        return paymentsApi.submitProviderSelection(paymentId, request);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<AuthorizationFlowResponse>> submitConsent(
+            String paymentId, SubmitConsentRequest request) {
+        return paymentsApi.submitConsent(paymentId, request);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<AuthorizationFlowResponse>> submitForm(
+            String paymentId, SubmitFormRequest request) {
+        return paymentsApi.submitForm(paymentId, request);
+    }
+}
@@ -0,0 +1,62 @@
+package com.truelayer.java.http.caching;
+
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Value;
+
+/**
+ * Collects the statistics of the HTTP response cache.
+ * <ul>
+ *     <li>hits: responses served from the cache without contacting the server</li>
+ *     <li>conditional hits: cached responses confirmed as unchanged by the server</li>
+ *     <li>misses: responses fully transferred by the server</li>
+ *     <li>bytes saved: the size of the bodies served from the cache</li>
+ * </ul>
+ */
+public class HttpCacheStats {
+
+    /**
+     * internal state
+     */
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder conditionalHits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder bytesSaved = new LongAdder();
+
+    /**
+     * Returns a point in time view of the cache statistics.
+     * @return the cache statistics snapshot
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(hits.sum(), conditionalHits.sum(), misses.sum(), bytesSaved.sum());
+    }
+
+    void onHit() {
+        hits.increment();
+    }
+
+    void onConditionalHit() {
+        conditionalHits.increment();
+    }
+
+    void onMiss() {
+        misses.increment();
+    }
+
+    void onBytesSaved(long bytes) {
+        bytesSaved.add(bytes);
+    }
+
+    @Value
+    public static class Snapshot {
+        long hits;
+
+        long conditionalHits;
+
+        long misses;
+
+        long bytesSaved;
+    }
+}
@@ -0,0 +1,55 @@
+package com.truelayer.java.http.caching;
+
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
+
+/**
+ * Application interceptor that feeds the HTTP cache statistics, based on how each GET response was produced.
+ * The bytes of the bodies served from the cache are counted while they're read.
+ */
+@RequiredArgsConstructor
+public class HttpCacheStatsInterceptor implements Interceptor {
+    private final HttpCacheStats stats;
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Response response = chain.proceed(chain.request());
+        if (!"GET".equals(chain.request().method())) {
+            return response;
+        }
+
+        if (response.cacheResponse() == null) {
+            stats.onMiss();
+            return response;
+        }
+
+        if (response.networkResponse() == null) {
+            stats.onHit();
+        } else {
+            stats.onConditionalHit();
+        }
+        return response.body() == null
+                ? response
+                : response.newBuilder().body(countingBody(response.body())).build();
+    }
+
+    private ResponseBody countingBody(ResponseBody body) {
+        ForwardingSource countingSource = new ForwardingSource(body.source()) {
+            @Override
+            public long read(Buffer sink, long byteCount) throws IOException {
+                long read = super.read(sink, byteCount);
+                if (read > 0) {
+                    stats.onBytesSaved(read);
+                }
+                return read;
+            }
+        };
+        return ResponseBody.create(body.contentType(), body.contentLength(), Okio.buffer(countingSource));
+    }
+}
@@ -0,0 +1,263 @@
+package com.truelayer.java.http.caching;
+
+import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.mandates.IMandatesApi;
+import com.truelayer.java.mandates.entities.mandatedetail.FailedMandateDetail;
+import com.truelayer.java.mandates.entities.mandatedetail.MandateDetail;
+import com.truelayer.java.mandates.entities.mandatedetail.RevokedMandateDetail;
+import com.truelayer.java.payments.IPaymentsApi;
+import com.truelayer.java.payments.entities.paymentdetail.PaymentDetail;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * In memory cache of payment and mandate details, whose time to live depends on the status of the resource.
+ * Resources in a terminal status, like settled or failed payments and revoked or failed mandates, never change
+ * and are kept until evicted. Resources in any other status are kept for a short time only.
+ * <p>
+ * The cache is bounded: once full, the least recently used entries are evicted first. Entries can be invalidated
+ * explicitly, for instance upon receiving a webhook notification for a given resource. Responses loaded while
+ * an invalidation happens are returned to their callers, but not cached.
+ * <p>
+ * Entries are partitioned by the id of the client they were loaded with, so that a cache shared by clients with
+ * different credentials never returns the resources of one client to another. Cache hits carry the resource only:
+ * their {@link ApiResponse#getMetadata() metadata} is empty, as the status, rate limits and correlation id of the
+ * original HTTP response are outdated.
+ */
+public class ResponseCache {
+    private static final String PAYMENTS_PREFIX = "/payments/";
+    private static final String MANDATES_PREFIX = "/mandates/";
+    private static final String DEFAULT_PARTITION = "";
+
+    private final int maxEntries;
+    private final Duration nonTerminalTimeToLive;
+    private final Clock clock;
+
+    /**
+     * internal state
+     */
+    private final Map<String, CacheEntry> entries;
+
+    private final Set<String> partitions = new HashSet<>();
+
+    /**
+     * Incremented by every invalidation, so that the responses of loads started before are not cached.
+     */
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructor for this class.
+     * @param maxEntries the maximum number of resources kept in cache. Defaults to 10000
+     * @param nonTerminalTimeToLive the time to live of resources in a non terminal status. Defaults to 5 seconds
+     * @param clock the clock used to expire entries. Defaults to the UTC system clock
+     */
+    @Builder
+    public ResponseCache(Integer maxEntries, Duration nonTerminalTimeToLive, Clock clock) {
+        this.maxEntries = maxEntries != null ? maxEntries : 10_000;
+        this.nonTerminalTimeToLive = nonTerminalTimeToLive != null ? nonTerminalTimeToLive : Duration.ofSeconds(5);
+        this.clock = clock != null ? clock : Clock.systemUTC();
+        this.entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                boolean evict = size() > ResponseCache.this.maxEntries;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+    }
+
+    /**
+     * Wraps a payments API so that payment details are served from this cache when possible.
+     * @param paymentsApi the actual payments API
+     * @return a caching view of the given API
+     */
+    public IPaymentsApi cache(IPaymentsApi paymentsApi) {
+        return cache(paymentsApi, DEFAULT_PARTITION);
+    }
+
+    /**
+     * Wraps a payments API so that payment details are served from this cache when possible, in the partition
+     * of the given client.
+     * @param paymentsApi the actual payments API
+     * @param clientId the id of the client the API is bound to
+     * @return a caching view of the given API
+     */
+    public IPaymentsApi cache(IPaymentsApi paymentsApi, String clientId) {
+        return new CachingPaymentsApi(this, paymentsApi, register(clientId));
+    }
+
+    /**
+     * Wraps a mandates API so that mandate details are served from this cache when possible.
+     * @param mandatesApi the actual mandates API
+     * @return a caching view of the given API
+     */
+    public IMandatesApi cache(IMandatesApi mandatesApi) {
+        return cache(mandatesApi, DEFAULT_PARTITION);
+    }
+
+    /**
+     * Wraps a mandates API so that mandate details are served from this cache when possible, in the partition
+     * of the given client.
+     * @param mandatesApi the actual mandates API
+     * @param clientId the id of the client the API is bound to
+     * @return a caching view of the given API
+     */
+    public IMandatesApi cache(IMandatesApi mandatesApi, String clientId) {
+        return new CachingMandatesApi(this, mandatesApi, register(clientId));
+    }
+
+    /**
+     * Removes the given payment from the cache, for all the clients.
+     * @param paymentId the id of the payment
+     */
+    public void invalidatePayment(String paymentId) {
+        invalidate(PAYMENTS_PREFIX + paymentId);
+    }
+
+    /**
+     * Removes the given mandate from the cache, for all the clients.
+     * @param mandateId the id of the mandate
+     */
+    public void invalidateMandate(String mandateId) {
+        invalidate(MANDATES_PREFIX + mandateId);
+    }
+
+    /**
+     * Removes all the entries from the cache.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    /**
+     * Returns the statistics collected so far.
+     * @return a point in time snapshot of the cache statistics
+     */
+    public Stats stats() {
+        int size;
+        synchronized (this) {
+            size = entries.size();
+        }
+        return new Stats(size, hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    CompletableFuture<ApiResponse<PaymentDetail>> getPayment(
+            String partition, String paymentId, Supplier<CompletableFuture<ApiResponse<PaymentDetail>>> loader) {
+        return get(
+                partition + PAYMENTS_PREFIX + paymentId,
+                loader,
+                payment -> payment.isSettled() || payment.isFailed());
+    }
+
+    CompletableFuture<ApiResponse<MandateDetail>> getMandate(
+            String partition, String mandateId, Supplier<CompletableFuture<ApiResponse<MandateDetail>>> loader) {
+        return get(
+                partition + MANDATES_PREFIX + mandateId,
+                loader,
+                mandate -> mandate instanceof RevokedMandateDetail || mandate instanceof FailedMandateDetail);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<ApiResponse<T>> get(
+            String key, Supplier<CompletableFuture<ApiResponse<T>>> loader, Predicate<T> isTerminal) {
+        long now = clock.millis();
+        long loadGeneration;
+        synchronized (this) {
+            CacheEntry entry = entries.get(key);
+            if (entry != null && entry.expiresAt > now) {
+                hits.increment();
+                // the metadata of the original response is outdated, hence it's not returned
+                return CompletableFuture.completedFuture(
+                        ApiResponse.<T>builder().data((T) entry.data).build());
+            }
+            loadGeneration = generation;
+        }
+
+        misses.increment();
+        CompletableFuture<ApiResponse<T>> loading = loader.get();
+        return propagateCancellation(loading, loading.thenApply(response -> {
+            // errors are never cached
+            if (!response.isError() && response.getData() != null) {
+                long expiresAt = isTerminal.test(response.getData())
+                        ? Long.MAX_VALUE
+                        : clock.millis() + nonTerminalTimeToLive.toMillis();
+                synchronized (this) {
+                    // the resource might have changed if invalidated while loading
+                    if (generation == loadGeneration) {
+                        entries.put(key, new CacheEntry(response.getData(), expiresAt));
+                    }
+                }
+            }
+            return response;
+        }));
+    }
+
+    /**
+     * Cancelling a derived future does not cancel the one it derives from, hence the HTTP call or the coalesced
+     * request behind it. This forwards the cancellation of the derived future to the source one.
+     * @param source the future derived from
+     * @param derived the derived future, returned to callers
+     * @return the derived future
+     */
+    static <T> CompletableFuture<T> propagateCancellation(CompletableFuture<?> source, CompletableFuture<T> derived) {
+        derived.whenComplete((result, throwable) -> {
+            if (derived.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return derived;
+    }
+
+    private synchronized String register(String clientId) {
+        String partition = clientId != null ? clientId : DEFAULT_PARTITION;
+        partitions.add(partition);
+        return partition;
+    }
+
+    private synchronized void invalidate(String resourceKey) {
+        generation++;
+        for (String partition : partitions) {
+            entries.remove(partition + resourceKey);
+        }
+    }
+
+    private static class CacheEntry {
+        private final Object data;
+        private final long expiresAt;
+
+        CacheEntry(Object data, long expiresAt) {
+            this.data = data;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    @Value
+    public static class Stats {
+        int size;
+
+        long hits;
+
+        long misses;
+
+        long evictions;
+    }
+}
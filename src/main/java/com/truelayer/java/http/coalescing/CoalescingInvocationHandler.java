@@ -0,0 +1,76 @@
+package com.truelayer.java.http.coalescing;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import retrofit2.http.GET;
+import retrofit2.http.Streaming;
+
+/**
+ * Invocation handler that routes the GET endpoints of an API interface through a request coalescer.
+ * The handler instance is part of the request key, hence different wrapped APIs, and the credentials
+ * they're bound to, never share calls.
+ */
+final class CoalescingInvocationHandler implements InvocationHandler {
+    private final RequestCoalescer coalescer;
+    private final Object target;
+
+    CoalescingInvocationHandler(RequestCoalescer coalescer, Object target) {
+        this.coalescer = coalescer;
+        this.target = target;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return invokeObjectMethod(proxy, method, args);
+        }
+        if (!isCoalescable(method)) {
+            return invokeTarget(method, args);
+        }
+
+        List<Object> key = Arrays.asList(this, method, args == null ? null : Arrays.asList(args));
+        return coalescer.execute(key, () -> {
+            try {
+                return (CompletableFuture<Object>) invokeTarget(method, args);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        });
+    }
+
+    private Object invokeObjectMethod(Object proxy, Method method, Object[] args) {
+        // only equals, hashCode and toString are dispatched to invocation handlers
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "Coalescing(" + target + ")";
+            default:
+                throw new UnsupportedOperationException(method.getName());
+        }
+    }
+
+    private boolean isCoalescable(Method method) {
+        // streamed bodies can be consumed only once, hence they can't be shared
+        return method.isAnnotationPresent(GET.class)
+                && !method.isAnnotationPresent(Streaming.class)
+                && method.getReturnType() == CompletableFuture.class;
+    }
+
+    private Object invokeTarget(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
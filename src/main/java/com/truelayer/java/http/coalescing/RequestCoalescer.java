@@ -0,0 +1,193 @@
+package com.truelayer.java.http.coalescing;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.Value;
+
+/**
+ * Coalesces identical in-flight requests, so that concurrent callers share a single network call
+ * and a single deserialized result.
+ * <p>
+ * Every caller gets its own future: cancelling it detaches the caller only, while the shared call
+ * is cancelled once all of its callers gave up. Completed calls are never reused, so a request issued
+ * after the shared call completed always hits the network.
+ */
+public class RequestCoalescer {
+
+    /**
+     * internal state
+     */
+    private final ConcurrentMap<Object, InFlightRequest<?>> inFlightRequests = new ConcurrentHashMap<>();
+
+    private final LongAdder requests = new LongAdder();
+
+    private final LongAdder coalescedRequests = new LongAdder();
+
+    /**
+     * Executes the given call, unless an identical one is already in flight.
+     * @param key the identity of the request. Requests with equal keys are coalesced
+     * @param call the supplier of the actual call, invoked only if no identical call is in flight
+     * @param <T> the type of the result
+     * @return a future bound to the result of the shared call
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> execute(Object key, Supplier<CompletableFuture<T>> call) {
+        requests.increment();
+        while (true) {
+            InFlightRequest<T> existing = (InFlightRequest<T>) inFlightRequests.get(key);
+            if (existing != null) {
+                CompletableFuture<T> subscriber = existing.subscribe();
+                if (subscriber != null) {
+                    coalescedRequests.increment();
+                    return subscriber;
+                }
+                // the existing request is completing, we can't join it anymore
+                inFlightRequests.remove(key, existing);
+                continue;
+            }
+
+            InFlightRequest<T> created = new InFlightRequest<>(key);
+            if (inFlightRequests.putIfAbsent(key, created) == null) {
+                CompletableFuture<T> subscriber = created.subscribe();
+                created.start(call);
+                return subscriber;
+            }
+        }
+    }
+
+    /**
+     * Wraps an API interface so that its GET endpoints returning a <code>CompletableFuture</code> are coalesced.
+     * Requests are considered identical if they target the same endpoint with the same arguments through the
+     * same wrapped instance, which is bound to a single set of credentials. Other endpoints are invoked as they are.
+     * @param apiInterface the API interface to wrap
+     * @param api the actual API implementation
+     * @param <T> the type of the API
+     * @return a coalescing view of the given API
+     */
+    public <T> T coalesce(Class<T> apiInterface, T api) {
+        return apiInterface.cast(Proxy.newProxyInstance(
+                apiInterface.getClassLoader(),
+                new Class<?>[] {apiInterface},
+                new CoalescingInvocationHandler(this, api)));
+    }
+
+    /**
+     * Returns the statistics collected so far.
+     * @return a point in time snapshot of the coalescing statistics
+     */
+    public Stats stats() {
+        return new Stats(requests.sum(), coalescedRequests.sum());
+    }
+
+    private final class InFlightRequest<T> {
+        private final Object key;
+        private final List<CompletableFuture<T>> subscribers = new ArrayList<>();
+        private CompletableFuture<T> upstream;
+        private boolean closed;
+
+        InFlightRequest(Object key) {
+            this.key = key;
+        }
+
+        synchronized CompletableFuture<T> subscribe() {
+            if (closed) {
+                return null;
+            }
+            CompletableFuture<T> subscriber = new SubscriberFuture<>(this);
+            subscribers.add(subscriber);
+            return subscriber;
+        }
+
+        void start(Supplier<CompletableFuture<T>> call) {
+            CompletableFuture<T> future;
+            try {
+                future = call.get();
+            } catch (RuntimeException e) {
+                future = new CompletableFuture<>();
+                future.completeExceptionally(e);
+            }
+
+            boolean cancelled;
+            synchronized (this) {
+                upstream = future;
+                cancelled = closed;
+            }
+            if (cancelled) {
+                future.cancel(true);
+            }
+            future.whenComplete(this::complete);
+        }
+
+        private void complete(T result, Throwable throwable) {
+            List<CompletableFuture<T>> toComplete;
+            synchronized (this) {
+                closed = true;
+                toComplete = new ArrayList<>(subscribers);
+                subscribers.clear();
+            }
+            inFlightRequests.remove(key, this);
+
+            for (CompletableFuture<T> subscriber : toComplete) {
+                if (throwable != null) {
+                    subscriber.completeExceptionally(throwable);
+                } else {
+                    subscriber.complete(result);
+                }
+            }
+        }
+
+        private void unsubscribe(CompletableFuture<T> subscriber) {
+            CompletableFuture<T> toCancel = null;
+            synchronized (this) {
+                if (!subscribers.remove(subscriber) || !subscribers.isEmpty() || closed) {
+                    return;
+                }
+                closed = true;
+                toCancel = upstream;
+            }
+            inFlightRequests.remove(key, this);
+            if (toCancel != null) {
+                // propagates the cancellation down to the HTTP call
+                toCancel.cancel(true);
+            }
+        }
+    }
+
+    private static final class SubscriberFuture<T> extends CompletableFuture<T> {
+        private final InFlightRequest<T> request;
+
+        SubscriberFuture(InFlightRequest<T> request) {
+            this.request = request;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                request.unsubscribe(this);
+            }
+            return cancelled;
+        }
+    }
+
+    @Value
+    public static class Stats {
+        long requests;
+
+        long coalescedRequests;
+
+        /**
+         * Returns the ratio of requests served by an already in-flight call.
+         * @return the hit rate, between 0 and 1
+         */
+        public double hitRate() {
+            return requests == 0 ? 0 : (double) coalescedRequests / requests;
+        }
+    }
+}
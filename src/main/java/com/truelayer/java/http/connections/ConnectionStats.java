@@ -0,0 +1,77 @@
+package com.truelayer.java.http.connections;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Value;
+import okhttp3.Connection;
+
+/**
+ * Collects per-connection usage statistics of the internal HTTP client. Useful to confirm that requests
+ * are multiplexed over a few HTTP/2 connections under load.
+ * Connections are weakly referenced, so closed connections are dropped once garbage collected.
+ */
+public class ConnectionStats {
+
+    /**
+     * internal state
+     */
+    private final Map<Connection, ConnectionRecord> connections = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Returns a point in time view of the connections used by the client.
+     * @return the list of connection snapshots
+     */
+    public List<ConnectionSnapshot> snapshot() {
+        List<ConnectionSnapshot> snapshots = new ArrayList<>();
+        synchronized (connections) {
+            connections.forEach((connection, record) -> snapshots.add(new ConnectionSnapshot(
+                    connection.route().address().url().host(),
+                    connection.protocol().toString(),
+                    record.activeCalls.get(),
+                    record.peakActiveCalls.get(),
+                    record.totalCalls.get())));
+        }
+        return Collections.unmodifiableList(snapshots);
+    }
+
+    void onConnectionAcquired(Connection connection) {
+        ConnectionRecord record;
+        synchronized (connections) {
+            record = connections.computeIfAbsent(connection, c -> new ConnectionRecord());
+        }
+        record.totalCalls.incrementAndGet();
+        int active = record.activeCalls.incrementAndGet();
+        record.peakActiveCalls.accumulateAndGet(active, Math::max);
+    }
+
+    void onConnectionReleased(Connection connection) {
+        ConnectionRecord record = connections.get(connection);
+        if (record != null) {
+            record.activeCalls.decrementAndGet();
+        }
+    }
+
+    private static class ConnectionRecord {
+        private final AtomicInteger activeCalls = new AtomicInteger();
+        private final AtomicInteger peakActiveCalls = new AtomicInteger();
+        private final AtomicLong totalCalls = new AtomicLong();
+    }
+
+    @Value
+    public static class ConnectionSnapshot {
+        String host;
+
+        String protocol;
+
+        int activeCalls;
+
+        int peakActiveCalls;
+
+        long totalCalls;
+    }
+}
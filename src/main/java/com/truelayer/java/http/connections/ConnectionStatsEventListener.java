@@ -0,0 +1,27 @@
+package com.truelayer.java.http.connections;
+
+import lombok.RequiredArgsConstructor;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+
+/**
+ * HTTP client event listener that feeds a connection statistics collector.
+ *
+ * @see ConnectionStats
+ */
+@RequiredArgsConstructor
+public class ConnectionStatsEventListener extends EventListener {
+
+    private final ConnectionStats connectionStats;
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        connectionStats.onConnectionAcquired(connection);
+    }
+
+    @Override
+    public void connectionReleased(Call call, Connection connection) {
+        connectionStats.onConnectionReleased(connection);
+    }
+}
@@ -0,0 +1,60 @@
+package com.truelayer.java.http.deduplication;
+
+import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.payments.IPaymentsApi;
+import com.truelayer.java.payments.entities.*;
+import com.truelayer.java.payments.entities.paymentdetail.PaymentDetail;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Payments API decorator that deduplicates payments created with the same idempotency key.
+ */
+final class DeduplicatingPaymentsApi implements IPaymentsApi {
+    private final RequestDeduplicator deduplicator;
+    private final IPaymentsApi paymentsApi;
+
+    DeduplicatingPaymentsApi(RequestDeduplicator deduplicator, IPaymentsApi paymentsApi) {
+        this.deduplicator = deduplicator;
+        this.paymentsApi = paymentsApi;
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<CreatePaymentResponse>> createPayment(CreatePaymentRequest request) {
+        return paymentsApi.createPayment(request);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<CreatePaymentResponse>> createPayment(
+            String idempotencyKey, CreatePaymentRequest request) {
+        return deduplicator.execute(idempotencyKey, () -> paymentsApi.createPayment(idempotencyKey, request));
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<PaymentDetail>> getPayment(String paymentId) {
+        return paymentsApi.getPayment(paymentId);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<AuthorizationFlowResponse>> startAuthorizationFlow(
+            String paymentId, StartAuthorizationFlowRequest request) {
+        return paymentsApi.startAuthorizationFlow(paymentId, request);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<AuthorizationFlowResponse>> submitProviderSelection(
+            String paymentId, SubmitProviderSelectionRequest request) {
+        return paymentsApi.submitProviderSelection(paymentId, request);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<AuthorizationFlowResponse>> submitConsent(
+            String paymentId, SubmitConsentRequest request) {
+        return paymentsApi.submitConsent(paymentId, request);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<AuthorizationFlowResponse>> submitForm(
+            String paymentId, SubmitFormRequest request) {
+        return paymentsApi.submitForm(paymentId, request);
+    }
+}
@@ -0,0 +1,163 @@
+package com.truelayer.java.http.deduplication;
+
+import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.payments.IPaymentsApi;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.Builder;
+import lombok.Value;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Deduplicates requests submitted more than once with the same idempotency key, as it happens with
+ * client side retries. Duplicates of an in-flight request attach to the original one instead of being sent again,
+ * and completed results are retained for a short time, to be returned to late duplicates.
+ * <p>
+ * Requests failed without a response, or with an error response, are forgotten once completed, so that they can be
+ * retried: only successful responses are retained. At most the configured number
+ * of completed keys is retained: once full, the oldest completed keys are dropped first, while in-flight ones are
+ * always kept. Requests without an idempotency key are never deduplicated, as a fresh key is generated for each
+ * of them. Every caller gets its own future, whose cancellation does not affect the request sent.
+ */
+public class RequestDeduplicator {
+    private final Duration retention;
+    private final int maxEntries;
+    private final Clock clock;
+
+    /**
+     * internal state
+     */
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    private final LongAdder requests = new LongAdder();
+
+    private final LongAdder duplicates = new LongAdder();
+
+    /**
+     * Constructor for this class.
+     * @param retention how long completed results are retained. Defaults to 10 seconds
+     * @param maxEntries the maximum number of idempotency keys retained. Defaults to 1000
+     * @param clock the clock used to expire results. Defaults to the UTC system clock
+     */
+    @Builder
+    public RequestDeduplicator(Duration retention, Integer maxEntries, Clock clock) {
+        this.retention = retention != null ? retention : Duration.ofSeconds(10);
+        this.maxEntries = maxEntries != null ? maxEntries : 1000;
+        this.clock = clock != null ? clock : Clock.systemUTC();
+    }
+
+    /**
+     * Executes the given call, unless a request with the same idempotency key is in flight or recently completed.
+     * @param idempotencyKey the idempotency key of the request. Requests without a key are always executed
+     * @param call the supplier of the actual call, invoked only for the first request with a given key
+     * @param <T> the type of the result
+     * @return a future bound to the result of the original request
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> execute(String idempotencyKey, Supplier<CompletableFuture<T>> call) {
+        requests.increment();
+        if (StringUtils.isBlank(idempotencyKey)) {
+            return call.get();
+        }
+
+        Entry entry;
+        synchronized (this) {
+            purgeExpired(clock.millis());
+            Entry existing = entries.get(idempotencyKey);
+            if (existing != null) {
+                duplicates.increment();
+                return (CompletableFuture<T>) existing.result.thenApply(Function.identity());
+            }
+            entry = new Entry();
+            entries.put(idempotencyKey, entry);
+            evictCompleted();
+        }
+
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+        }
+
+        future.whenComplete((result, throwable) -> {
+            if (throwable != null || isErrorResponse(result)) {
+                // transient errors, like 503 or 429 responses, must not be replayed to the retries of the caller
+                synchronized (this) {
+                    entries.remove(idempotencyKey, entry);
+                }
+            }
+            if (throwable != null) {
+                entry.result.completeExceptionally(throwable);
+            } else {
+                entry.completedAt = clock.millis();
+                entry.result.complete(result);
+            }
+        });
+        return (CompletableFuture<T>) entry.result.thenApply(Function.identity());
+    }
+
+    /**
+     * Wraps a payments API so that payments created with the same idempotency key are deduplicated.
+     * @param paymentsApi the actual payments API
+     * @return a deduplicating view of the given API
+     */
+    public IPaymentsApi deduplicate(IPaymentsApi paymentsApi) {
+        return new DeduplicatingPaymentsApi(this, paymentsApi);
+    }
+
+    /**
+     * Returns the statistics collected so far.
+     * @return a point in time snapshot of the deduplication statistics
+     */
+    public Stats stats() {
+        return new Stats(requests.sum(), duplicates.sum());
+    }
+
+    private static boolean isErrorResponse(Object result) {
+        return result instanceof ApiResponse && ((ApiResponse<?>) result).isError();
+    }
+
+    private void purgeExpired(long now) {
+        // entries are roughly ordered by completion time, we stop at the first one to retain
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            long completedAt = entry.completedAt;
+            if (completedAt < 0 || now - completedAt < retention.toMillis()) {
+                return;
+            }
+            iterator.remove();
+        }
+    }
+
+    private void evictCompleted() {
+        // in-flight entries are never evicted, as their duplicates would be sent again
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            if (iterator.next().completedAt >= 0) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private volatile long completedAt = -1;
+    }
+
+    @Value
+    public static class Stats {
+        long requests;
+
+        long duplicates;
+    }
+}
@@ -0,0 +1,190 @@
+package com.truelayer.java.http.dns;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Builder;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import okhttp3.Dns;
+
+/**
+ * DNS resolver that caches the addresses returned by a delegate resolver, the system one by default.
+ * <ul>
+ *     <li>cached addresses are served for the configured time to live</li>
+ *     <li>entries close to their expiration are refreshed in background, without blocking callers</li>
+ *     <li>if a resolution fails, expired addresses are served for up to the configured max staleness</li>
+ *     <li>addresses are returned in random order, to spread new connections across them</li>
+ * </ul>
+ * Class builder accepts a Clock instance for improved testing purposes.
+ */
+@Builder
+public class CachingDns implements Dns {
+
+    @Builder.Default
+    private final Dns delegate = Dns.SYSTEM;
+
+    @Builder.Default
+    private final Duration timeToLive = Duration.ofMinutes(1);
+
+    @Builder.Default
+    private final Duration refreshAhead = Duration.ofSeconds(10);
+
+    @Builder.Default
+    private final Duration maxStaleness = Duration.ofMinutes(10);
+
+    @Builder.Default
+    private final Executor refreshExecutor = newRefreshExecutor();
+
+    @Builder.Default
+    private final Clock clock = Clock.systemUTC();
+
+    /**
+     * internal state
+     */
+    private final Map<String, CacheEntry> cache = new ConcurrentHashMap<>();
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder resolutions = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalResolutionNanos = new LongAdder();
+    private final AtomicLong maxResolutionNanos = new AtomicLong();
+
+    @Override
+    public List<InetAddress> lookup(String hostname) throws UnknownHostException {
+        lookups.increment();
+        CacheEntry entry = cache.get(hostname);
+        long now = clock.millis();
+
+        if (entry != null && entry.ageMillis(now) < timeToLive.toMillis()) {
+            cacheHits.increment();
+            if (entry.ageMillis(now) >= timeToLive.minus(refreshAhead).toMillis()) {
+                refreshInBackground(hostname, entry);
+            }
+            return shuffle(entry.addresses);
+        }
+
+        try {
+            return shuffle(resolve(hostname));
+        } catch (UnknownHostException e) {
+            if (entry != null && entry.ageMillis(now) < timeToLive.plus(maxStaleness).toMillis()) {
+                staleHits.increment();
+                return shuffle(entry.addresses);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a snapshot of the resolver statistics.
+     * @return the resolver statistics
+     */
+    public Stats stats() {
+        long resolutionsCount = resolutions.sum();
+        return new Stats(
+                lookups.sum(),
+                cacheHits.sum(),
+                staleHits.sum(),
+                resolutionsCount,
+                failures.sum(),
+                Duration.ofNanos(resolutionsCount == 0 ? 0 : totalResolutionNanos.sum() / resolutionsCount),
+                Duration.ofNanos(maxResolutionNanos.get()));
+    }
+
+    private List<InetAddress> resolve(String hostname) throws UnknownHostException {
+        long start = System.nanoTime();
+        try {
+            List<InetAddress> addresses = Collections.unmodifiableList(new ArrayList<>(delegate.lookup(hostname)));
+            cache.put(hostname, new CacheEntry(addresses, clock.millis()));
+            return addresses;
+        } catch (UnknownHostException e) {
+            failures.increment();
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            resolutions.increment();
+            totalResolutionNanos.add(elapsed);
+            maxResolutionNanos.accumulateAndGet(elapsed, Math::max);
+        }
+    }
+
+    private void refreshInBackground(String hostname, CacheEntry entry) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    resolve(hostname);
+                } catch (UnknownHostException e) {
+                    // the current entry is kept and served until it expires
+                } finally {
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            entry.refreshing.set(false);
+        }
+    }
+
+    private static List<InetAddress> shuffle(List<InetAddress> addresses) {
+        if (addresses.size() < 2) {
+            return addresses;
+        }
+        List<InetAddress> shuffled = new ArrayList<>(addresses);
+        Collections.shuffle(shuffled, ThreadLocalRandom.current());
+        return shuffled;
+    }
+
+    private static ExecutorService newRefreshExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "truelayer-dns-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @RequiredArgsConstructor
+    private static class CacheEntry {
+        private final List<InetAddress> addresses;
+        private final long resolvedAtMillis;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private long ageMillis(long nowMillis) {
+            return nowMillis - resolvedAtMillis;
+        }
+    }
+
+    @Value
+    public static class Stats {
+        long lookups;
+
+        long cacheHits;
+
+        long staleHits;
+
+        long resolutions;
+
+        long failures;
+
+        Duration averageResolutionTime;
+
+        Duration maxResolutionTime;
+    }
+}
@@ -2,7 +2,9 @@ package com.truelayer.java.http.entities;
 
 import static org.apache.commons.lang3.ObjectUtils.isNotEmpty;
 
+import java.util.Optional;
 import lombok.*;
+import okhttp3.Headers;
 
 /**
  * Model for API responses object. Instances of this class can contain either a data or an error object.
@@ -16,6 +18,20 @@ public class ApiResponse<T> {
     private final T data;
     private final ProblemDetails error;
 
+    /**
+     * The HTTP status code and headers of the response this object was mapped from, if any. Kept as received,
+     * and only wrapped in a {@link ResponseMetadata} view on request.
+     */
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final int status;
+
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Headers headers;
+
     /**
      * Utility method to easily understand whether the object holds a successful or an error response.
      * @return true if the response contains an error.
@@ -23,4 +39,28 @@ public class ApiResponse<T> {
     public boolean isError() {
         return isNotEmpty(error);
     }
+
+    /**
+     * Returns the metadata of the HTTP response this object was mapped from, like its status code, rate limits
+     * or correlation id. Headers are neither copied nor parsed until accessed through the returned view.
+     * @return the response metadata, or an empty optional if this object was not mapped from an HTTP response
+     * @see ResponseMetadata
+     */
+    public Optional<ResponseMetadata> getMetadata() {
+        return headers != null ? Optional.of(new ResponseMetadata(status, headers)) : Optional.empty();
+    }
+
+    public static class ApiResponseBuilder<T> {
+
+        /**
+         * Carries over the response metadata of another response, if any.
+         * @param response the response the metadata are taken from
+         * @return the instance of the builder used
+         */
+        public ApiResponseBuilder<T> metadataOf(ApiResponse<?> response) {
+            this.status = response.status;
+            this.headers = response.headers;
+            return this;
+        }
+    }
 }
@@ -0,0 +1,167 @@
+package com.truelayer.java.http.entities;
+
+import static com.truelayer.java.Constants.HeaderNames.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import okhttp3.Headers;
+
+/**
+ * Read-only view over the status code and headers of an HTTP response. The headers are the ones received,
+ * not a copy, and each value is looked up and parsed only when accessed.
+ */
+public final class ResponseMetadata {
+    private final int status;
+    private final Headers headers;
+
+    ResponseMetadata(int status, Headers headers) {
+        this.status = status;
+        this.headers = headers;
+    }
+
+    /**
+     * @return the HTTP status code of the response
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the last value of the given header.
+     * @param name the case-insensitive name of the header
+     * @return the value of the header, if present
+     */
+    public Optional<String> getHeader(String name) {
+        return Optional.ofNullable(headers.get(name));
+    }
+
+    /**
+     * Returns all the values of the given header.
+     * @param name the case-insensitive name of the header
+     * @return the values of the header, possibly empty
+     */
+    public List<String> getHeaderValues(String name) {
+        return headers.values(name);
+    }
+
+    /**
+     * @return the TrueLayer correlation id of the response, to be quoted when reaching out to support
+     */
+    public Optional<String> getCorrelationId() {
+        return getHeader(TL_CORRELATION_ID);
+    }
+
+    /**
+     * Returns the maximum number of requests allowed in the current rate limit window, as advertised
+     * by either the <code>RateLimit-Limit</code> or the <code>X-RateLimit-Limit</code> header.
+     * @return the request quota, if advertised
+     */
+    public OptionalLong getRateLimitLimit() {
+        return getLong(RATELIMIT_LIMIT, X_RATELIMIT_LIMIT);
+    }
+
+    /**
+     * Returns the number of requests left in the current rate limit window, as advertised
+     * by either the <code>RateLimit-Remaining</code> or the <code>X-RateLimit-Remaining</code> header.
+     * @return the remaining requests, if advertised
+     */
+    public OptionalLong getRateLimitRemaining() {
+        return getLong(RATELIMIT_REMAINING, X_RATELIMIT_REMAINING);
+    }
+
+    /**
+     * Returns the value of either the <code>RateLimit-Reset</code> or the <code>X-RateLimit-Reset</code> header,
+     * as sent. The former is the number of seconds until the rate limit window resets.
+     * @return the rate limit reset, if advertised
+     */
+    public OptionalLong getRateLimitReset() {
+        return getLong(RATELIMIT_RESET, X_RATELIMIT_RESET);
+    }
+
+    /**
+     * Returns how long to wait before retrying, from the <code>Retry-After</code> header either in seconds or as
+     * an HTTP date. Dates are relative to the <code>Date</code> header of the response, or to now if missing.
+     * @return the delay before retrying, if advertised
+     */
+    public Optional<Duration> getRetryAfter() {
+        String value = headers.get(RETRY_AFTER);
+        if (value == null) {
+            return Optional.empty();
+        }
+        OptionalLong seconds = parseLong(value);
+        if (seconds.isPresent()) {
+            return Optional.of(Duration.ofSeconds(Math.max(0, seconds.getAsLong())));
+        }
+        Date retryDate = headers.getDate(RETRY_AFTER);
+        if (retryDate == null) {
+            return Optional.empty();
+        }
+        Date responseDate = headers.getDate("Date");
+        Instant now = responseDate != null ? responseDate.toInstant() : Instant.now();
+        Duration delay = Duration.between(now, retryDate.toInstant());
+        return Optional.of(delay.isNegative() ? Duration.ZERO : delay);
+    }
+
+    /**
+     * Returns the durations of the metrics reported by the <code>Server-Timing</code> headers, like
+     * <code>db;dur=53, app;desc="Application";dur=47.2</code>. Metrics without a duration are left out.
+     * @return the durations by metric name, in the order reported
+     * @see <a href="https://www.w3.org/TR/server-timing/">Server timing</a>
+     */
+    public Map<String, Duration> getServerTimings() {
+        List<String> values = headers.values(SERVER_TIMING);
+        if (values.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Duration> timings = new LinkedHashMap<>();
+        for (String value : values) {
+            for (String metric : value.split(",")) {
+                parseServerTiming(metric, timings);
+            }
+        }
+        return timings;
+    }
+
+    private static void parseServerTiming(String metric, Map<String, Duration> timings) {
+        String[] parts = metric.split(";");
+        String name = parts[0].trim();
+        if (name.isEmpty()) {
+            return;
+        }
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.regionMatches(true, 0, "dur=", 0, 4)) {
+                try {
+                    double millis = Double.parseDouble(parameter.substring(4).trim());
+                    timings.put(name, Duration.ofNanos(Math.round(millis * 1_000_000)));
+                } catch (NumberFormatException e) {
+                    // malformed durations are ignored
+                }
+                return;
+            }
+        }
+    }
+
+    private OptionalLong getLong(String name, String fallbackName) {
+        String value = headers.get(name);
+        return parseLong(value != null ? value : headers.get(fallbackName));
+    }
+
+    private static OptionalLong parseLong(String value) {
+        if (value == null) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+}
@@ -3,6 +3,9 @@ package com.truelayer.java.http.interceptors;
 import com.truelayer.java.Constants;
 import com.truelayer.java.auth.entities.AccessToken;
 import com.truelayer.java.http.auth.IAccessTokenManager;
+import com.truelayer.java.http.metrics.HttpEndpoints;
+import com.truelayer.java.http.metrics.HttpPhase;
+import com.truelayer.java.http.metrics.IHttpMetricsRecorder;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import okhttp3.Interceptor;
@@ -14,11 +17,28 @@ public class AuthenticationInterceptor implements Interceptor {
 
     private final IAccessTokenManager tokenManager;
 
+    /**
+     * Optional recorder of the time spent fetching tokens.
+     */
+    private final IHttpMetricsRecorder metricsRecorder;
+
+    public AuthenticationInterceptor(IAccessTokenManager tokenManager) {
+        this(tokenManager, null);
+    }
+
     @Override
     public Response intercept(Chain chain) throws IOException {
-        AccessToken accessToken = tokenManager.getToken();
-
         Request request = chain.request();
+
+        AccessToken accessToken;
+        if (metricsRecorder != null) {
+            long start = System.nanoTime();
+            accessToken = tokenManager.getToken();
+            metricsRecorder.record(HttpEndpoints.nameOf(request), HttpPhase.TOKEN, System.nanoTime() - start);
+        } else {
+            accessToken = tokenManager.getToken();
+        }
+
         Request newRequest = request.newBuilder()
                 .header(Constants.HeaderNames.AUTHORIZATION, buildAuthorizationHeader(accessToken.getAccessToken()))
                 .build();
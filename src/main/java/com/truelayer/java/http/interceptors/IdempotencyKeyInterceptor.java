@@ -1,5 +1,7 @@
 package com.truelayer.java.http.interceptors;
 
+import static org.apache.commons.lang3.ObjectUtils.isNotEmpty;
+
 import com.truelayer.java.Constants;
 import java.io.IOException;
 import java.util.UUID;
@@ -11,6 +13,11 @@ public class IdempotencyKeyInterceptor implements Interceptor {
     @Override
     public Response intercept(Chain chain) throws IOException {
         Request request = chain.request();
+        // keys supplied by the caller are preserved, so that retries of the same operation can be recognized
+        if (isNotEmpty(request.header(Constants.HeaderNames.IDEMPOTENCY_KEY))) {
+            return chain.proceed(request);
+        }
+
         Request newRequest = request.newBuilder()
                 .header(Constants.HeaderNames.IDEMPOTENCY_KEY, UUID.randomUUID().toString())
                 .build();
@@ -6,6 +6,9 @@ import static org.apache.commons.lang3.ObjectUtils.isEmpty;
 import static org.apache.commons.lang3.ObjectUtils.isNotEmpty;
 
 import com.truelayer.java.SigningOptions;
+import com.truelayer.java.http.metrics.HttpEndpoints;
+import com.truelayer.java.http.metrics.HttpPhase;
+import com.truelayer.java.http.metrics.IHttpMetricsRecorder;
 import com.truelayer.signing.Signer;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
@@ -19,11 +22,21 @@ public class SignatureInterceptor implements Interceptor {
 
     private final SigningOptions signingOptions;
 
+    /**
+     * Optional recorder of the time spent signing requests.
+     */
+    private final IHttpMetricsRecorder metricsRecorder;
+
+    public SignatureInterceptor(SigningOptions signingOptions) {
+        this(signingOptions, null);
+    }
+
     @Override
     public Response intercept(Chain chain) throws IOException {
         Request request = chain.request();
 
         if (needsSignature(request)) {
+            long start = metricsRecorder != null ? System.nanoTime() : 0;
             Request clonedRequest = request.newBuilder().build();
 
             String signature = computeSignature(
@@ -33,6 +46,9 @@ public class SignatureInterceptor implements Interceptor {
                     getBodyAsString(clonedRequest));
             Request newRequest =
                     request.newBuilder().header(TL_SIGNATURE, signature).build();
+            if (metricsRecorder != null) {
+                metricsRecorder.record(HttpEndpoints.nameOf(request), HttpPhase.SIGNING, System.nanoTime() - start);
+            }
             return chain.proceed(newRequest);
         }
 
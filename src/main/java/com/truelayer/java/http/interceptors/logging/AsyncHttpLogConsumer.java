@@ -0,0 +1,312 @@
+package com.truelayer.java.http.interceptors.logging;
+
+import static org.apache.commons.lang3.ObjectUtils.isNotEmpty;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.Builder;
+import okhttp3.MediaType;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.GzipSource;
+
+/**
+ * Structured consumer that hands HTTP traces over to a delegate consumer on a single background thread,
+ * so that slow or blocking log appenders do not delay HTTP calls.
+ * <p>
+ * Traces are copied by reference into a bounded lock-free ring buffer, whose slots are allocated upfront.
+ * Once the buffer is full, traces are dropped according to the configured policy and counted.
+ * Traces can optionally be sampled, and the JSON bodies of responses captured, capped and redacted. Gzip encoded
+ * bodies are decoded for the capture.
+ */
+public class AsyncHttpLogConsumer implements HttpLogConsumer, Closeable {
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final HttpLogConsumer delegate;
+    private final DropPolicy dropPolicy;
+    private final HttpLogSampling sampling;
+    private final int maxBodyBytes;
+    private final JsonBodyRedactor bodyRedactor;
+
+    /**
+     * internal state
+     */
+    private final HttpLogEvent[] slots;
+
+    private final AtomicLongArray sequences;
+
+    private final int mask;
+
+    private final AtomicLong head = new AtomicLong();
+
+    private final AtomicLong tail = new AtomicLong();
+
+    // whether the request trace of the call in progress on the current thread was sampled
+    private final ThreadLocal<Boolean> requestSampled = ThreadLocal.withInitial(() -> Boolean.TRUE);
+
+    private final LongAdder published = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder sampledOut = new LongAdder();
+
+    private final Thread drainer;
+
+    private volatile boolean drainerParked;
+
+    private volatile boolean closed;
+
+    /**
+     * Constructor for this class. The background thread is started straight away.
+     * @param delegate the consumer the traces are handed to, on the background thread
+     * @param capacity the maximum number of traces buffered, rounded up to a power of two. Defaults to 1024
+     * @param dropPolicy what to drop once the buffer is full. Defaults to {@link DropPolicy#DROP_NEWEST}
+     * @param sampling optional sampling of the traces. All traces are kept by default
+     * @param maxBodyBytes the maximum number of bytes of JSON response bodies captured. Bodies are not captured by default
+     * @param redactedBodyFields the names of the JSON fields whose values are masked in the captured bodies
+     */
+    @Builder
+    public AsyncHttpLogConsumer(
+            HttpLogConsumer delegate,
+            Integer capacity,
+            DropPolicy dropPolicy,
+            HttpLogSampling sampling,
+            Integer maxBodyBytes,
+            Set<String> redactedBodyFields) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate consumer must be set");
+        }
+        int requestedCapacity = capacity != null ? capacity : 1024;
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("capacity must be at least 2");
+        }
+        this.delegate = delegate;
+        this.dropPolicy = dropPolicy != null ? dropPolicy : DropPolicy.DROP_NEWEST;
+        this.sampling = sampling;
+        this.maxBodyBytes = maxBodyBytes != null ? maxBodyBytes : 0;
+        this.bodyRedactor =
+                new JsonBodyRedactor(isNotEmpty(redactedBodyFields) ? redactedBodyFields : Collections.emptySet());
+
+        int size = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = size - 1;
+        this.slots = new HttpLogEvent[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            slots[i] = new HttpLogEvent(null);
+            sequences.set(i, i);
+        }
+
+        this.drainer = new Thread(this::drain, "truelayer-http-log-consumer");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return !closed && delegate.isEnabled();
+    }
+
+    @Override
+    public void accept(HttpLogEvent event) {
+        if (!isSampled(event)) {
+            sampledOut.increment();
+            return;
+        }
+        if (maxBodyBytes > 0 && event.isResponse()) {
+            event.setBody(captureBody(event.getResponse()));
+        }
+
+        boolean offered = offer(event);
+        while (!offered && dropPolicy == DropPolicy.DROP_OLDEST) {
+            // makes room for the newest trace, unless the background thread just did
+            if (poll(null)) {
+                dropped.increment();
+            }
+            offered = offer(event);
+        }
+        if (!offered) {
+            dropped.increment();
+            return;
+        }
+
+        published.increment();
+        if (drainerParked) {
+            LockSupport.unpark(drainer);
+        }
+    }
+
+    /**
+     * Stops the background thread, once the traces buffered so far have been handed to the delegate.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return the number of traces buffered to be handed to the delegate
+     */
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    /**
+     * @return the number of traces dropped because the buffer was full
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return the number of traces discarded by sampling
+     */
+    public long getSampledOutCount() {
+        return sampledOut.sum();
+    }
+
+    private boolean isSampled(HttpLogEvent event) {
+        if (sampling == null) {
+            return true;
+        }
+        if (!event.isResponse()) {
+            boolean sampled = sampling.sampleRequest(ThreadLocalRandom.current().nextDouble());
+            requestSampled.set(sampled);
+            return sampled;
+        }
+        return requestSampled.get() || sampling.keepResponse(event);
+    }
+
+    private String captureBody(Response response) {
+        MediaType contentType = response.body() != null ? response.body().contentType() : null;
+        if (contentType == null
+                || !"json".equalsIgnoreCase(contentType.subtype()) && !contentType.subtype().endsWith("+json")) {
+            return null;
+        }
+        // compressed bodies are seen as such by network interceptors, only gzip is decoded
+        String contentEncoding = response.header("Content-Encoding");
+        boolean gzipped = "gzip".equalsIgnoreCase(contentEncoding);
+        if (contentEncoding != null && !gzipped && !"identity".equalsIgnoreCase(contentEncoding)) {
+            return null;
+        }
+        try {
+            byte[] bytes = gzipped
+                    ? peekGzippedBody(response.body())
+                    : response.peekBody(maxBodyBytes + 1L).bytes();
+            boolean truncated = bytes.length > maxBodyBytes;
+            String body = new String(bytes, 0, Math.min(bytes.length, maxBodyBytes), StandardCharsets.UTF_8);
+            return bodyRedactor.redact(body, truncated);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Decodes up to one byte more than the capture cap, leaving the compressed body unread for the caller.
+     */
+    private byte[] peekGzippedBody(ResponseBody responseBody) throws IOException {
+        long limit = maxBodyBytes + 1L;
+        Buffer buffer = new Buffer();
+        try (GzipSource source = new GzipSource(responseBody.source().peek())) {
+            while (buffer.size() < limit && source.read(buffer, limit - buffer.size()) != -1) {
+                // keeps reading until the cap or the end of the body
+            }
+        }
+        return buffer.readByteArray();
+    }
+
+    /**
+     * Multi-producer multi-consumer bounded queue offer, as the producers themselves poll the buffer
+     * to drop the oldest traces.
+     */
+    private boolean offer(HttpLogEvent event) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[index].copyFrom(event);
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+        }
+    }
+
+    private boolean poll(HttpLogEvent target) {
+        while (true) {
+            long position = head.get();
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    if (target != null) {
+                        target.copyFrom(slots[index]);
+                    }
+                    slots[index].clear();
+                    sequences.lazySet(index, position + mask + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+        }
+    }
+
+    private void drain() {
+        HttpLogEvent event = new HttpLogEvent(null);
+        while (true) {
+            if (poll(event)) {
+                try {
+                    delegate.accept(event);
+                } catch (RuntimeException e) {
+                    // a failing delegate must not stop the background thread
+                } finally {
+                    event.clear();
+                }
+                continue;
+            }
+            if (closed) {
+                return;
+            }
+            drainerParked = true;
+            // checks again, as a trace might have been published while parking
+            if (head.get() == tail.get() && !closed) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            drainerParked = false;
+        }
+    }
+
+    /**
+     * What to drop once the buffer is full.
+     */
+    public enum DropPolicy {
+        /**
+         * Traces are dropped as they are published, keeping the buffered ones.
+         */
+        DROP_NEWEST,
+        /**
+         * The oldest buffered traces are dropped to make room for the newest ones.
+         */
+        DROP_OLDEST
+    }
+}
@@ -15,6 +15,13 @@ public class DefaultLogConsumer implements Consumer<String> {
         this.logger = LoggerFactory.NewHttpLogger();
     }
 
+    /**
+     * @return whether <i>Tinylog</i> trace level is enabled for HTTP traces
+     */
+    public boolean isEnabled() {
+        return logger.isTraceEnabled();
+    }
+
     @Override
     public void accept(String s) {
         logger.trace(s);
@@ -0,0 +1,49 @@
+package com.truelayer.java.http.interceptors.logging;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Consumer of structured HTTP traces. The level check is performed before any trace is built,
+ * hence disabled consumers add no work to HTTP calls.
+ * <p>
+ * Events are reused: they must not be retained past the {@link #accept(HttpLogEvent)} invocation.
+ * Blocking in the context of this consumer invocation will affect performance.
+ * @see HttpLogEvent
+ */
+@FunctionalInterface
+public interface HttpLogConsumer {
+
+    /**
+     * Whether traces should be built and handed to this consumer at all.
+     * @return true by default
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Consumes an HTTP trace.
+     * @param event the trace, valid only for the duration of this invocation
+     */
+    void accept(HttpLogEvent event);
+
+    /**
+     * Adapts a consumer of plain text HTTP traces, which is always enabled.
+     * @param logMessageConsumer the consumer of text traces
+     * @return a structured consumer that formats traces as text
+     */
+    static HttpLogConsumer of(Consumer<String> logMessageConsumer) {
+        return of(logMessageConsumer, () -> true);
+    }
+
+    /**
+     * Adapts a consumer of plain text HTTP traces.
+     * @param logMessageConsumer the consumer of text traces
+     * @param enabled the level check of the consumer, evaluated for every trace
+     * @return a structured consumer that formats traces as text
+     */
+    static HttpLogConsumer of(Consumer<String> logMessageConsumer, BooleanSupplier enabled) {
+        return new TextHttpLogConsumer(logMessageConsumer, enabled);
+    }
+}
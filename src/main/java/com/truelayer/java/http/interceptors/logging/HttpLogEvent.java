@@ -0,0 +1,219 @@
+package com.truelayer.java.http.interceptors.logging;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import okhttp3.Headers;
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Structured HTTP trace handed to {@link HttpLogConsumer}s. Values are read straight from the
+ * underlying OkHttp request and response, and sensitive header values are masked while read.
+ * <p>
+ * Instances are reused across calls: they must not be retained past the consumer invocation.
+ * Consumers that need to keep a trace should copy the values they are interested in.
+ */
+@Getter
+public final class HttpLogEvent {
+    public static final String IDEMPOTENCY_KEY = "idempotency_key";
+    public static final String DIRECTION = "direction";
+    public static final String CODE = "code";
+    public static final String METHOD = "method";
+    public static final String URL = "url";
+    public static final String BODY = "body";
+
+    /**
+     * Value of the response code and elapsed time of request traces.
+     */
+    public static final int NO_CODE = -1;
+
+    @Getter(AccessLevel.NONE)
+    private SensitiveHeaderGuard sensitiveHeaderGuard;
+
+    private HttpLogPrefix prefix;
+
+    private String idempotencyKey;
+
+    private String method;
+
+    private HttpUrl url;
+
+    private int code = NO_CODE;
+
+    /**
+     * Time elapsed between sending the request and receiving the response headers, in milliseconds.
+     */
+    private long elapsedMillis = NO_CODE;
+
+    /**
+     * Response body, if captured by the consumer that handed this trace on.
+     */
+    private String body;
+
+    @Getter(AccessLevel.NONE)
+    private Headers headers;
+
+    // available while the trace is consumed in the context of the call only
+    @Getter(AccessLevel.NONE)
+    private Response response;
+
+    HttpLogEvent(SensitiveHeaderGuard sensitiveHeaderGuard) {
+        this.sensitiveHeaderGuard = sensitiveHeaderGuard;
+    }
+
+    HttpLogEvent forRequest(Request request, String idempotencyKey) {
+        return set(HttpLogPrefix.OUTGOING, idempotencyKey, request, null);
+    }
+
+    HttpLogEvent forResponse(Request request, String idempotencyKey, Response response) {
+        return set(HttpLogPrefix.INCOMING, idempotencyKey, request, response);
+    }
+
+    void clear() {
+        set(null, null, null, null);
+    }
+
+    /**
+     * Copies the given trace by reference, which is safe as OkHttp headers and URLs are immutable.
+     * The response itself is not copied, so that its body is never retained.
+     */
+    void copyFrom(HttpLogEvent other) {
+        this.sensitiveHeaderGuard = other.sensitiveHeaderGuard;
+        this.prefix = other.prefix;
+        this.idempotencyKey = other.idempotencyKey;
+        this.method = other.method;
+        this.url = other.url;
+        this.code = other.code;
+        this.elapsedMillis = other.elapsedMillis;
+        this.body = other.body;
+        this.headers = other.headers;
+        this.response = null;
+    }
+
+    void setBody(String body) {
+        this.body = body;
+    }
+
+    Response getResponse() {
+        return response;
+    }
+
+    private HttpLogEvent set(HttpLogPrefix prefix, String idempotencyKey, Request request, Response response) {
+        this.prefix = prefix;
+        this.idempotencyKey = idempotencyKey;
+        this.method = request != null ? request.method() : null;
+        this.url = request != null ? request.url() : null;
+        this.code = response != null ? response.code() : NO_CODE;
+        this.elapsedMillis =
+                response != null ? response.receivedResponseAtMillis() - response.sentRequestAtMillis() : NO_CODE;
+        this.body = null;
+        this.headers = response != null ? response.headers() : request != null ? request.headers() : null;
+        this.response = response;
+        return this;
+    }
+
+    /**
+     * @return whether this is the trace of a response
+     */
+    public boolean isResponse() {
+        return code != NO_CODE;
+    }
+
+    /**
+     * @return the number of headers of the traced request or response
+     */
+    public int getHeaderCount() {
+        return headers != null ? headers.size() : 0;
+    }
+
+    /**
+     * @param index the index of the header, in the order sent or received
+     * @return the name of the header
+     */
+    public String getHeaderName(int index) {
+        return headers.name(index);
+    }
+
+    /**
+     * @param index the index of the header, in the order sent or received
+     * @return the value of the header, masked if the header is sensitive
+     */
+    public String getHeaderValue(int index) {
+        return sensitiveHeaderGuard.isSensitiveHeader(headers.name(index))
+                ? SensitiveHeaderGuard.SENSITIVE_HEADER_MASK
+                : headers.value(index);
+    }
+
+    /**
+     * Visits the fields of this trace as key/value pairs, without building any intermediate collection.
+     * @param visitor the visitor of the fields
+     */
+    public void visit(FieldVisitor visitor) {
+        visitor.onField(IDEMPOTENCY_KEY, idempotencyKey);
+        visitor.onField(DIRECTION, prefix.getPrefix());
+        if (isResponse()) {
+            visitor.onField(CODE, code);
+        }
+        visitor.onField(METHOD, method);
+        visitor.onField(URL, url.toString());
+        for (int i = 0, size = getHeaderCount(); i < size; i++) {
+            visitor.onHeader(getHeaderName(i), getHeaderValue(i));
+        }
+        if (body != null) {
+            visitor.onField(BODY, body);
+        }
+    }
+
+    /**
+     * Formats this trace as text, like <code>[HTTP|idempotency-key] &lt;-- 200 GET url headers=[name=value]</code>.
+     * @param buffer the buffer to append to
+     * @return the same buffer
+     */
+    public StringBuilder appendTo(StringBuilder buffer) {
+        buffer.append("[HTTP|").append(idempotencyKey).append("] ").append(prefix.getPrefix());
+        if (isResponse()) {
+            buffer.append(' ').append(code);
+        }
+        buffer.append(' ').append(method).append(' ').append(url).append(" headers=[");
+        for (int i = 0, size = getHeaderCount(); i < size; i++) {
+            if (i > 0) {
+                buffer.append(", ");
+            }
+            buffer.append(getHeaderName(i)).append('=').append(getHeaderValue(i));
+        }
+        buffer.append(']');
+        if (body != null) {
+            buffer.append(" body=").append(body);
+        }
+        return buffer;
+    }
+
+    @Override
+    public String toString() {
+        return appendTo(new StringBuilder()).toString();
+    }
+
+    /**
+     * Visitor of the key/value fields of a trace.
+     */
+    public interface FieldVisitor {
+        /**
+         * @param key the key of the field
+         * @param value the value of the field, possibly null
+         */
+        void onField(String key, String value);
+
+        /**
+         * @param key the key of the field
+         * @param value the value of the field
+         */
+        void onField(String key, int value);
+
+        /**
+         * @param name the name of the header
+         * @param value the value of the header, masked if sensitive
+         */
+        void onHeader(String name, String value);
+    }
+}
@@ -0,0 +1,42 @@
+package com.truelayer.java.http.interceptors.logging;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Class that models the sampling of HTTP traces. The outcome of a call is unknown when its request is sent,
+ * hence request traces are sampled with the success rate, while the response traces of failed and slow calls
+ * are always kept, even if the trace of their request was sampled out.
+ */
+@Builder
+@Getter
+public class HttpLogSampling {
+
+    /**
+     * The fraction of successful calls traced, between 0 and 1. All of them by default.
+     */
+    @Builder.Default
+    private double successRate = 1;
+
+    /**
+     * Whether the responses with a 4xx or 5xx status code are always traced.
+     */
+    @Builder.Default
+    private boolean keepErrors = true;
+
+    /**
+     * Optional threshold over which the responses are always traced, measured from the request being sent
+     * to the response headers being received.
+     */
+    private Duration slowCallThreshold;
+
+    boolean sampleRequest(double random) {
+        return random < successRate;
+    }
+
+    boolean keepResponse(HttpLogEvent response) {
+        return keepErrors && response.getCode() >= 400
+                || slowCallThreshold != null && response.getElapsedMillis() >= slowCallThreshold.toMillis();
+    }
+}
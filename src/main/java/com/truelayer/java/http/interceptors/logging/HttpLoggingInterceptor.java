@@ -1,46 +1,52 @@
 package com.truelayer.java.http.interceptors.logging;
 
 import static com.truelayer.java.Constants.HeaderNames.IDEMPOTENCY_KEY;
-import static com.truelayer.java.http.interceptors.logging.HttpLogPrefix.INCOMING;
-import static com.truelayer.java.http.interceptors.logging.HttpLogPrefix.OUTGOING;
 
 import java.io.IOException;
 import java.util.function.Consumer;
-import lombok.RequiredArgsConstructor;
 import okhttp3.Interceptor;
 import okhttp3.Request;
 import okhttp3.Response;
 
-@RequiredArgsConstructor
 public class HttpLoggingInterceptor implements Interceptor {
-    private final Consumer<String> logMessageConsumer;
-    private final SensitiveHeaderGuard sensitiveHeaderGuard;
+    private final HttpLogConsumer logConsumer;
+
+    // events are reused by the thread executing the call, as they never outlive the consumer invocation
+    private final ThreadLocal<HttpLogEvent> events;
+
+    public HttpLoggingInterceptor(Consumer<String> logMessageConsumer, SensitiveHeaderGuard sensitiveHeaderGuard) {
+        this(HttpLogConsumer.of(logMessageConsumer), sensitiveHeaderGuard);
+    }
+
+    public HttpLoggingInterceptor(HttpLogConsumer logConsumer, SensitiveHeaderGuard sensitiveHeaderGuard) {
+        this.logConsumer = logConsumer;
+        this.events = ThreadLocal.withInitial(() -> new HttpLogEvent(sensitiveHeaderGuard));
+    }
 
     @Override
     public Response intercept(Chain chain) throws IOException {
         Request request = chain.request();
-        String idempotencyKey = request.header(IDEMPOTENCY_KEY);
+        if (!logConsumer.isEnabled()) {
+            return chain.proceed(request);
+        }
 
-        String requestTrace = HttpLogMessage.builder()
-                .idempotencyKey(idempotencyKey)
-                .prefix(OUTGOING)
-                .method(request.method())
-                .url(request.url().toString())
-                .headers(sensitiveHeaderGuard.getSanitizedHeaders(request.headers()))
-                .build();
-        logMessageConsumer.accept(requestTrace);
+        String idempotencyKey = request.header(IDEMPOTENCY_KEY);
+        HttpLogEvent event = events.get();
+        try {
+            logConsumer.accept(event.forRequest(request, idempotencyKey));
+        } finally {
+            event.clear();
+        }
 
         Response response = chain.proceed(request);
 
-        String responseTrace = HttpLogMessage.builder()
-                .idempotencyKey(idempotencyKey)
-                .prefix(INCOMING)
-                .code(response.code())
-                .method(request.method())
-                .url(request.url().toString())
-                .headers(sensitiveHeaderGuard.getSanitizedHeaders(response.headers()))
-                .build();
-        logMessageConsumer.accept(responseTrace);
+        if (logConsumer.isEnabled()) {
+            try {
+                logConsumer.accept(event.forResponse(request, idempotencyKey, response));
+            } finally {
+                event.clear();
+            }
+        }
 
         return response;
     }
@@ -0,0 +1,50 @@
+package com.truelayer.java.http.interceptors.logging;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Masks the values of the given fields of JSON bodies, at any depth. Bodies are copied token by token,
+ * so that a body truncated by the capture cap, or not valid JSON at all, is copied only up to the last
+ * complete token: values are never written unless the redaction of their field has been decided.
+ */
+@RequiredArgsConstructor
+class JsonBodyRedactor {
+    static final String TRUNCATION_MARK = "...";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private final Set<String> redactedFields;
+
+    String redact(String body, boolean truncated) {
+        StringWriter writer = new StringWriter(body.length());
+        boolean complete = false;
+        try (JsonParser parser = JSON_FACTORY.createParser(body);
+                JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME && redactedFields.contains(parser.getCurrentName())) {
+                    String fieldName = parser.getCurrentName();
+                    parser.nextToken();
+                    parser.skipChildren();
+                    generator.writeFieldName(fieldName);
+                    generator.writeString(SensitiveHeaderGuard.SENSITIVE_HEADER_MASK);
+                } else {
+                    generator.copyCurrentEvent(parser);
+                }
+            }
+            complete = true;
+        } catch (IOException e) {
+            // truncated or invalid body: only the tokens copied so far are kept
+        }
+        return !complete || truncated ? writer.append(TRUNCATION_MARK).toString() : writer.toString();
+    }
+}
@@ -0,0 +1,41 @@
+package com.truelayer.java.http.interceptors.logging;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Structured consumer that formats traces as text into a per thread reusable buffer,
+ * so that the only allocation left for each trace is the resulting message.
+ */
+@RequiredArgsConstructor
+class TextHttpLogConsumer implements HttpLogConsumer {
+    private static final int INITIAL_BUFFER_CAPACITY = 512;
+
+    // buffers grown past this capacity by unusually large traces are not retained
+    private static final int MAX_RETAINED_BUFFER_CAPACITY = 16 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFERS =
+            ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER_CAPACITY));
+
+    private final Consumer<String> logMessageConsumer;
+    private final BooleanSupplier enabled;
+
+    @Override
+    public boolean isEnabled() {
+        return enabled.getAsBoolean();
+    }
+
+    @Override
+    public void accept(HttpLogEvent event) {
+        StringBuilder buffer = BUFFERS.get();
+        buffer.setLength(0);
+        try {
+            logMessageConsumer.accept(event.appendTo(buffer).toString());
+        } finally {
+            if (buffer.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+                BUFFERS.remove();
+            }
+        }
+    }
+}
@@ -1,20 +1,57 @@
 package com.truelayer.java.http.mappers;
 
-import static com.truelayer.java.Utils.getObjectMapper;
-
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.truelayer.java.Constants;
+import com.truelayer.java.Utils;
 import com.truelayer.java.http.entities.ProblemDetails;
-import com.truelayer.java.http.mappers.entities.LegacyError;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import lombok.Getter;
 import okhttp3.Headers;
 import okhttp3.ResponseBody;
 import org.apache.commons.lang3.ObjectUtils;
 import retrofit2.Response;
 
+/**
+ * Maps error responses to problem details objects. Error bodies are decoded in a single pass from the byte stream,
+ * accepting both the Problem Details format and the legacy <code>{"error": "..."}</code> one, and bodies larger than
+ * the configured limit are mapped to a generic error.
+ */
 public class ErrorMapper {
     public static final String GENERIC_ERROR_TITLE = "server_error";
     public static final String GENERIC_ERROR_TYPE = "https://docs.truelayer.com/docs/error-types";
+    public static final int DEFAULT_MAX_ERROR_BODY_SIZE = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    @Getter
+    private final int maxErrorBodySize;
+
+    public ErrorMapper() {
+        this(DEFAULT_MAX_ERROR_BODY_SIZE);
+    }
+
+    /**
+     * Constructor for this class, parsing error bodies with the default library object mapper.
+     * @param maxErrorBodySize the maximum number of bytes read from an error body
+     */
+    public ErrorMapper(int maxErrorBodySize) {
+        this(Utils.getObjectMapper(), maxErrorBodySize);
+    }
+
+    /**
+     * Constructor for this class.
+     * @param objectMapper the object mapper used to parse error bodies
+     * @param maxErrorBodySize the maximum number of bytes read from an error body
+     */
+    public ErrorMapper(ObjectMapper objectMapper, int maxErrorBodySize) {
+        this.objectMapper = objectMapper;
+        this.maxErrorBodySize = maxErrorBodySize;
+    }
 
     public <T> ProblemDetails toProblemDetails(Response<T> response) {
         final String correlationId = tryGetCorrelationId(response.headers());
@@ -24,32 +61,79 @@ public class ErrorMapper {
             return buildFallbackError(response.code(), correlationId, GENERIC_ERROR_TITLE);
         }
 
-        final String errorBodyString;
-        try {
-            errorBodyString = errorBody.string();
-        } catch (IOException e) {
+        try (JsonParser parser = objectMapper
+                .getFactory()
+                .createParser(new CappedInputStream(errorBody.byteStream(), maxErrorBodySize))) {
+            return parseError(parser, response.code(), correlationId);
+        } catch (IOException | RuntimeException e) {
             return buildFallbackError(response.code(), correlationId, GENERIC_ERROR_TITLE);
+        } finally {
+            errorBody.close();
+        }
+    }
+
+    private ProblemDetails parseError(JsonParser parser, int code, String correlationId) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return buildFallbackError(code, correlationId, GENERIC_ERROR_TITLE);
         }
 
-        ProblemDetails problemDetails;
-        try {
-            problemDetails = getObjectMapper().readValue(errorBodyString, ProblemDetails.class);
-        } catch (JsonProcessingException e) {
-            return tryMapLegacyError(response.code(), correlationId, errorBodyString);
+        ProblemDetails.ProblemDetailsBuilder problemDetails = ProblemDetails.builder();
+        String type = null;
+        String title = null;
+        Integer status = null;
+        String legacyError = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (value.isStructStart() && !"errors".equals(name)) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (name) {
+                case "type":
+                    type = parser.getValueAsString();
+                    break;
+                case "title":
+                    title = parser.getValueAsString();
+                    break;
+                case "status":
+                    status = value == JsonToken.VALUE_NULL ? null : parser.getValueAsInt();
+                    break;
+                case "detail":
+                    problemDetails.detail(parser.getValueAsString());
+                    break;
+                case "trace_id":
+                    problemDetails.traceId(parser.getValueAsString());
+                    break;
+                case "errors":
+                    problemDetails.errors(readErrors(parser));
+                    break;
+                case "error":
+                    legacyError = parser.getValueAsString();
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        if (parser.currentToken() != JsonToken.END_OBJECT) {
+            // truncated or malformed body
+            return buildFallbackError(code, correlationId, GENERIC_ERROR_TITLE);
         }
 
-        return problemDetails.isWellFormed()
-                ? problemDetails
-                : tryMapLegacyError(response.code(), correlationId, errorBodyString);
+        ProblemDetails problem = problemDetails.type(type).title(title).status(status).build();
+        if (problem.isWellFormed()) {
+            return problem;
+        }
+        // legacy errors carry the error code only
+        return buildFallbackError(code, correlationId, legacyError);
     }
 
-    private ProblemDetails tryMapLegacyError(int code, String correlationId, String errorBody) {
-        try {
-            LegacyError legacyError = getObjectMapper().readValue(errorBody, LegacyError.class);
-            return buildFallbackError(code, correlationId, legacyError.getError());
-        } catch (JsonProcessingException e) {
-            return buildFallbackError(code, correlationId, GENERIC_ERROR_TITLE);
+    private JsonNode readErrors(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
         }
+        // errors are rare, and the problem details can be shared across threads, hence the tree is built eagerly
+        return objectMapper.readTree(parser);
     }
 
     private ProblemDetails buildFallbackError(int code, String correlationId, String title) {
@@ -67,4 +151,40 @@ public class ErrorMapper {
         }
         return headers.get(Constants.HeaderNames.TL_CORRELATION_ID);
     }
+
+    /**
+     * Input stream that signals the end of the stream once the given number of bytes has been read.
+     */
+    private static final class CappedInputStream extends FilterInputStream {
+        private long remaining;
+
+        CappedInputStream(InputStream in, long maxBytes) {
+            super(in);
+            this.remaining = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b != -1) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = super.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+    }
 }
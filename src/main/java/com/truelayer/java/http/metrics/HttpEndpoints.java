@@ -0,0 +1,36 @@
+package com.truelayer.java.http.metrics;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import okhttp3.Request;
+import retrofit2.Invocation;
+
+/**
+ * Names the endpoints HTTP calls are made to, for metrics purposes. Calls made through our API interfaces
+ * are named after the interface method, like <code>IPaymentsApi.createPayment</code>, which keeps the number
+ * of names bounded regardless of the identifiers in the URLs.
+ */
+public final class HttpEndpoints {
+    private static final ConcurrentMap<Method, String> NAMES = new ConcurrentHashMap<>();
+
+    private HttpEndpoints() {}
+
+    /**
+     * Returns the name of the endpoint of a request.
+     * @param request the request
+     * @return the name of the API interface method the request was made with if any,
+     * the method and host of the request otherwise
+     */
+    public static String nameOf(Request request) {
+        Invocation invocation = request.tag(Invocation.class);
+        if (invocation == null) {
+            return request.method() + " " + request.url().host();
+        }
+        Method method = invocation.method();
+        String name = NAMES.get(method);
+        return name != null
+                ? name
+                : NAMES.computeIfAbsent(method, m -> m.getDeclaringClass().getSimpleName() + "." + m.getName());
+    }
+}
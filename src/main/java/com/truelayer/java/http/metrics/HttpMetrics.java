@@ -0,0 +1,110 @@
+package com.truelayer.java.http.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import lombok.Value;
+
+/**
+ * Collects the latency of the phases of HTTP calls in per endpoint histograms, with a microsecond resolution.
+ * Useful to tell whether slow calls are spending their time queueing, fetching tokens, signing, connecting
+ * or waiting for the server.
+ *
+ * @see HttpPhase
+ */
+public class HttpMetrics implements IHttpMetricsRecorder {
+    private static final HttpPhase[] PHASES = HttpPhase.values();
+
+    /**
+     * internal state
+     */
+    private final ConcurrentMap<String, AtomicReferenceArray<LatencyHistogram>> endpoints =
+            new ConcurrentHashMap<>();
+
+    @Override
+    public void record(String endpoint, HttpPhase phase, long nanos) {
+        AtomicReferenceArray<LatencyHistogram> histograms = endpoints.get(endpoint);
+        if (histograms == null) {
+            histograms = endpoints.computeIfAbsent(endpoint, e -> new AtomicReferenceArray<>(PHASES.length));
+        }
+        LatencyHistogram histogram = histograms.get(phase.ordinal());
+        if (histogram == null) {
+            histograms.compareAndSet(phase.ordinal(), null, new LatencyHistogram());
+            histogram = histograms.get(phase.ordinal());
+        }
+        histogram.recordMicros(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    /**
+     * Returns a point in time view of the latencies recorded so far, for every endpoint and phase observed.
+     * @return the list of latency snapshots
+     */
+    public List<PhaseSnapshot> snapshot() {
+        List<PhaseSnapshot> snapshots = new ArrayList<>();
+        endpoints.forEach((endpoint, histograms) -> {
+            for (HttpPhase phase : PHASES) {
+                LatencyHistogram histogram = histograms.get(phase.ordinal());
+                if (histogram != null) {
+                    snapshots.add(snapshotOf(endpoint, phase, histogram));
+                }
+            }
+        });
+        return Collections.unmodifiableList(snapshots);
+    }
+
+    /**
+     * Discards the latencies recorded so far.
+     */
+    public void reset() {
+        endpoints.clear();
+    }
+
+    private static PhaseSnapshot snapshotOf(String endpoint, HttpPhase phase, LatencyHistogram histogram) {
+        long[] counts = histogram.copyCounts();
+        long count = 0;
+        for (long bucketCount : counts) {
+            count += bucketCount;
+        }
+        long max = histogram.max();
+        return new PhaseSnapshot(
+                endpoint,
+                phase,
+                count,
+                micros(count == 0 ? 0 : histogram.sum() / count),
+                micros(Math.min(max, LatencyHistogram.valueAtPercentile(counts, count, 50))),
+                micros(Math.min(max, LatencyHistogram.valueAtPercentile(counts, count, 90))),
+                micros(Math.min(max, LatencyHistogram.valueAtPercentile(counts, count, 99))),
+                micros(Math.min(max, LatencyHistogram.valueAtPercentile(counts, count, 99.9))),
+                micros(max));
+    }
+
+    private static Duration micros(long micros) {
+        return Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(micros));
+    }
+
+    @Value
+    public static class PhaseSnapshot {
+        String endpoint;
+
+        HttpPhase phase;
+
+        long count;
+
+        Duration mean;
+
+        Duration p50;
+
+        Duration p90;
+
+        Duration p99;
+
+        Duration p999;
+
+        Duration max;
+    }
+}
@@ -0,0 +1,126 @@
+package com.truelayer.java.http.metrics;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+import okhttp3.Request;
+
+/**
+ * HTTP client event listener that records the latency of the network phases of a single call.
+ * Events of a call are delivered sequentially, hence no synchronization is needed.
+ *
+ * @see HttpMetricsEventListenerFactory
+ */
+class HttpMetricsEventListener extends EventListener {
+    private final HttpMetricsEventListenerFactory factory;
+    private final IHttpMetricsRecorder recorder;
+    private final String endpoint;
+
+    private long callStart;
+    private long dnsStart;
+    private long connectStart;
+    private long secureConnectStart;
+    private long requestStart;
+    private long requestEnd;
+    private long responseStart;
+
+    HttpMetricsEventListener(HttpMetricsEventListenerFactory factory, IHttpMetricsRecorder recorder, Call call) {
+        this.factory = factory;
+        this.recorder = recorder;
+        this.endpoint = HttpEndpoints.nameOf(call.request());
+    }
+
+    void onExecutionStart() {
+        recorder.record(endpoint, HttpPhase.QUEUE, System.nanoTime() - callStart);
+    }
+
+    @Override
+    public void callStart(Call call) {
+        callStart = System.nanoTime();
+        factory.onCallStarted(call, this);
+    }
+
+    @Override
+    public void dnsStart(Call call, String domainName) {
+        dnsStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+        recorder.record(endpoint, HttpPhase.DNS, System.nanoTime() - dnsStart);
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        connectStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectStart(Call call) {
+        secureConnectStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectEnd(Call call, Handshake handshake) {
+        recorder.record(endpoint, HttpPhase.TLS, System.nanoTime() - secureConnectStart);
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        recorder.record(endpoint, HttpPhase.CONNECT, System.nanoTime() - connectStart);
+    }
+
+    @Override
+    public void connectFailed(
+            Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol, IOException ioe) {
+        recorder.record(endpoint, HttpPhase.CONNECT, System.nanoTime() - connectStart);
+    }
+
+    @Override
+    public void requestHeadersStart(Call call) {
+        requestStart = System.nanoTime();
+    }
+
+    @Override
+    public void requestHeadersEnd(Call call, Request request) {
+        requestEnd = System.nanoTime();
+    }
+
+    @Override
+    public void requestBodyEnd(Call call, long byteCount) {
+        requestEnd = System.nanoTime();
+    }
+
+    @Override
+    public void responseHeadersStart(Call call) {
+        responseStart = System.nanoTime();
+        recorder.record(endpoint, HttpPhase.REQUEST, requestEnd - requestStart);
+        recorder.record(endpoint, HttpPhase.SERVER, responseStart - requestEnd);
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        recorder.record(endpoint, HttpPhase.RESPONSE, System.nanoTime() - responseStart);
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        onCallFinished(call);
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        onCallFinished(call);
+    }
+
+    private void onCallFinished(Call call) {
+        recorder.record(endpoint, HttpPhase.TOTAL, System.nanoTime() - callStart);
+        factory.onCallFinished(call);
+    }
+}
@@ -0,0 +1,53 @@
+package com.truelayer.java.http.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import lombok.RequiredArgsConstructor;
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Interceptor;
+
+/**
+ * Factory of the HTTP client event listeners that record the latency of the phases of each call.
+ * The time calls spend queued is recorded by the {@link #queueTimeInterceptor() interceptor} that must run first.
+ * Calls in progress are weakly referenced, so that calls that never complete are dropped once garbage collected.
+ *
+ * @see HttpPhase
+ */
+@RequiredArgsConstructor
+public class HttpMetricsEventListenerFactory implements EventListener.Factory {
+    private final IHttpMetricsRecorder recorder;
+
+    /**
+     * internal state
+     */
+    private final Map<Call, HttpMetricsEventListener> calls = Collections.synchronizedMap(new WeakHashMap<>());
+
+    @Override
+    public EventListener create(Call call) {
+        return new HttpMetricsEventListener(this, recorder, call);
+    }
+
+    /**
+     * Returns the application interceptor that records the time calls spend queued before being executed.
+     * @return the interceptor, to be added before any other interceptor
+     */
+    public Interceptor queueTimeInterceptor() {
+        return chain -> {
+            HttpMetricsEventListener listener = calls.get(chain.call());
+            if (listener != null) {
+                listener.onExecutionStart();
+            }
+            return chain.proceed(chain.request());
+        };
+    }
+
+    void onCallStarted(Call call, HttpMetricsEventListener listener) {
+        calls.put(call, listener);
+    }
+
+    void onCallFinished(Call call) {
+        calls.remove(call);
+    }
+}
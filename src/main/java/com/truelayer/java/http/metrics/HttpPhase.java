@@ -0,0 +1,48 @@
+package com.truelayer.java.http.metrics;
+
+/**
+ * Phases of the HTTP calls whose latency is recorded. Phases of a call can overlap, and the ones related
+ * to connections are recorded only when a new connection is established.
+ */
+public enum HttpPhase {
+    /**
+     * From the call being submitted to the call being executed.
+     */
+    QUEUE,
+    /**
+     * Fetching the access token, either from the cache or the authentication server.
+     */
+    TOKEN,
+    /**
+     * Signing the request.
+     */
+    SIGNING,
+    /**
+     * Resolving the host name.
+     */
+    DNS,
+    /**
+     * Establishing a connection, including the TLS handshake.
+     */
+    CONNECT,
+    /**
+     * The TLS handshake.
+     */
+    TLS,
+    /**
+     * Writing the request headers and body.
+     */
+    REQUEST,
+    /**
+     * From the request being written to the response headers being received.
+     */
+    SERVER,
+    /**
+     * Reading the response headers and body.
+     */
+    RESPONSE,
+    /**
+     * The whole call, retries and redirects included.
+     */
+    TOTAL
+}
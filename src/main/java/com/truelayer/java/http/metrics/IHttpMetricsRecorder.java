@@ -0,0 +1,18 @@
+package com.truelayer.java.http.metrics;
+
+/**
+ * Recorder of the latency of the phases of HTTP calls. Invoked on the request hot path,
+ * implementations are expected to be non-blocking and allocation free.
+ *
+ * @see HttpMetrics the default in memory implementation
+ */
+public interface IHttpMetricsRecorder {
+
+    /**
+     * Records the latency of a phase of an HTTP call.
+     * @param endpoint the name of the endpoint called, as returned by {@link HttpEndpoints#nameOf(okhttp3.Request)}
+     * @param phase the phase of the call
+     * @param nanos the latency of the phase, in nanoseconds
+     */
+    void record(String endpoint, HttpPhase phase, long nanos);
+}
@@ -0,0 +1,154 @@
+package com.truelayer.java.http.tracing;
+
+import static com.truelayer.java.Constants.HeaderNames.TL_CORRELATION_ID;
+import static com.truelayer.java.Constants.HeaderNames.TRACEPARENT;
+
+import com.truelayer.java.http.metrics.HttpEndpoints;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import retrofit2.Invocation;
+
+/**
+ * Traces the calls made through our API interfaces with the configured tracer: spans are started when calls
+ * are submitted, and ended when they complete, right before their futures are completed in the span context.
+ * <p>
+ * The trace context of a call is handed over to the {@link #traceContextInterceptor() interceptor} that sends it,
+ * keyed by the Retrofit invocation the request is tagged with, as OkHttp requests cannot be changed once created
+ * and are rebuilt by the interceptors that run before, while their tags are preserved.
+ */
+public final class CallTracer {
+    private final ITracer tracer;
+    private final boolean injectTraceparent;
+
+    /**
+     * internal state, keyed by identity as a new invocation is created for each call
+     */
+    private final Map<Object, String> pendingTraceparents = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    public CallTracer(TracingOptions tracingOptions) {
+        this.tracer = tracingOptions.getTracer();
+        this.injectTraceparent = tracingOptions.isInjectTraceparent();
+    }
+
+    /**
+     * @return whether calls are traced at all
+     */
+    public boolean isEnabled() {
+        return tracer != ITracer.NOOP;
+    }
+
+    /**
+     * Starts the span of a call.
+     * @param request the request of the call, not sent yet
+     * @return the active span of the call
+     */
+    public ActiveSpan start(Request request) {
+        String endpoint = HttpEndpoints.nameOf(request);
+        ISpan span = tracer.startSpan(endpoint);
+        if (injectTraceparent) {
+            String traceparent = span.getTraceparent();
+            pendingTraceparents.put(keyOf(request), traceparent != null ? traceparent : Traceparent.random());
+        }
+        return new ActiveSpan(request, endpoint, span, System.nanoTime());
+    }
+
+    /**
+     * Returns the application interceptor that sends the trace context of the calls.
+     * @return the interceptor
+     */
+    public Interceptor traceContextInterceptor() {
+        return chain -> {
+            Request request = chain.request();
+            String traceparent = pendingTraceparents.remove(keyOf(request));
+            return chain.proceed(
+                    traceparent != null
+                            ? request.newBuilder().header(TRACEPARENT, traceparent).build()
+                            : request);
+        };
+    }
+
+    /**
+     * Requests made through our API interfaces are tagged with their Retrofit invocation, which is preserved
+     * by <code>Request.newBuilder()</code>. Other requests can only be matched as long as they are not rebuilt.
+     */
+    private static Object keyOf(Request request) {
+        Invocation invocation = request.tag(Invocation.class);
+        return invocation != null ? invocation : request;
+    }
+
+    /**
+     * Span of a call in flight.
+     */
+    public final class ActiveSpan {
+        private final Request request;
+        private final String endpoint;
+        private final ISpan span;
+        private final long start;
+
+        private ActiveSpan(Request request, String endpoint, ISpan span, long start) {
+            this.request = request;
+            this.endpoint = endpoint;
+            this.span = span;
+            this.start = start;
+        }
+
+        /**
+         * Ends the span of a call completed with a response.
+         * @param response the final raw response
+         */
+        public void end(Response response) {
+            int retries = 0;
+            for (Response prior = response.priorResponse(); prior != null; prior = prior.priorResponse()) {
+                retries++;
+            }
+            end(SpanOutcome.builder()
+                    .status(response.code())
+                    .retries(retries)
+                    .correlationId(response.header(TL_CORRELATION_ID)));
+        }
+
+        /**
+         * Ends the span of a call failed without a response.
+         * @param failure the failure of the call
+         */
+        public void end(Throwable failure) {
+            end(SpanOutcome.builder().status(SpanOutcome.NO_STATUS).failure(failure));
+        }
+
+        /**
+         * Runs the given task in the context of the span's caller.
+         * @param task the task to run
+         */
+        public void runInContext(Runnable task) {
+            boolean[] ran = new boolean[1];
+            try {
+                span.runInContext(() -> {
+                    ran[0] = true;
+                    task.run();
+                });
+            } catch (RuntimeException e) {
+                // a failing tracer must not prevent the call future from being completed
+                if (!ran[0]) {
+                    task.run();
+                }
+            }
+        }
+
+        private void end(SpanOutcome.SpanOutcomeBuilder outcome) {
+            // the request might have never been sent, as for calls cancelled while queued
+            pendingTraceparents.remove(keyOf(request));
+            try {
+                span.end(outcome.endpoint(endpoint)
+                        .duration(Duration.ofNanos(System.nanoTime() - start))
+                        .build());
+            } catch (RuntimeException e) {
+                // a failing tracer must not prevent the call future from being completed
+            }
+        }
+    }
+}
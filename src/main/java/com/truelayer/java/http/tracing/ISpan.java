@@ -0,0 +1,37 @@
+package com.truelayer.java.http.tracing;
+
+/**
+ * Span of a call, started by an {@link ITracer}.
+ */
+public interface ISpan {
+
+    /**
+     * Span that does nothing.
+     */
+    ISpan NOOP = outcome -> {};
+
+    /**
+     * Returns the W3C trace context of this span, sent as <code>traceparent</code> header if injection is enabled.
+     * @return the <code>traceparent</code> header value, or null to let the library generate one
+     * @see <a href="https://www.w3.org/TR/trace-context/#traceparent-header">W3C trace context</a>
+     */
+    default String getTraceparent() {
+        return null;
+    }
+
+    /**
+     * Runs the given task with the context of this span's caller made current. The completion of the call future,
+     * and hence all the dependent stages run synchronously by it, happens in this context even if it runs on a
+     * thread of the HTTP client.
+     * @param task the task to run
+     */
+    default void runInContext(Runnable task) {
+        task.run();
+    }
+
+    /**
+     * Ends this span. Invoked once, on the thread of the HTTP client that completed the call.
+     * @param outcome the outcome of the call
+     */
+    void end(SpanOutcome outcome);
+}
@@ -0,0 +1,23 @@
+package com.truelayer.java.http.tracing;
+
+/**
+ * Tracing SPI, to bridge the calls made by the library to the tracing system of the application.
+ * Spans are started on the thread that makes the call, so that implementations can capture the context
+ * current there as the parent of the span.
+ *
+ * @see TracingOptions
+ */
+public interface ITracer {
+
+    /**
+     * Tracer that does nothing. Calls made with it skip tracing altogether.
+     */
+    ITracer NOOP = endpoint -> ISpan.NOOP;
+
+    /**
+     * Starts the span of a call.
+     * @param endpoint the name of the endpoint called, like <code>IPaymentsApi.createPayment</code>
+     * @return the span of the call, ended once the call completes
+     */
+    ISpan startSpan(String endpoint);
+}
@@ -0,0 +1,44 @@
+package com.truelayer.java.http.tracing;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Outcome of a traced call.
+ */
+@Value
+@Builder
+public class SpanOutcome {
+    /**
+     * Value of the status code of calls failed without a response.
+     */
+    public static final int NO_STATUS = -1;
+
+    String endpoint;
+
+    /**
+     * The HTTP status code of the final response, or {@link #NO_STATUS} if the call failed without one.
+     */
+    int status;
+
+    /**
+     * From the call being submitted to its completion.
+     */
+    Duration duration;
+
+    /**
+     * The number of requests sent before the final one, as a result of redirects or authentication challenges.
+     */
+    int retries;
+
+    /**
+     * The value of the <code>X-Tl-Correlation-Id</code> header of the final response, if any.
+     */
+    String correlationId;
+
+    /**
+     * The failure of calls failed without a response.
+     */
+    Throwable failure;
+}
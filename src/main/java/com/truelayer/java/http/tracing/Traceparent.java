@@ -0,0 +1,50 @@
+package com.truelayer.java.http.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generator of W3C <code>traceparent</code> header values, for spans that do not provide their own.
+ * @see <a href="https://www.w3.org/TR/trace-context/#traceparent-header">W3C trace context</a>
+ */
+final class Traceparent {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private Traceparent() {}
+
+    /**
+     * @return a sampled trace context with random trace and parent ids
+     */
+    static String random() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        char[] value = new char[55];
+        value[0] = '0';
+        value[1] = '0';
+        value[2] = '-';
+        long traceIdHigh;
+        long traceIdLow;
+        long parentId;
+        // all zero ids are invalid
+        do {
+            traceIdHigh = random.nextLong();
+            traceIdLow = random.nextLong();
+        } while (traceIdHigh == 0 && traceIdLow == 0);
+        do {
+            parentId = random.nextLong();
+        } while (parentId == 0);
+        writeHex(value, 3, traceIdHigh);
+        writeHex(value, 19, traceIdLow);
+        value[35] = '-';
+        writeHex(value, 36, parentId);
+        value[52] = '-';
+        value[53] = '0';
+        value[54] = '1';
+        return new String(value);
+    }
+
+    private static void writeHex(char[] buffer, int offset, long value) {
+        for (int i = 15; i >= 0; i--) {
+            buffer[offset + i] = HEX_DIGITS[(int) (value & 0xf)];
+            value >>>= 4;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.truelayer.java.http.tracing;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Class that models the tracing of the calls made by the library.
+ */
+@Builder
+@Getter
+public class TracingOptions {
+
+    /**
+     * The tracer of the calls. Calls are not traced by default.
+     */
+    @Builder.Default
+    private ITracer tracer = ITracer.NOOP;
+
+    /**
+     * Whether the W3C <code>traceparent</code> header is sent with each request. Spans that do not provide
+     * their own trace context get a randomly generated one.
+     */
+    private boolean injectTraceparent;
+}
@@ -0,0 +1,60 @@
+package com.truelayer.java.management;
+
+/**
+ * Management interface of a TrueLayer client, exposing the live state of its internals over JMX.
+ * Attributes are read on demand, hence monitoring adds no work to the HTTP calls.
+ *
+ * @see TrueLayerClientManagement
+ */
+public interface TrueLayerClientMXBean {
+
+    /**
+     * @return the number of open connections of the HTTP client pool
+     */
+    int getConnectionCount();
+
+    /**
+     * @return the number of idle connections of the HTTP client pool
+     */
+    int getIdleConnectionCount();
+
+    /**
+     * @return the number of connections of the HTTP client pool carrying calls
+     */
+    int getActiveConnectionCount();
+
+    /**
+     * @return the number of calls being executed
+     */
+    int getRunningCallsCount();
+
+    /**
+     * @return the number of calls waiting for the dispatcher to execute them
+     */
+    int getQueuedCallsCount();
+
+    /**
+     * @return whether access tokens are cached at all
+     */
+    boolean isCredentialsCachingEnabled();
+
+    /**
+     * @return whether a valid access token is cached
+     */
+    boolean isTokenCached();
+
+    /**
+     * @return the seconds left before the cached access token expires, or -1 if unknown
+     */
+    long getTokenSecondsToExpiry();
+
+    /**
+     * Closes the idle connections of the HTTP client pool. Connections carrying calls are left untouched.
+     */
+    void evictIdleConnections();
+
+    /**
+     * Discards the cached access token, so that a new one is fetched by the next call.
+     */
+    void invalidateToken();
+}
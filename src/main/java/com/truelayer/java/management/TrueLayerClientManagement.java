@@ -0,0 +1,155 @@
+package com.truelayer.java.management;
+
+import static org.apache.commons.lang3.ObjectUtils.isEmpty;
+
+import com.truelayer.java.TrueLayerException;
+import com.truelayer.java.http.auth.cache.ICredentialsCache;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+
+/**
+ * JMX management bean of a TrueLayer client. Every client gets its own bean, registered on the platform
+ * MBean server under the name returned by {@link #objectNameOf(String)}.
+ * <p>
+ * The bean references the HTTP client, hence clients discarded while the application keeps running
+ * should be closed, which unregisters their bean. Beans registered directly can be unregistered by closing
+ * the {@link Registration} returned by {@link #register(String)}, or by name with {@link #unregister(String)}.
+ */
+@RequiredArgsConstructor
+public class TrueLayerClientManagement implements TrueLayerClientMXBean {
+    private static final String DOMAIN = "com.truelayer.java";
+
+    private final OkHttpClient httpClient;
+
+    /**
+     * Optional cache of the access tokens.
+     */
+    private final ICredentialsCache credentialsCache;
+
+    /**
+     * Returns the JMX object name of the bean of a client.
+     * @param name the name of the client
+     * @return the object name
+     */
+    public static ObjectName objectNameOf(String name) {
+        try {
+            return new ObjectName(DOMAIN + ":type=TrueLayerClient,name=" + ObjectName.quote(name));
+        } catch (JMException e) {
+            throw new TrueLayerException("Invalid JMX name: " + name, e);
+        }
+    }
+
+    /**
+     * Registers this bean on the platform MBean server.
+     * @param name the name of the client, unique in the JVM
+     * @return the registration of the bean, to close once the client is discarded
+     */
+    public Registration register(String name) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectNameOf(name));
+        } catch (JMException e) {
+            throw new TrueLayerException("Unable to register the JMX bean of client " + name, e);
+        }
+        return new Registration(name);
+    }
+
+    /**
+     * Unregisters the bean of a client from the platform MBean server, if registered.
+     * @param name the name of the client
+     */
+    public static void unregister(String name) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = objectNameOf(name);
+        try {
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            throw new TrueLayerException("Unable to unregister the JMX bean of client " + name, e);
+        }
+    }
+
+    @Override
+    public int getConnectionCount() {
+        return httpClient.connectionPool().connectionCount();
+    }
+
+    @Override
+    public int getIdleConnectionCount() {
+        return httpClient.connectionPool().idleConnectionCount();
+    }
+
+    @Override
+    public int getActiveConnectionCount() {
+        ConnectionPool connectionPool = httpClient.connectionPool();
+        // both counts are read without locking the pool, hence they might briefly disagree
+        return Math.max(0, connectionPool.connectionCount() - connectionPool.idleConnectionCount());
+    }
+
+    @Override
+    public int getRunningCallsCount() {
+        return httpClient.dispatcher().runningCallsCount();
+    }
+
+    @Override
+    public int getQueuedCallsCount() {
+        return httpClient.dispatcher().queuedCallsCount();
+    }
+
+    @Override
+    public boolean isCredentialsCachingEnabled() {
+        return !isEmpty(credentialsCache);
+    }
+
+    @Override
+    public boolean isTokenCached() {
+        return !isEmpty(credentialsCache) && credentialsCache.getToken().isPresent();
+    }
+
+    @Override
+    public long getTokenSecondsToExpiry() {
+        if (isEmpty(credentialsCache)) {
+            return -1;
+        }
+        return credentialsCache.getTimeToExpiry().map(Duration::getSeconds).orElse(-1L);
+    }
+
+    @Override
+    public void evictIdleConnections() {
+        // in-use connections are not evicted
+        httpClient.connectionPool().evictAll();
+    }
+
+    @Override
+    public void invalidateToken() {
+        if (!isEmpty(credentialsCache)) {
+            credentialsCache.clearToken();
+        }
+    }
+
+    /**
+     * Registration of a bean on the platform MBean server, unregistering the bean when closed.
+     * Closing a registration more than once has no effect.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Registration implements AutoCloseable {
+        private final String name;
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                unregister(name);
+            }
+        }
+    }
+}
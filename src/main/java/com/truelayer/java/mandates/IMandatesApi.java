@@ -10,6 +10,7 @@ import com.truelayer.java.payments.entities.AuthorizationFlowResponse;
 import com.truelayer.java.payments.entities.StartAuthorizationFlowRequest;
 import com.truelayer.java.payments.entities.SubmitProviderSelectionRequest;
 import java.util.concurrent.CompletableFuture;
+import okhttp3.ResponseBody;
 import retrofit2.http.*;
 
 /**
@@ -62,6 +63,20 @@ public interface IMandatesApi {
     CompletableFuture<ApiResponse<ListMandatesResponse>> listMandates(
             @Query("user_id") String userId, @Query("cursor") String cursor, @Query("limit") Integer limit);
 
+    /**
+     * List the mandates associated to the client used, without buffering the response body. The returned
+     * body must be closed by the caller.
+     * @param userId optional query parameters to only fetch mandates belonging to a particular user
+     * @param cursor cursor used for pagination purposes that represents the first item of the page
+     * @param limit maximum number of items included in a returned page
+     * @return the raw list of mandates matching the given criteria
+     * @see <a href="https://docs.truelayer.com/reference/list-mandate"><i>List mandates</i> API reference</a>
+     */
+    @Streaming
+    @GET("/mandates")
+    CompletableFuture<ApiResponse<ResponseBody>> streamMandates(
+            @Query("user_id") String userId, @Query("cursor") String cursor, @Query("limit") Integer limit);
+
     /**
      * Get mandate
      * @param mandateId the id of the mandate
@@ -1,12 +1,16 @@
 package com.truelayer.java.mandates;
 
+import com.truelayer.java.http.PaginatedIterator;
+import com.truelayer.java.http.StreamingItemsIterator;
 import com.truelayer.java.http.entities.ApiResponse;
 import com.truelayer.java.mandates.entities.*;
 import com.truelayer.java.mandates.entities.mandatedetail.MandateDetail;
 import com.truelayer.java.payments.entities.AuthorizationFlowResponse;
 import com.truelayer.java.payments.entities.StartAuthorizationFlowRequest;
 import com.truelayer.java.payments.entities.SubmitProviderSelectionRequest;
+import java.util.Spliterator;
 import java.util.concurrent.CompletableFuture;
+import org.reactivestreams.Publisher;
 
 /**
  * Provides /mandates API integration without the burden of Retrofit's annotation
@@ -25,6 +29,61 @@ public interface IMandatesHandler {
 
     CompletableFuture<ApiResponse<ListMandatesResponse>> listMandates(ListMandatesQuery query);
 
+    /**
+     * Lists the mandates of a single page, deserializing them one at a time while the response body is read.
+     * Memory usage does not depend on the page size. The returned iterator must be closed if not fully consumed.
+     * @param query the query used to fetch the page
+     * @return an iterator over the mandates of the requested page
+     */
+    default CompletableFuture<ApiResponse<StreamingItemsIterator<MandateDetail>>> streamMandates(
+            ListMandatesQuery query) {
+        throw new UnsupportedOperationException("streamMandates is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Lists all the mandates matching the given query as a Reactive Streams publisher.
+     * Pages are fetched on demand, following the pagination cursor returned by the API.
+     * @param query the query used to fetch the first page. Its limit is used as page size
+     * @return a publisher of all the mandates matching the given query
+     */
+    default Publisher<MandateDetail> listMandatesPublisher(ListMandatesQuery query) {
+        throw new UnsupportedOperationException("listMandatesPublisher is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Lists all the mandates matching the given query as a Reactive Streams publisher, prefetching
+     * the following pages while the current one is being consumed.
+     * @param query the query used to fetch the first page. Its limit is used as page size
+     * @param lookahead the maximum number of pages fetched ahead of the one being consumed
+     * @return a publisher of all the mandates matching the given query
+     */
+    default Publisher<MandateDetail> listMandatesPublisher(ListMandatesQuery query, int lookahead) {
+        throw new UnsupportedOperationException("listMandatesPublisher is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Lists all the mandates matching the given query as a blocking iterator, prefetching
+     * the following pages while the current one is being consumed. Closing the iterator stops the pagination.
+     * @param query the query used to fetch the first page. Its limit is used as page size
+     * @param lookahead the maximum number of pages fetched ahead of the one being consumed
+     * @return an iterator over all the mandates matching the given query
+     */
+    default PaginatedIterator<ListMandatesResponse, MandateDetail> listMandatesIterator(
+            ListMandatesQuery query, int lookahead) {
+        throw new UnsupportedOperationException("listMandatesIterator is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Lists all the mandates matching the given query as a spliterator, to be used with
+     * <code>StreamSupport.stream()</code>. Pages are prefetched as in {@link #listMandatesIterator}.
+     * @param query the query used to fetch the first page. Its limit is used as page size
+     * @param lookahead the maximum number of pages fetched ahead of the one being consumed
+     * @return a spliterator over all the mandates matching the given query
+     */
+    default Spliterator<MandateDetail> listMandatesSpliterator(ListMandatesQuery query, int lookahead) {
+        throw new UnsupportedOperationException("listMandatesSpliterator is not supported by " + getClass().getName());
+    }
+
     CompletableFuture<ApiResponse<MandateDetail>> getMandate(String mandateId);
 
     CompletableFuture<ApiResponse<Void>> revokeMandate(String mandateId);
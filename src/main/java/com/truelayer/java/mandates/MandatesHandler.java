@@ -1,5 +1,10 @@
 package com.truelayer.java.mandates;
 
+import com.truelayer.java.http.PaginatedIterator;
+import com.truelayer.java.http.PaginatedPublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.truelayer.java.Utils;
+import com.truelayer.java.http.StreamingItemsIterator;
 import com.truelayer.java.http.entities.ApiResponse;
 import com.truelayer.java.mandates.entities.CreateMandateRequest;
 import com.truelayer.java.mandates.entities.CreateMandateResponse;
@@ -10,13 +15,26 @@ import com.truelayer.java.mandates.entities.mandatedetail.MandateDetail;
 import com.truelayer.java.payments.entities.AuthorizationFlowResponse;
 import com.truelayer.java.payments.entities.StartAuthorizationFlowRequest;
 import com.truelayer.java.payments.entities.SubmitProviderSelectionRequest;
+import java.util.Spliterator;
 import java.util.concurrent.CompletableFuture;
+import lombok.AllArgsConstructor;
 import lombok.Value;
+import org.reactivestreams.Publisher;
 
 @Value
+@AllArgsConstructor
 public class MandatesHandler implements IMandatesHandler {
     IMandatesApi mandatesApi;
 
+    /**
+     * The object mapper used to deserialize streamed items, expected to be the one used by the API client.
+     */
+    ObjectMapper objectMapper;
+
+    public MandatesHandler(IMandatesApi mandatesApi) {
+        this(mandatesApi, Utils.getObjectMapper());
+    }
+
     @Override
     public CompletableFuture<ApiResponse<CreateMandateResponse>> createMandate(CreateMandateRequest request) {
         return mandatesApi.createMandate(request);
@@ -44,6 +62,46 @@ public class MandatesHandler implements IMandatesHandler {
         return mandatesApi.listMandates(query.userId(), query.cursor(), query.limit());
     }
 
+    @Override
+    public CompletableFuture<ApiResponse<StreamingItemsIterator<MandateDetail>>> streamMandates(
+            ListMandatesQuery query) {
+        return mandatesApi
+                .streamMandates(query.userId(), query.cursor(), query.limit())
+                .thenApply(
+                        response -> StreamingItemsIterator.fromResponse(response, objectMapper, MandateDetail.class));
+    }
+
+    @Override
+    public Publisher<MandateDetail> listMandatesPublisher(ListMandatesQuery query) {
+        return listMandatesPublisher(query, 0);
+    }
+
+    @Override
+    public Publisher<MandateDetail> listMandatesPublisher(ListMandatesQuery query, int lookahead) {
+        return new PaginatedPublisher<>(
+                cursor -> mandatesApi.listMandates(query.userId(), cursor, query.limit()),
+                ListMandatesResponse::getItems,
+                MandatesHandler::getNextCursor,
+                query.cursor(),
+                lookahead);
+    }
+
+    @Override
+    public PaginatedIterator<ListMandatesResponse, MandateDetail> listMandatesIterator(
+            ListMandatesQuery query, int lookahead) {
+        return new PaginatedIterator<>(
+                cursor -> mandatesApi.listMandates(query.userId(), cursor, query.limit()),
+                ListMandatesResponse::getItems,
+                MandatesHandler::getNextCursor,
+                query.cursor(),
+                lookahead);
+    }
+
+    @Override
+    public Spliterator<MandateDetail> listMandatesSpliterator(ListMandatesQuery query, int lookahead) {
+        return listMandatesIterator(query, lookahead).spliterator();
+    }
+
     @Override
     public CompletableFuture<ApiResponse<MandateDetail>> getMandate(String mandateId) {
         return mandatesApi.getMandate(mandateId);
@@ -59,4 +117,8 @@ public class MandatesHandler implements IMandatesHandler {
             String mandateId, String amount_in_minor, String currency) {
         return mandatesApi.getConfirmationOfFunds(mandateId, amount_in_minor, currency);
     }
+
+    private static String getNextCursor(ListMandatesResponse page) {
+        return page.getPagination() != null ? page.getPagination().getNextCursor() : null;
+    }
 }
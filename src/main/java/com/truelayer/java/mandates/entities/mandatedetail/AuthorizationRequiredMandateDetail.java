@@ -1,8 +1,11 @@
 package com.truelayer.java.mandates.entities.mandatedetail;
 
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 
+@JsonDeserialize(using = JsonDeserializer.None.class)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class AuthorizationRequiredMandateDetail extends MandateDetail {
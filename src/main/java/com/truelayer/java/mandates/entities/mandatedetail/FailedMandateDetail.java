@@ -1,6 +1,8 @@
 package com.truelayer.java.mandates.entities.mandatedetail;
 
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.truelayer.java.entities.AuthorizationFlowWithConfiguration;
 import java.time.ZonedDateTime;
 import lombok.EqualsAndHashCode;
@@ -8,6 +10,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
 
+@JsonDeserialize(using = JsonDeserializer.None.class)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class FailedMandateDetail extends MandateDetail {
@@ -2,16 +2,19 @@ package com.truelayer.java.mandates.entities.mandatedetail;
 
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.truelayer.java.TrueLayerException;
 import com.truelayer.java.entities.CurrencyCode;
 import com.truelayer.java.entities.User;
 import com.truelayer.java.entities.beneficiary.Beneficiary;
 import com.truelayer.java.entities.providerselection.ProviderSelection;
 import com.truelayer.java.mandates.entities.Constraints;
+import com.truelayer.java.serialization.SubtypeDeserializer;
 import java.time.ZonedDateTime;
 import java.util.Map;
 import lombok.*;
 
+@JsonDeserialize(using = SubtypeDeserializer.class)
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "status", defaultImpl = AuthorizationRequiredMandateDetail.class)
 @JsonSubTypes({
     @JsonSubTypes.Type(value = AuthorizationRequiredMandateDetail.class, name = "authorization_required"),
@@ -1,11 +1,14 @@
 package com.truelayer.java.mandates.entities.mandatedetail;
 
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.truelayer.java.entities.AuthorizationFlowWithConfiguration;
 import com.truelayer.java.entities.Remitter;
 import java.time.ZonedDateTime;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 
+@JsonDeserialize(using = JsonDeserializer.None.class)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class RevokedMandateDetail extends MandateDetail {
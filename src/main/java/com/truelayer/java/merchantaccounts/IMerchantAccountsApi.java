@@ -5,6 +5,7 @@ import com.truelayer.java.merchantaccounts.entities.*;
 import com.truelayer.java.merchantaccounts.entities.sweeping.SweepingSettings;
 import com.truelayer.java.merchantaccounts.entities.transactions.TransactionTypeQuery;
 import java.util.concurrent.CompletableFuture;
+import okhttp3.ResponseBody;
 import retrofit2.http.*;
 import retrofit2.http.GET;
 import retrofit2.http.Path;
@@ -51,6 +52,24 @@ public interface IMerchantAccountsApi {
             @Query("to") String to,
             @Query("type") TransactionTypeQuery type);
 
+    /**
+     * Get the transactions of a single merchant account, without buffering the response body. The returned
+     * body must be closed by the caller.
+     * @param merchantAccountId the id of the merchant account
+     * @param from Timestamp as a string for the start of the range you are querying. Mandatory
+     * @param to Timestamp as a string for the end of the range you are querying. Mandatory
+     * @param type Filter transactions by type. If omitted, both payments and payouts will be returned.
+     * @return the raw list of transactions matching the specified filters
+     * @see <a href="https://docs.truelayer.com/reference/get_merchant-accounts-id-transactions"><i>Get Transactions</i> API reference</a>
+     */
+    @Streaming
+    @GET("/merchant-accounts/{merchantAccountId}/transactions")
+    CompletableFuture<ApiResponse<ResponseBody>> streamTransactions(
+            @Path("merchantAccountId") String merchantAccountId,
+            @Query("from") String from,
+            @Query("to") String to,
+            @Query("type") TransactionTypeQuery type);
+
     /**
      * Set the automatic sweeping settings for a merchant account. At regular intervals, any available balance in excess
      * of the configured <code>max_amount_in_minor</code> is withdrawn to a pre-configured IBAN.
@@ -1,9 +1,13 @@
 package com.truelayer.java.merchantaccounts;
 
+import com.truelayer.java.http.StreamingItemsIterator;
 import com.truelayer.java.http.entities.ApiResponse;
 import com.truelayer.java.merchantaccounts.entities.*;
 import com.truelayer.java.merchantaccounts.entities.sweeping.SweepingSettings;
+import com.truelayer.java.merchantaccounts.entities.transactions.Transaction;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 import retrofit2.http.*;
 
 public interface IMerchantAccountsHandler {
@@ -15,6 +19,51 @@ public interface IMerchantAccountsHandler {
     CompletableFuture<ApiResponse<ListTransactionsResponse>> listTransactions(
             String merchantAccountId, ListTransactionsQuery query);
 
+    /**
+     * Lists the transactions matching the given query, deserializing them one at a time while the response
+     * body is read. Memory usage does not depend on the number of transactions returned.
+     * The returned iterator must be closed if not fully consumed.
+     * @param merchantAccountId the id of the merchant account
+     * @param query the transactions query
+     * @return an iterator over the transactions matching the given query
+     */
+    default CompletableFuture<ApiResponse<StreamingItemsIterator<Transaction>>> streamTransactions(
+            String merchantAccountId, ListTransactionsQuery query) {
+        throw new UnsupportedOperationException("streamTransactions is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Lists the transactions of the given time range by splitting it into sub windows, fetched in parallel
+     * with bounded concurrency. Transactions are streamed in timestamp order as windows complete, so that
+     * they don't need to be held in memory all together. Closing the stream cancels the in-flight requests.
+     * @param merchantAccountId the id of the merchant account
+     * @param query the transactions query. Its time range is split according to the given options
+     * @param options the time slicing options
+     * @return a stream of the transactions matching the given query, ordered by timestamp
+     * @see TimeSlicingOptions
+     */
+    default Stream<Transaction> listTransactions(
+            String merchantAccountId, ListTransactionsQuery query, TimeSlicingOptions options) {
+        throw new UnsupportedOperationException("listTransactions is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Runs an incremental synchronization of the transactions of a merchant account. Each run fetches only
+     * the window following the last checkpoint, with a small overlap, and returns the transactions that are new
+     * or changed since the previous run. The checkpoint is updated once the run completes successfully.
+     * <p>
+     * The checkpoint store is required and no default location is assumed. It is read on the calling thread and
+     * written on the checkpoint executor of the options, never on the threads of the HTTP client.
+     * @param merchantAccountId the id of the merchant account
+     * @param options the synchronization options, including the checkpoint store
+     * @return the new or changed transactions
+     * @see TransactionsSyncOptions
+     */
+    default CompletableFuture<List<Transaction>> syncTransactions(
+            String merchantAccountId, TransactionsSyncOptions options) {
+        throw new UnsupportedOperationException("syncTransactions is not supported by " + getClass().getName());
+    }
+
     CompletableFuture<ApiResponse<SweepingSettings>> updateSweeping(
             String merchantAccountId, UpdateSweepingRequest updateSweepingRequest);
 
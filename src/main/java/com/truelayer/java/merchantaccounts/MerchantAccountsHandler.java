@@ -1,17 +1,37 @@
 package com.truelayer.java.merchantaccounts;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.truelayer.java.Utils;
+import com.truelayer.java.http.StreamingItemsIterator;
 import com.truelayer.java.http.entities.ApiResponse;
 import com.truelayer.java.merchantaccounts.entities.*;
 import com.truelayer.java.merchantaccounts.entities.sweeping.SweepingSettings;
+import com.truelayer.java.merchantaccounts.entities.transactions.Transaction;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.AllArgsConstructor;
 import lombok.Value;
 
 @Value
+@AllArgsConstructor
 public class MerchantAccountsHandler implements IMerchantAccountsHandler {
 
     IMerchantAccountsApi merchantAccountsApi;
 
+    /**
+     * The object mapper used to deserialize streamed items, expected to be the one used by the API client.
+     */
+    ObjectMapper objectMapper;
+
+    public MerchantAccountsHandler(IMerchantAccountsApi merchantAccountsApi) {
+        this(merchantAccountsApi, Utils.getObjectMapper());
+    }
+
     @Override
     public CompletableFuture<ApiResponse<ListMerchantAccountsResponse>> listMerchantAccounts() {
         return merchantAccountsApi.listMerchantAccounts();
@@ -32,6 +52,45 @@ public class MerchantAccountsHandler implements IMerchantAccountsHandler {
                 query.type());
     }
 
+    @Override
+    public CompletableFuture<ApiResponse<StreamingItemsIterator<Transaction>>> streamTransactions(
+            String merchantAccountId, ListTransactionsQuery query) {
+        return merchantAccountsApi
+                .streamTransactions(
+                        merchantAccountId,
+                        DateTimeFormatter.ISO_ZONED_DATE_TIME.format(query.from()),
+                        DateTimeFormatter.ISO_ZONED_DATE_TIME.format(query.to()),
+                        query.type())
+                .thenApply(response -> StreamingItemsIterator.fromResponse(response, objectMapper, Transaction.class));
+    }
+
+    @Override
+    public Stream<Transaction> listTransactions(
+            String merchantAccountId, ListTransactionsQuery query, TimeSlicingOptions options) {
+        TimeSlicedTransactionsIterator iterator = new TimeSlicedTransactionsIterator(
+                (from, to) -> listTransactions(
+                        merchantAccountId,
+                        ListTransactionsQuery.builder()
+                                .from(from)
+                                .to(to)
+                                .type(query.type())
+                                .build()),
+                query.from(),
+                query.to(),
+                options);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(
+                                iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(iterator::close);
+    }
+
+    @Override
+    public CompletableFuture<List<Transaction>> syncTransactions(
+            String merchantAccountId, TransactionsSyncOptions options) {
+        return new TransactionsSynchronizer(this, options).sync(merchantAccountId);
+    }
+
     @Override
     public CompletableFuture<ApiResponse<SweepingSettings>> updateSweeping(
             String merchantAccountId, UpdateSweepingRequest updateSweepingRequest) {
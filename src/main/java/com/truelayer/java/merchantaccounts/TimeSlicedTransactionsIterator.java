@@ -0,0 +1,242 @@
+package com.truelayer.java.merchantaccounts;
+
+import com.truelayer.java.TrueLayerException;
+import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.merchantaccounts.entities.ListTransactionsResponse;
+import com.truelayer.java.merchantaccounts.entities.transactions.Transaction;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+
+/**
+ * Iterator over the transactions of a time range, fetched as sub windows in parallel.
+ * <ul>
+ *     <li>up to the configured number of consecutive windows is fetched concurrently</li>
+ *     <li>windows are consumed in order and their transactions sorted by timestamp, hence the whole
+ *     sequence is ordered by timestamp</li>
+ *     <li>the following windows are shrunk when a window returns too many transactions, and grown back
+ *     when they return few of them</li>
+ *     <li>windows failed because of network errors or server errors are split in halves and fetched again,
+ *     until the minimum window size is reached. Halves are fetched before the following windows, within the
+ *     same concurrency limit</li>
+ * </ul>
+ * Transactions returned by two adjacent windows, because of their shared boundary, are emitted once.
+ * Closing the iterator cancels the in-flight requests.
+ */
+final class TimeSlicedTransactionsIterator implements Iterator<Transaction>, AutoCloseable {
+    private static final Comparator<Transaction> BY_TIMESTAMP = Comparator.comparing(
+            Transaction::getTimestamp, Comparator.nullsLast(Comparator.comparing(ZonedDateTime::toInstant)));
+
+    private final BiFunction<ZonedDateTime, ZonedDateTime, CompletableFuture<ApiResponse<ListTransactionsResponse>>>
+            windowFetcher;
+    private final TimeSlicingOptions options;
+    private final ZonedDateTime end;
+
+    /**
+     * internal state
+     */
+    private final Deque<Window> windows = new ArrayDeque<>();
+
+    private int inFlightCount;
+
+    private ZonedDateTime nextStart;
+    private Duration windowSize;
+    private Set<String> previousWindowIds = Collections.emptySet();
+    private Iterator<Transaction> currentWindow = Collections.emptyIterator();
+    private volatile boolean closed;
+
+    TimeSlicedTransactionsIterator(
+            BiFunction<ZonedDateTime, ZonedDateTime, CompletableFuture<ApiResponse<ListTransactionsResponse>>>
+                    windowFetcher,
+            ZonedDateTime from,
+            ZonedDateTime to,
+            TimeSlicingOptions options) {
+        this.windowFetcher = windowFetcher;
+        this.options = validate(options);
+        this.nextStart = Objects.requireNonNull(from, "query from must be set");
+        this.end = Objects.requireNonNull(to, "query to must be set");
+        this.windowSize = options.getInitialWindow();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!currentWindow.hasNext()) {
+            scheduleWindows();
+            Window window = windows.pollFirst();
+            if (window == null) {
+                return false;
+            }
+            inFlightCount--;
+            List<Transaction> transactions = await(window);
+            if (transactions != null) {
+                adaptWindowSize(window, transactions.size());
+                currentWindow = deduplicateAndSort(transactions);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Transaction next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentWindow.next();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        Window window;
+        while ((window = windows.pollFirst()) != null) {
+            if (window.response != null) {
+                // propagates the cancellation down to the HTTP call
+                window.response.cancel(true);
+            }
+        }
+        inFlightCount = 0;
+        currentWindow = Collections.emptyIterator();
+    }
+
+    private void scheduleWindows() {
+        // the halves of split windows come first, hence the first window is always fetched
+        Iterator<Window> pending = windows.iterator();
+        while (!closed && inFlightCount < options.getMaxConcurrency() && pending.hasNext()) {
+            Window window = pending.next();
+            if (window.response == null) {
+                fetch(window);
+            }
+        }
+
+        while (!closed && inFlightCount < options.getMaxConcurrency() && nextStart.isBefore(end)) {
+            ZonedDateTime windowEnd = nextStart.plus(windowSize);
+            if (windowEnd.isAfter(end)) {
+                windowEnd = end;
+            }
+            Window window = new Window(nextStart, windowEnd);
+            fetch(window);
+            windows.addLast(window);
+            nextStart = windowEnd;
+        }
+    }
+
+    private void fetch(Window window) {
+        try {
+            window.response = windowFetcher.apply(window.from, window.to);
+        } catch (RuntimeException e) {
+            window.response = new CompletableFuture<>();
+            window.response.completeExceptionally(e);
+        }
+        inFlightCount++;
+    }
+
+    private List<Transaction> await(Window window) {
+        ApiResponse<ListTransactionsResponse> response;
+        try {
+            response = window.response.join();
+        } catch (CancellationException e) {
+            return Collections.emptyList();
+        } catch (CompletionException e) {
+            return splitOrThrow(window, new TrueLayerException("Unable to fetch transactions", e.getCause()));
+        }
+
+        if (response.isError()) {
+            TrueLayerException error = new TrueLayerException(
+                    String.format("Unable to fetch transactions: %s", response.getError()));
+            Integer status = response.getError().getStatus();
+            if (status != null && status < 500) {
+                throw error;
+            }
+            return splitOrThrow(window, error);
+        }
+
+        List<Transaction> items = response.getData().getItems();
+        return items != null ? items : Collections.emptyList();
+    }
+
+    private List<Transaction> splitOrThrow(Window window, TrueLayerException error) {
+        Duration length = Duration.between(window.from, window.to);
+        if (closed || length.compareTo(options.getMinWindow().multipliedBy(2)) < 0) {
+            throw error;
+        }
+
+        // the halves are fetched by the next scheduling, so that the concurrency limit holds
+        ZonedDateTime middle = window.from.plus(length.dividedBy(2));
+        windows.addFirst(new Window(middle, window.to));
+        windows.addFirst(new Window(window.from, middle));
+        windowSize = max(options.getMinWindow(), length.dividedBy(2));
+        return null;
+    }
+
+    private void adaptWindowSize(Window window, int transactionsCount) {
+        Duration length = Duration.between(window.from, window.to);
+        if (transactionsCount > options.getMaxItemsPerWindow()) {
+            Duration target = length.multipliedBy(options.getMaxItemsPerWindow()).dividedBy(transactionsCount);
+            windowSize = max(options.getMinWindow(), min(windowSize, target));
+        } else if (transactionsCount < options.getMaxItemsPerWindow() / 2) {
+            windowSize = min(options.getInitialWindow(), windowSize.multipliedBy(2));
+        }
+    }
+
+    private Iterator<Transaction> deduplicateAndSort(List<Transaction> transactions) {
+        Set<String> windowIds = new HashSet<>();
+        List<Transaction> result = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            windowIds.add(transaction.getId());
+            if (!previousWindowIds.contains(transaction.getId())) {
+                result.add(transaction);
+            }
+        }
+        previousWindowIds = windowIds;
+        result.sort(BY_TIMESTAMP);
+        return result.iterator();
+    }
+
+    private static TimeSlicingOptions validate(TimeSlicingOptions options) {
+        Objects.requireNonNull(options, "time slicing options must be set");
+        if (!isPositive(options.getInitialWindow()) || !isPositive(options.getMinWindow())) {
+            throw new TrueLayerException("time slicing windows must be positive");
+        }
+        if (options.getMinWindow().compareTo(options.getInitialWindow()) > 0) {
+            throw new TrueLayerException("time slicing min window must not be greater than the initial window");
+        }
+        if (options.getMaxItemsPerWindow() < 1) {
+            throw new TrueLayerException("time slicing max items per window must be at least 1");
+        }
+        if (options.getMaxConcurrency() < 1) {
+            throw new TrueLayerException("time slicing max concurrency must be at least 1");
+        }
+        return options;
+    }
+
+    private static boolean isPositive(Duration duration) {
+        return duration != null && !duration.isNegative() && !duration.isZero();
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    private static final class Window {
+        private final ZonedDateTime from;
+        private final ZonedDateTime to;
+
+        /**
+         * null until the window is fetched
+         */
+        private CompletableFuture<ApiResponse<ListTransactionsResponse>> response;
+
+        Window(ZonedDateTime from, ZonedDateTime to) {
+            this.from = from;
+            this.to = to;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.truelayer.java.merchantaccounts;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Class that models the options used to split a transactions query into sub windows fetched in parallel.
+ * Windows must be positive, with a minimum window not greater than the initial one, and at least one window
+ * must be fetched at a time: otherwise listing the transactions fails with a {@link com.truelayer.java.TrueLayerException}.
+ */
+@Builder
+@Getter
+public class TimeSlicingOptions {
+
+    /**
+     * The initial size of the sub windows, which is also the largest size windows can grow back to.
+     */
+    @Builder.Default
+    private Duration initialWindow = Duration.ofDays(1);
+
+    /**
+     * The smallest size of the sub windows. Windows of this size are never split further.
+     */
+    @Builder.Default
+    private Duration minWindow = Duration.ofMinutes(1);
+
+    /**
+     * The number of transactions above which the following windows are shrunk.
+     */
+    @Builder.Default
+    private int maxItemsPerWindow = 1000;
+
+    /**
+     * The maximum number of windows fetched concurrently.
+     */
+    @Builder.Default
+    private int maxConcurrency = 4;
+}
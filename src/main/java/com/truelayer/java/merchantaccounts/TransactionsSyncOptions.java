@@ -0,0 +1,56 @@
+package com.truelayer.java.merchantaccounts;
+
+import com.truelayer.java.merchantaccounts.checkpoints.FileCheckpointStore;
+import com.truelayer.java.merchantaccounts.checkpoints.ICheckpointStore;
+import com.truelayer.java.merchantaccounts.entities.transactions.TransactionTypeQuery;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Class that models the options of the incremental synchronization of merchant account transactions.
+ */
+@Builder
+@Getter
+public class TransactionsSyncOptions {
+
+    /**
+     * The store of the synchronization checkpoints. Required: checkpoints can be stored as files
+     * in a directory of choice with a {@link FileCheckpointStore}.
+     */
+    private ICheckpointStore checkpointStore;
+
+    /**
+     * Optional executor the checkpoints are saved on, once the transactions are fetched, so that stores
+     * doing blocking I/O never run on the threads of the HTTP client. Defaults to the common fork join pool.
+     */
+    private Executor checkpointExecutor;
+
+    /**
+     * How far back the first synchronization of a merchant account goes.
+     */
+    @Builder.Default
+    private Duration initialLookback = Duration.ofDays(1);
+
+    /**
+     * How much each window overlaps the previous one, to catch transactions recorded late.
+     */
+    @Builder.Default
+    private Duration overlap = Duration.ofMinutes(5);
+
+    /**
+     * The maximum number of transactions remembered to detect duplicates and changes.
+     */
+    @Builder.Default
+    private int maxTrackedTransactions = 10_000;
+
+    /**
+     * Optional filter on the type of transactions.
+     */
+    private TransactionTypeQuery type;
+
+    @Builder.Default
+    private Clock clock = Clock.systemUTC();
+}
@@ -0,0 +1,90 @@
+package com.truelayer.java.merchantaccounts;
+
+import com.truelayer.java.TrueLayerException;
+import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.merchantaccounts.checkpoints.Checkpoint;
+import com.truelayer.java.merchantaccounts.entities.ListTransactionsQuery;
+import com.truelayer.java.merchantaccounts.entities.ListTransactionsResponse;
+import com.truelayer.java.merchantaccounts.entities.transactions.Transaction;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Runs an incremental synchronization of the transactions of a merchant account. Each run fetches the window
+ * going from the last high-water mark, minus the configured overlap, up to now, and returns only the transactions
+ * that are new or whose status or timestamp changed since they were last seen.
+ * Concurrent runs for the same merchant account are not supported.
+ * <p>
+ * The checkpoint is loaded on the calling thread, and saved on the configured checkpoint executor.
+ */
+@RequiredArgsConstructor
+final class TransactionsSynchronizer {
+    private final IMerchantAccountsHandler merchantAccountsHandler;
+    private final TransactionsSyncOptions options;
+
+    CompletableFuture<List<Transaction>> sync(String merchantAccountId) {
+        if (options.getCheckpointStore() == null) {
+            throw new TrueLayerException("checkpoint store must be set");
+        }
+        Optional<Checkpoint> checkpoint = options.getCheckpointStore().load(merchantAccountId);
+        ZonedDateTime to = ZonedDateTime.now(options.getClock());
+        ZonedDateTime from = checkpoint.map(c -> c.getHighWaterMark().minus(options.getOverlap()))
+                .orElse(to.minus(options.getInitialLookback()));
+        LinkedHashMap<String, String> fingerprints = new LinkedHashMap<>();
+        checkpoint.map(Checkpoint::getFingerprints).ifPresent(fingerprints::putAll);
+
+        ListTransactionsQuery query = ListTransactionsQuery.builder()
+                .from(from)
+                .to(to)
+                .type(options.getType())
+                .build();
+
+        Function<ApiResponse<ListTransactionsResponse>, List<Transaction>> processor = response -> {
+            if (response.isError()) {
+                throw new TrueLayerException(String.format("Unable to sync transactions: %s", response.getError()));
+            }
+
+            List<Transaction> changed = new ArrayList<>();
+            List<Transaction> items = response.getData().getItems();
+            for (Transaction transaction : items != null ? items : Collections.<Transaction>emptyList()) {
+                String fingerprint = fingerprint(transaction);
+                String previous = fingerprints.remove(transaction.getId());
+                // re-inserting moves the transaction to the most recent end of the map
+                fingerprints.put(transaction.getId(), fingerprint);
+                if (!fingerprint.equals(previous)) {
+                    changed.add(transaction);
+                }
+            }
+
+            evictOldest(fingerprints);
+            // the checkpoint is saved only once the window has been fully processed
+            options.getCheckpointStore().save(merchantAccountId, new Checkpoint(to, fingerprints));
+            return changed;
+        };
+
+        // the response is processed off the HTTP client threads, as stores may do blocking I/O
+        CompletableFuture<ApiResponse<ListTransactionsResponse>> response =
+                merchantAccountsHandler.listTransactions(merchantAccountId, query);
+        return options.getCheckpointExecutor() != null
+                ? response.thenApplyAsync(processor, options.getCheckpointExecutor())
+                : response.thenApplyAsync(processor);
+    }
+
+    private void evictOldest(LinkedHashMap<String, String> fingerprints) {
+        Iterator<String> iterator = fingerprints.keySet().iterator();
+        while (fingerprints.size() > options.getMaxTrackedTransactions() && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static String fingerprint(Transaction transaction) {
+        return String.format(
+                "%s|%s",
+                transaction.getStatus() != null ? transaction.getStatus().getStatus() : null,
+                transaction.getTimestamp() != null ? transaction.getTimestamp().toInstant() : null);
+    }
+}
@@ -0,0 +1,21 @@
+package com.truelayer.java.merchantaccounts.checkpoints;
+
+import java.time.ZonedDateTime;
+import java.util.Map;
+import lombok.Value;
+
+/**
+ * Class that models the progress of the transactions synchronization of a merchant account.
+ */
+@Value
+public class Checkpoint {
+    /**
+     * The end of the last synchronized window.
+     */
+    ZonedDateTime highWaterMark;
+
+    /**
+     * The fingerprints of the most recently synchronized transactions, by transaction id, in insertion order.
+     */
+    Map<String, String> fingerprints;
+}
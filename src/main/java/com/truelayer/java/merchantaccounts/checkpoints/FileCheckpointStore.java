@@ -0,0 +1,51 @@
+package com.truelayer.java.merchantaccounts.checkpoints;
+
+import com.truelayer.java.TrueLayerException;
+import com.truelayer.java.Utils;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import okio.ByteString;
+
+/**
+ * Checkpoint store that keeps a JSON file per merchant account in the given directory.
+ * Files are replaced atomically, so that a crash while saving never leaves a corrupted checkpoint.
+ */
+@RequiredArgsConstructor
+public class FileCheckpointStore implements ICheckpointStore {
+    private final Path directory;
+
+    @Override
+    public Optional<Checkpoint> load(String merchantAccountId) {
+        Path file = getFile(merchantAccountId);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Utils.getObjectMapper().readValue(file.toFile(), Checkpoint.class));
+        } catch (IOException e) {
+            throw new TrueLayerException(String.format("Unable to load checkpoint %s", file), e);
+        }
+    }
+
+    @Override
+    public void save(String merchantAccountId, Checkpoint checkpoint) {
+        Path file = getFile(merchantAccountId);
+        try {
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            Utils.getObjectMapper().writeValue(tempFile.toFile(), checkpoint);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new TrueLayerException(String.format("Unable to save checkpoint %s", file), e);
+        }
+    }
+
+    private Path getFile(String merchantAccountId) {
+        // merchant account ids are hashed to get safe file names
+        return directory.resolve(ByteString.encodeUtf8(merchantAccountId).sha256().hex() + ".json");
+    }
+}
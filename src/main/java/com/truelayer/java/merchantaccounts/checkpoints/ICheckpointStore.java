@@ -0,0 +1,23 @@
+package com.truelayer.java.merchantaccounts.checkpoints;
+
+import java.util.Optional;
+
+/**
+ * Interface that models a persistent store of transactions synchronization checkpoints.
+ */
+public interface ICheckpointStore {
+
+    /**
+     * Loads the checkpoint of a merchant account.
+     * @param merchantAccountId the id of the merchant account
+     * @return the last stored checkpoint, if any
+     */
+    Optional<Checkpoint> load(String merchantAccountId);
+
+    /**
+     * Stores the checkpoint of a merchant account, replacing the previous one.
+     * @param merchantAccountId the id of the merchant account
+     * @param checkpoint the checkpoint to store
+     */
+    void save(String merchantAccountId, Checkpoint checkpoint);
+}
@@ -1,11 +1,15 @@
 package com.truelayer.java.merchantaccounts.entities.transactions;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.truelayer.java.entities.CurrencyCode;
 import com.truelayer.java.entities.Remitter;
 import java.time.ZonedDateTime;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 
+@JsonDeserialize(using = JsonDeserializer.None.class)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class ExternalPayment extends Transaction {
@@ -23,4 +27,10 @@ public class ExternalPayment extends Transaction {
     ZonedDateTime settledAt;
 
     Remitter remitter;
+
+    @Override
+    @JsonIgnore
+    public ZonedDateTime getTimestamp() {
+        return settledAt;
+    }
 }
@@ -1,6 +1,9 @@
 package com.truelayer.java.merchantaccounts.entities.transactions;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.truelayer.java.entities.CurrencyCode;
 import com.truelayer.java.entities.beneficiary.Beneficiary;
 import java.time.ZonedDateTime;
@@ -10,6 +13,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
 
+@JsonDeserialize(using = JsonDeserializer.None.class)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class Payout extends Transaction {
@@ -34,6 +38,12 @@ public class Payout extends Transaction {
 
     String payoutId;
 
+    @Override
+    @JsonIgnore
+    public ZonedDateTime getTimestamp() {
+        return createdAt;
+    }
+
     public Optional<ZonedDateTime> getSettledAt() {
         return Optional.ofNullable(settledAt);
     }
@@ -4,10 +4,14 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.truelayer.java.TrueLayerException;
+import com.truelayer.java.serialization.SubtypeDeserializer;
+import java.time.ZonedDateTime;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+@JsonDeserialize(using = SubtypeDeserializer.class)
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type", defaultImpl = MerchantAccountPayment.class)
 @JsonSubTypes({
     @JsonSubTypes.Type(value = MerchantAccountPayment.class, name = "merchant_account_payment"),
@@ -19,6 +23,18 @@ public abstract class Transaction {
 
     public abstract Type getType();
 
+    public abstract String getId();
+
+    public abstract Status getStatus();
+
+    /**
+     * Returns the timestamp transactions are ordered by: the settlement time for payments
+     * and the creation time for payouts.
+     * @return the transaction timestamp
+     */
+    @JsonIgnore
+    public abstract ZonedDateTime getTimestamp();
+
     @RequiredArgsConstructor
     @Getter
     public enum Type {
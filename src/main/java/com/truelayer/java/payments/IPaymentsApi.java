@@ -1,11 +1,13 @@
 package com.truelayer.java.payments;
 
+import com.truelayer.java.Constants;
 import com.truelayer.java.http.entities.ApiResponse;
 import com.truelayer.java.payments.entities.*;
 import com.truelayer.java.payments.entities.paymentdetail.PaymentDetail;
 import java.util.concurrent.CompletableFuture;
 import retrofit2.http.Body;
 import retrofit2.http.GET;
+import retrofit2.http.Header;
 import retrofit2.http.POST;
 import retrofit2.http.Path;
 
@@ -25,6 +27,18 @@ public interface IPaymentsApi {
     @POST("/payments")
     CompletableFuture<ApiResponse<CreatePaymentResponse>> createPayment(@Body CreatePaymentRequest request);
 
+    /**
+     * Initialises a payment resource with an idempotency key supplied by the caller. Retries of the same
+     * logical payment must use the same key.
+     * @param idempotencyKey the idempotency key of the request
+     * @param request a create payment request payload
+     * @return the response of the <i>Create Payment</i> operation
+     * @see <a href="https://docs.truelayer.com/reference/create-payment"><i>Create Payment</i> API reference</a>
+     */
+    @POST("/payments")
+    CompletableFuture<ApiResponse<CreatePaymentResponse>> createPayment(
+            @Header(Constants.HeaderNames.IDEMPOTENCY_KEY) String idempotencyKey, @Body CreatePaymentRequest request);
+
     /**
      * Gets a payment resource by id.
      * @param paymentId the payment identifier
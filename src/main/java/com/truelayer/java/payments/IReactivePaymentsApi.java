@@ -0,0 +1,83 @@
+package com.truelayer.java.payments;
+
+import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.payments.entities.*;
+import com.truelayer.java.payments.entities.paymentdetail.PaymentDetail;
+import org.reactivestreams.Publisher;
+import retrofit2.http.Body;
+import retrofit2.http.GET;
+import retrofit2.http.POST;
+import retrofit2.http.Path;
+
+/**
+ * Exposes all the payments related capabilities of the library as Reactive Streams publishers.
+ * Publishers are cold: the HTTP call is issued only once a subscriber requests the result, and cancelling
+ * the subscription cancels the underlying HTTP call.
+ *
+ * @see IPaymentsApi
+ * @see <a href="https://docs.truelayer.com/reference/create-payment"><i>Payments</i> API reference</a>
+ */
+public interface IReactivePaymentsApi {
+
+    /**
+     * Initialises a payment resource.
+     * @param request a create payment request payload
+     * @return a publisher of the response of the <i>Create Payment</i> operation
+     * @see <a href="https://docs.truelayer.com/reference/create-payment"><i>Create Payment</i> API reference</a>
+     */
+    @POST("/payments")
+    Publisher<ApiResponse<CreatePaymentResponse>> createPayment(@Body CreatePaymentRequest request);
+
+    /**
+     * Gets a payment resource by id.
+     * @param paymentId the payment identifier
+     * @return a publisher of the response of the <i>Get Payment</i> operation
+     * @see <a href="https://docs.truelayer.com/reference/get-payment-1"><i>Get Payment</i> API reference</a>
+     */
+    @GET("/payments/{id}")
+    Publisher<ApiResponse<PaymentDetail>> getPayment(@Path("id") String paymentId);
+
+    /**
+     * Starts an authorization flow for a given payment resource.
+     * @param paymentId the payment identifier
+     * @param request a start authorization flow request payload
+     * @return a publisher of the response of the <i>Start Authorization Flow</i> operation
+     * @see <a href="https://docs.truelayer.com/reference/start-payment-authorization-flow"><i>Start Authorization Flow</i> API reference</a>
+     */
+    @POST("/payments/{id}/authorization-flow")
+    Publisher<ApiResponse<AuthorizationFlowResponse>> startAuthorizationFlow(
+            @Path("id") String paymentId, @Body StartAuthorizationFlowRequest request);
+
+    /**
+     * Submit the provider selection for a given payment resource.
+     * @param paymentId the payment identifier
+     * @param request a submit provider selection request payload
+     * @return a publisher of the response of the <i>Submit Provider Selection</i> operation
+     * @see <a href="https://docs.truelayer.com/reference/submit-provider-selection"><i>Submit Provider Selection</i> API reference</a>
+     */
+    @POST("/payments/{id}/authorization-flow/actions/provider-selection")
+    Publisher<ApiResponse<AuthorizationFlowResponse>> submitProviderSelection(
+            @Path("id") String paymentId, @Body SubmitProviderSelectionRequest request);
+
+    /**
+     * Submit consent collected from the PSU for a given payment resource.
+     * @param paymentId the payment identifier
+     * @param request a submit consent request payload
+     * @return a publisher of the response of the <i>Submit Consent</i> operation
+     * @see <a href="https://docs.truelayer.com/reference/submit-consent"><i>Submit Consent</i> API reference</a>
+     */
+    @POST("/payments/{id}/authorization-flow/actions/consent")
+    Publisher<ApiResponse<AuthorizationFlowResponse>> submitConsent(
+            @Path("id") String paymentId, @Body SubmitConsentRequest request);
+
+    /**
+     * Submit form inputs collected from the PSU for a given payment resource.
+     * @param paymentId the payment identifier
+     * @param request a submit form request payload
+     * @return a publisher of the response of the <i>Submit Form</i> operation
+     * @see <a href="https://docs.truelayer.com/reference/submit-form"><i>Submit Form</i> API reference</a>
+     */
+    @POST("/payments/{id}/authorization-flow/actions/form")
+    Publisher<ApiResponse<AuthorizationFlowResponse>> submitForm(
+            @Path("id") String paymentId, @Body SubmitFormRequest request);
+}
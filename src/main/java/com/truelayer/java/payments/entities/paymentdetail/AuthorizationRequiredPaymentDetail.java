@@ -1,7 +1,10 @@
 package com.truelayer.java.payments.entities.paymentdetail;
 
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.*;
 
+@JsonDeserialize(using = JsonDeserializer.None.class)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class AuthorizationRequiredPaymentDetail extends PaymentDetail {
@@ -1,10 +1,13 @@
 package com.truelayer.java.payments.entities.paymentdetail;
 
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.truelayer.java.payments.entities.paymentdetail.forminput.Input;
 import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 
+@JsonDeserialize(using = JsonDeserializer.None.class)
 @Value
 @EqualsAndHashCode(callSuper = false)
 public class Form extends AuthorizationFlowAction {
@@ -0,0 +1,240 @@
+package com.truelayer.java.paymentsproviders;
+
+import static org.apache.commons.lang3.ObjectUtils.isEmpty;
+
+import com.truelayer.java.paymentsproviders.entities.PaymentsProvider;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import org.tinylog.Logger;
+
+/**
+ * Local catalog of payments providers. The providers with the configured ids are fetched once with
+ * {@link #preload()} and can then be refreshed periodically in background, while all lookups are served
+ * from an immutable in memory index, by id, by country, by capability or by both.
+ * <p>
+ * Providers that cannot be refreshed keep their previous version until the next successful refresh.
+ */
+public class PaymentsProvidersCatalog implements AutoCloseable {
+
+    private final IPaymentsProvidersHandler paymentsProvidersHandler;
+
+    private final Collection<String> providerIds;
+
+    private final Duration refreshInterval;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final ScheduledExecutorService refreshExecutor;
+
+    private final boolean ownsRefreshExecutor;
+
+    /**
+     * internal state
+     */
+    private volatile Index index = new Index(Collections.emptyMap());
+
+    private ScheduledFuture<?> scheduledRefresh;
+
+    /**
+     * Constructor for this class.
+     * @param paymentsProvidersHandler the handler used to fetch the providers
+     * @param providerIds the ids of the providers to include in the catalog
+     * @param refreshInterval the interval between background refreshes. Defaults to 1 hour
+     * @param refreshExecutor the executor running background refreshes. Defaults to a dedicated daemon thread,
+     *                        shut down when the catalog is closed. An executor given here is never shut down
+     */
+    @Builder
+    public PaymentsProvidersCatalog(
+            IPaymentsProvidersHandler paymentsProvidersHandler,
+            Collection<String> providerIds,
+            Duration refreshInterval,
+            ScheduledExecutorService refreshExecutor) {
+        this.paymentsProvidersHandler = paymentsProvidersHandler;
+        this.providerIds = providerIds;
+        this.refreshInterval = refreshInterval != null ? refreshInterval : Duration.ofHours(1);
+        this.ownsRefreshExecutor = refreshExecutor == null;
+        this.refreshExecutor = ownsRefreshExecutor ? newRefreshExecutor() : refreshExecutor;
+    }
+
+    /**
+     * Fetches all the configured providers and indexes them.
+     * @return a future completed once all the providers have been fetched
+     */
+    public CompletableFuture<Void> preload() {
+        return refresh();
+    }
+
+    /**
+     * Schedules a periodic refresh of the catalog, using the configured interval.
+     */
+    public synchronized void startBackgroundRefresh() {
+        if (scheduledRefresh != null) {
+            return;
+        }
+        long interval = refreshInterval.toMillis();
+        scheduledRefresh = refreshExecutor.scheduleWithFixedDelay(
+                this::refreshQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the background refresh of the catalog, if any, and shuts down the default refresh executor.
+     */
+    @Override
+    public synchronized void close() {
+        if (scheduledRefresh != null) {
+            scheduledRefresh.cancel(false);
+            scheduledRefresh = null;
+        }
+        if (ownsRefreshExecutor) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns a provider by id.
+     * @param providerId the id of the provider
+     * @return the provider, if known to the catalog
+     */
+    public Optional<PaymentsProvider> getProvider(String providerId) {
+        return Optional.ofNullable(index.byId.get(providerId));
+    }
+
+    /**
+     * Returns all the providers in the catalog.
+     * @return the list of providers
+     */
+    public Collection<PaymentsProvider> getProviders() {
+        return index.byId.values();
+    }
+
+    /**
+     * Returns the providers of a given country.
+     * @param countryCode the ISO 3166-1 alpha-2 country code
+     * @return the list of matching providers
+     */
+    public List<PaymentsProvider> findByCountry(String countryCode) {
+        return index.byCountry.getOrDefault(countryCode, Collections.emptyList());
+    }
+
+    /**
+     * Returns the providers supporting a given capability.
+     * @param capability the capability
+     * @return the list of matching providers
+     */
+    public List<PaymentsProvider> findByCapability(ProviderCapability capability) {
+        return index.byCapability.get(capability);
+    }
+
+    /**
+     * Returns the providers of a given country supporting a given capability.
+     * @param countryCode the ISO 3166-1 alpha-2 country code
+     * @param capability the capability
+     * @return the list of matching providers
+     */
+    public List<PaymentsProvider> find(String countryCode, ProviderCapability capability) {
+        Map<ProviderCapability, List<PaymentsProvider>> byCapability = index.byCountryAndCapability.get(countryCode);
+        return byCapability == null ? Collections.emptyList() : byCapability.get(capability);
+    }
+
+    private CompletableFuture<Void> refresh() {
+        if (isEmpty(providerIds)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Map<String, PaymentsProvider> refreshed = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] fetches = providerIds.stream()
+                .map(providerId -> paymentsProvidersHandler
+                        .getProvider(providerId)
+                        .handle((response, throwable) -> {
+                            if (throwable == null && !response.isError()) {
+                                refreshed.put(providerId, response.getData());
+                            }
+                            return null;
+                        }))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(fetches).thenRun(() -> {
+            Map<String, PaymentsProvider> providers = new LinkedHashMap<>();
+            for (String providerId : providerIds) {
+                // providers that couldn't be fetched keep their previous version, if any
+                PaymentsProvider provider = refreshed.getOrDefault(providerId, index.byId.get(providerId));
+                if (provider != null) {
+                    providers.put(providerId, provider);
+                }
+            }
+            index = new Index(providers);
+        });
+    }
+
+    private void refreshQuietly() {
+        // an exception escaping the task would suppress all its subsequent executions
+        try {
+            refresh().join();
+        } catch (RuntimeException e) {
+            Logger.warn(e, "Unable to refresh the payments providers catalog");
+        }
+    }
+
+    private static ScheduledExecutorService newRefreshExecutor() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "truelayer-providers-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Immutable view of the catalog, swapped atomically on refresh.
+     */
+    private static final class Index {
+        private final Map<String, PaymentsProvider> byId;
+        private final Map<String, List<PaymentsProvider>> byCountry = new HashMap<>();
+        private final Map<ProviderCapability, List<PaymentsProvider>> byCapability =
+                new EnumMap<>(ProviderCapability.class);
+        private final Map<String, Map<ProviderCapability, List<PaymentsProvider>>> byCountryAndCapability =
+                new HashMap<>();
+
+        Index(Map<String, PaymentsProvider> providers) {
+            this.byId = Collections.unmodifiableMap(providers);
+
+            for (ProviderCapability capability : ProviderCapability.values()) {
+                byCapability.put(capability, new ArrayList<>());
+            }
+            for (PaymentsProvider provider : byId.values()) {
+                byCountry
+                        .computeIfAbsent(provider.getCountryCode(), c -> new ArrayList<>())
+                        .add(provider);
+                for (ProviderCapability capability : ProviderCapability.values()) {
+                    if (capability.isSupportedBy(provider)) {
+                        byCapability.get(capability).add(provider);
+                        byCountryAndCapability
+                                .computeIfAbsent(provider.getCountryCode(), c -> newCapabilityMap())
+                                .get(capability)
+                                .add(provider);
+                    }
+                }
+            }
+
+            byCountry.replaceAll((country, list) -> Collections.unmodifiableList(list));
+            byCapability.replaceAll((capability, list) -> Collections.unmodifiableList(list));
+            byCountryAndCapability.values()
+                    .forEach(map -> map.replaceAll((capability, list) -> Collections.unmodifiableList(list)));
+        }
+
+        private static Map<ProviderCapability, List<PaymentsProvider>> newCapabilityMap() {
+            Map<ProviderCapability, List<PaymentsProvider>> map = new EnumMap<>(ProviderCapability.class);
+            for (ProviderCapability capability : ProviderCapability.values()) {
+                map.put(capability, new ArrayList<>());
+            }
+            return map;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.truelayer.java.paymentsproviders;
+
+import com.truelayer.java.paymentsproviders.entities.Capabilities;
+import com.truelayer.java.paymentsproviders.entities.PaymentsProvider;
+import java.util.function.Predicate;
+
+/**
+ * Capabilities a payments provider can be indexed by in a providers catalog.
+ *
+ * @see PaymentsProvidersCatalog
+ */
+public enum ProviderCapability {
+    PAYMENTS_BANK_TRANSFER(c -> c.getPayments() != null && c.getPayments().getBankTransfer() != null),
+    MANDATES_VRP_SWEEPING(c -> c.getMandates() != null && c.getMandates().getVrpSweeping() != null),
+    MANDATES_VRP_COMMERCIAL(c -> c.getMandates() != null && c.getMandates().getVrpCommercial() != null);
+
+    private final Predicate<Capabilities> supported;
+
+    ProviderCapability(Predicate<Capabilities> supported) {
+        this.supported = supported;
+    }
+
+    /**
+     * Tells whether the given provider supports this capability.
+     * @param provider the provider to check
+     * @return true if the capability is supported, false otherwise
+     */
+    public boolean isSupportedBy(PaymentsProvider provider) {
+        return provider.getCapabilities() != null && supported.test(provider.getCapabilities());
+    }
+}
@@ -0,0 +1,152 @@
+package com.truelayer.java.serialization;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Deserializer for the polymorphic hierarchies of the library, which dispatches on the discriminator property
+ * declared with <code>@JsonTypeInfo</code> and <code>@JsonSubTypes</code> on the base class.
+ * <p>
+ * Properties are streamed straight to the deserializer of the resolved subtype: only the properties that precede
+ * the discriminator, if any, are buffered, and the subtype deserializers are resolved once per hierarchy. To be
+ * used on the base class with <code>@JsonDeserialize(using = SubtypeDeserializer.class)</code>, while subclasses
+ * must opt out with <code>@JsonDeserialize(using = JsonDeserializer.None.class)</code>.
+ */
+public class SubtypeDeserializer extends StdDeserializer<Object> implements ContextualDeserializer {
+    private final String discriminator;
+    private final Map<String, Class<?>> subtypes;
+    private final Class<?> defaultSubtype;
+    private final ConcurrentMap<Class<?>, JsonDeserializer<Object>> deserializers = new ConcurrentHashMap<>();
+
+    public SubtypeDeserializer() {
+        this(Object.class, null, Collections.emptyMap(), null);
+    }
+
+    private SubtypeDeserializer(
+            Class<?> baseType, String discriminator, Map<String, Class<?>> subtypes, Class<?> defaultSubtype) {
+        super(baseType);
+        this.discriminator = discriminator;
+        this.subtypes = subtypes;
+        this.defaultSubtype = defaultSubtype;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+        JavaType contextualType = ctxt.getContextualType();
+        if (contextualType == null && property != null) {
+            contextualType = property.getType();
+        }
+        if (contextualType == null) {
+            return this;
+        }
+        Class<?> baseType = contextualType.getRawClass();
+        if (baseType == handledType()) {
+            return this;
+        }
+
+        JsonTypeInfo typeInfo = baseType.getAnnotation(JsonTypeInfo.class);
+        JsonSubTypes subTypes = baseType.getAnnotation(JsonSubTypes.class);
+        if (typeInfo == null || subTypes == null) {
+            throw new IllegalStateException(String.format(
+                    "%s must be annotated with @JsonTypeInfo and @JsonSubTypes", baseType.getSimpleName()));
+        }
+
+        Map<String, Class<?>> subtypesByName = new HashMap<>();
+        for (JsonSubTypes.Type subType : subTypes.value()) {
+            subtypesByName.put(subType.name(), subType.value());
+        }
+        Class<?> defaultSubtype = typeInfo.defaultImpl() == JsonTypeInfo.class ? null : typeInfo.defaultImpl();
+        return new SubtypeDeserializer(baseType, typeInfo.property(), subtypesByName, defaultSubtype);
+    }
+
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return ctxt.handleUnexpectedToken(handledType(), p);
+        }
+
+        TokenBuffer buffer = null;
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String name = p.currentName();
+            p.nextToken();
+            if (discriminator.equals(name)) {
+                JsonDeserializer<Object> deserializer = findDeserializer(ctxt, p.getValueAsString());
+                if (buffer == null) {
+                    // common case for payloads written by the library: nothing to replay
+                    p.nextToken();
+                    return deserializer.deserialize(p, ctxt);
+                }
+                p.clearCurrentToken();
+                JsonParser sequence = JsonParserSequence.createFlattened(false, buffer.asParser(p), p);
+                sequence.nextToken();
+                return deserializer.deserialize(sequence, ctxt);
+            }
+
+            if (buffer == null) {
+                buffer = new TokenBuffer(p, ctxt);
+            }
+            buffer.writeFieldName(name);
+            buffer.copyCurrentStructure(p);
+        }
+
+        // the discriminator is missing, the default subtype is used if any
+        JsonDeserializer<Object> deserializer = findDeserializer(ctxt, null);
+        if (buffer == null) {
+            return deserializer.deserialize(p, ctxt);
+        }
+        buffer.writeEndObject();
+        JsonParser buffered = buffer.asParser(p);
+        buffered.nextToken();
+        return deserializer.deserialize(buffered, ctxt);
+    }
+
+    @Override
+    public Object deserializeWithType(JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer)
+            throws IOException {
+        // the discriminator is handled by this deserializer, bypassing the token buffering type deserializer
+        return deserialize(p, ctxt);
+    }
+
+    private JsonDeserializer<Object> findDeserializer(DeserializationContext ctxt, String typeId)
+            throws IOException {
+        Class<?> subtype = typeId != null ? subtypes.get(typeId) : null;
+        if (subtype == null) {
+            subtype = defaultSubtype;
+        }
+        if (subtype == null) {
+            return ctxt.reportInputMismatch(
+                    this,
+                    "Missing or unknown %s '%s' for %s",
+                    discriminator,
+                    typeId,
+                    handledType().getSimpleName());
+        }
+
+        JsonDeserializer<Object> deserializer = deserializers.get(subtype);
+        if (deserializer == null) {
+            deserializer = ctxt.findContextualValueDeserializer(ctxt.constructType(subtype), null);
+            deserializers.putIfAbsent(subtype, deserializer);
+        }
+        return deserializer;
+    }
+}
@@ -18,8 +18,12 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import lombok.SneakyThrows;
 import okhttp3.OkHttpClient;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 public class TestUtils {
 
@@ -183,6 +187,38 @@ public class TestUtils {
         }
     }
 
+    /**
+     * Utility to subscribe to a publisher and get its first item.
+     *
+     * @param publisher the publisher to subscribe to
+     * @return a future completed with the first item emitted
+     */
+    public static <T> CompletableFuture<T> awaitFirst(Publisher<T> publisher) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        publisher.subscribe(new Subscriber<T>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(T item) {
+                result.complete(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(null);
+            }
+        });
+        return result;
+    }
+
     public static OkHttpClient getHttpClientInstance() {
         return HTTP_CLIENT_INSTANCE;
     }
@@ -6,6 +6,11 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
 
 import com.truelayer.java.http.auth.cache.ICredentialsCache;
+import com.truelayer.java.management.TrueLayerClientManagement;
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import okhttp3.OkHttpClient;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -46,6 +51,45 @@ class TrueLayerClientBuilderTests {
         assertDoesNotThrow(sut::build);
     }
 
+    @Test
+    @DisplayName("It should build a client with a shared HTTP client")
+    public void itShouldBuildAClientWithASharedHttpClient() {
+        TrueLayerClientBuilder sut = new TrueLayerClientBuilder()
+                .clientCredentials(getClientCredentials())
+                .signingOptions(getSigningOptions())
+                .withHttpClient(new OkHttpClient());
+
+        assertDoesNotThrow(sut::build);
+    }
+
+    @Test
+    @DisplayName("It should build a client with request coalescing")
+    public void itShouldBuildAClientWithRequestCoalescing() {
+        TrueLayerClientBuilder sut = new TrueLayerClientBuilder()
+                .clientCredentials(getClientCredentials())
+                .signingOptions(getSigningOptions())
+                .withRequestCoalescing();
+
+        assertDoesNotThrow(sut::build);
+    }
+
+    @Test
+    @DisplayName("It should register the JMX bean of the client until the client is closed")
+    public void itShouldRegisterTheJmxBeanUntilClosed() {
+        ObjectName objectName = TrueLayerClientManagement.objectNameOf("a-client");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        TrueLayerClient trueLayerClient = new TrueLayerClientBuilder()
+                .clientCredentials(getClientCredentials())
+                .signingOptions(getSigningOptions())
+                .withJmx("a-client")
+                .build();
+
+        assertTrue(server.isRegistered(objectName));
+        trueLayerClient.close();
+        assertFalse(server.isRegistered(objectName));
+    }
+
     @Test
     @DisplayName("It should throw an exception if credentials options are missing")
     public void itShouldBuildASandboxTrueLaterClient() {
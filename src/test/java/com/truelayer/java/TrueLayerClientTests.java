@@ -3,6 +3,8 @@ package com.truelayer.java;
 import static com.truelayer.java.TestUtils.getClientCredentials;
 import static com.truelayer.java.TestUtils.getSigningOptions;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
 
 import com.truelayer.java.auth.IAuthenticationHandler;
 import com.truelayer.java.hpp.IHostedPaymentPageLinkBuilder;
@@ -111,4 +113,15 @@ public class TrueLayerClientTests {
 
         assertNotNull(merchantAccountsHandler);
     }
+
+    @Test
+    @DisplayName("It should throw an exception if reactive payments are not supported by an implementation")
+    public void itShouldThrowIfReactivePaymentsAreNotSupported() {
+        ITrueLayerClient trueLayerClient = mock(ITrueLayerClient.class, CALLS_REAL_METHODS);
+
+        UnsupportedOperationException thrown =
+                assertThrows(UnsupportedOperationException.class, trueLayerClient::reactivePayments);
+
+        assertTrue(thrown.getMessage().startsWith("reactivePayments is not supported"));
+    }
 }
@@ -26,4 +26,11 @@ public class UtilsTests {
                                 + "payments/200.get_payment_by_id.unknown_response_field.json")),
                         SettledPaymentDetail.class));
     }
+
+    @Test
+    @DisplayName("It should share a single object mapper and build new ones on request")
+    public void itShouldShareASingleObjectMapper() {
+        Assertions.assertSame(getObjectMapper(), getObjectMapper());
+        Assertions.assertNotSame(getObjectMapper(), Utils.newObjectMapper());
+    }
 }
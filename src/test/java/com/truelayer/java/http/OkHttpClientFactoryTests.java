@@ -6,10 +6,15 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.truelayer.java.ConnectionPoolOptions;
+import com.truelayer.java.Environment;
+import com.truelayer.java.HttpCacheOptions;
 import com.truelayer.java.TestUtils;
+import com.truelayer.java.TlsOptions;
 import com.truelayer.java.auth.AuthenticationHandler;
 import com.truelayer.java.auth.IAuthenticationHandler;
 import com.truelayer.java.http.auth.cache.SimpleCredentialsCache;
+import com.truelayer.java.http.connections.ConnectionStats;
+import com.truelayer.java.http.dns.CachingDns;
 import com.truelayer.java.http.interceptors.AuthenticationInterceptor;
 import com.truelayer.java.http.interceptors.IdempotencyKeyInterceptor;
 import com.truelayer.java.http.interceptors.SignatureInterceptor;
@@ -17,15 +22,21 @@ import com.truelayer.java.http.interceptors.UserAgentInterceptor;
 import com.truelayer.java.http.interceptors.logging.HttpLoggingInterceptor;
 import com.truelayer.java.versioninfo.VersionInfo;
 import com.truelayer.java.versioninfo.VersionInfoLoader;
+import java.io.File;
 import java.net.URI;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.function.Consumer;
+import okhttp3.ConnectionSpec;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.TlsVersion;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class OkHttpClientFactoryTests {
 
@@ -55,6 +66,96 @@ class OkHttpClientFactoryTests {
         assertEquals(customTimeout.toMillis(), baseApiClient.callTimeoutMillis(), "Unexpected call timeout configured");
     }
 
+    @Test
+    @DisplayName("It should build a Base API client on top of a shared HTTP client")
+    public void shouldCreateABaseApiClientFromASharedClient() {
+        OkHttpClient sharedHttpClient = new OkHttpClient.Builder().build();
+
+        OkHttpClient baseApiClient = getOkHttpClientFactory()
+                .buildBaseApiClient(BaseApiClientOptions.builder()
+                        .sharedHttpClient(sharedHttpClient)
+                        .build());
+
+        assertEquals(sharedHttpClient.connectionPool(), baseApiClient.connectionPool(), "Connection pool not shared");
+        assertEquals(sharedHttpClient.dispatcher(), baseApiClient.dispatcher(), "Dispatcher not shared");
+        assertTrue(
+                baseApiClient.interceptors().stream().anyMatch(i -> i.getClass().equals(UserAgentInterceptor.class)),
+                "User agent interceptor not found");
+        assertTrue(sharedHttpClient.interceptors().isEmpty(), "Shared client must not be modified");
+    }
+
+    @Test
+    @DisplayName("It should use a dedicated dispatcher if the shared one would be modified")
+    public void shouldNotModifyTheDispatcherOfASharedClient() {
+        OkHttpClient sharedHttpClient = new OkHttpClient.Builder().build();
+        int sharedMaxRequestsPerHost = sharedHttpClient.dispatcher().getMaxRequestsPerHost();
+
+        OkHttpClient baseApiClient = getOkHttpClientFactory()
+                .buildBaseApiClient(BaseApiClientOptions.builder()
+                        .sharedHttpClient(sharedHttpClient)
+                        .connectionPoolOptions(ConnectionPoolOptions.builder()
+                                .maxRequestsPerHost(50)
+                                .build())
+                        .build());
+
+        assertNotSame(sharedHttpClient.dispatcher(), baseApiClient.dispatcher());
+        assertEquals(50, baseApiClient.dispatcher().getMaxRequestsPerHost());
+        assertEquals(sharedMaxRequestsPerHost, sharedHttpClient.dispatcher().getMaxRequestsPerHost());
+    }
+
+    @Test
+    @DisplayName("It should build a Base API client with HTTP/2 tuning options")
+    public void shouldCreateABaseApiClientWithHttp2Options() {
+        ConnectionPoolOptions connectionPoolOptions = ConnectionPoolOptions.builder()
+                .protocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE))
+                .pingInterval(Duration.ofSeconds(10))
+                .maxRequestsPerHost(50)
+                .build();
+
+        OkHttpClient baseApiClient = getOkHttpClientFactory()
+                .buildBaseApiClient(BaseApiClientOptions.builder()
+                        .connectionPoolOptions(connectionPoolOptions)
+                        .connectionStats(new ConnectionStats())
+                        .build());
+
+        assertEquals(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE), baseApiClient.protocols());
+        assertEquals(10_000, baseApiClient.pingIntervalMillis(), "Unexpected ping interval configured");
+        assertEquals(50, baseApiClient.dispatcher().getMaxRequestsPerHost(), "Unexpected max requests per host");
+        assertNotNull(baseApiClient.eventListenerFactory());
+    }
+
+    @Test
+    @DisplayName("It should build a Base API client with a custom DNS resolver")
+    public void shouldCreateABaseApiClientWithACustomDns() {
+        CachingDns dns = CachingDns.builder().build();
+
+        OkHttpClient baseApiClient = getOkHttpClientFactory()
+                .buildBaseApiClient(BaseApiClientOptions.builder().dns(dns).build());
+
+        assertEquals(dns, baseApiClient.dns(), "Custom DNS resolver not found");
+    }
+
+    @Test
+    @DisplayName("It should build a Base API client with custom TLS options")
+    public void shouldCreateABaseApiClientWithTlsOptions() {
+        TlsOptions tlsOptions = TlsOptions.builder()
+                .sessionCacheSize(50)
+                .preferConscrypt(true)
+                .tlsVersions(Collections.singletonList("TLSv1.2"))
+                .cipherSuites(Collections.singletonList("TLS_ECDHE_ECDSA_WITH_AES_128_GCM_SHA256"))
+                .build();
+
+        OkHttpClient baseApiClient = getOkHttpClientFactory()
+                .buildBaseApiClient(BaseApiClientOptions.builder().tlsOptions(tlsOptions).build());
+
+        assertNotNull(baseApiClient.sslSocketFactory());
+        assertEquals(2, baseApiClient.connectionSpecs().size());
+        assertEquals(
+                Collections.singletonList(TlsVersion.TLS_1_2),
+                baseApiClient.connectionSpecs().get(0).tlsVersions());
+        assertTrue(baseApiClient.connectionSpecs().contains(ConnectionSpec.CLEARTEXT));
+    }
+
     @Test
     @DisplayName("It should build an Auth API client")
     public void shouldCreateAnAuthApiClient() {
@@ -118,6 +219,21 @@ class OkHttpClientFactoryTests {
         assertNotNull(paymentClient.authenticator());
     }
 
+    @Test
+    @DisplayName("It should store the cached responses of each client id and environment in their own directory")
+    public void shouldPartitionTheHttpCacheByClientIdAndEnvironment(@TempDir File directory) {
+        OkHttpClient baseApiClient = getOkHttpClientFactory().buildBaseApiClient(null, null, null, null);
+        HttpCacheOptions cacheOptions = HttpCacheOptions.builder().directory(directory).build();
+
+        OkHttpClient sandboxClient = getOkHttpClientFactory()
+                .buildCachingApiClient(baseApiClient, cacheOptions, getClientCredentials(), Environment.sandbox());
+        OkHttpClient liveClient = getOkHttpClientFactory()
+                .buildCachingApiClient(baseApiClient, cacheOptions, getClientCredentials(), Environment.live());
+
+        assertEquals(directory, sandboxClient.cache().directory().getParentFile());
+        assertNotEquals(sandboxClient.cache().directory(), liveClient.cache().directory());
+    }
+
     private OkHttpClientFactory getOkHttpClientFactory() {
         VersionInfo versionInfo = VersionInfo.builder()
                 .libraryName("truelayer-java")
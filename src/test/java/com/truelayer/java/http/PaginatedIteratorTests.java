@@ -0,0 +1,198 @@
+package com.truelayer.java.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.truelayer.java.TrueLayerException;
+import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.http.entities.ProblemDetails;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import lombok.SneakyThrows;
+import lombok.Value;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PaginatedIteratorTests {
+
+    @Test
+    @DisplayName("It should iterate over the items of all pages")
+    public void shouldIterateOverAllPages() {
+        List<String> requestedCursors = new ArrayList<>();
+        PaginatedIterator<Page, String> sut = buildIterator(buildPages(), requestedCursors, 0);
+
+        List<String> items = StreamSupport.stream(sut.spliterator(), false).collect(Collectors.toList());
+
+        assertEquals(Arrays.asList("a", "b", "c", "d"), items);
+        assertEquals(Arrays.asList(null, "cursor-1", "cursor-2"), requestedCursors);
+    }
+
+    @Test
+    @DisplayName("It should fetch pages only once needed without lookahead")
+    public void shouldFetchPagesOnceNeeded() {
+        List<String> requestedCursors = new ArrayList<>();
+        PaginatedIterator<Page, String> sut = buildIterator(buildPages(), requestedCursors, 0);
+        assertTrue(requestedCursors.isEmpty());
+
+        sut.next();
+
+        assertEquals(Collections.singletonList(null), requestedCursors);
+    }
+
+    @Test
+    @DisplayName("It should prefetch at most the lookahead of pages")
+    public void shouldPrefetchTheLookaheadOfPages() {
+        List<String> requestedCursors = new ArrayList<>();
+        PaginatedIterator<Page, String> sut = buildIterator(buildPages(), requestedCursors, 1);
+
+        sut.next();
+
+        assertEquals(Arrays.asList(null, "cursor-1"), requestedCursors);
+    }
+
+    @ParameterizedTest(name = "with lookahead {0}")
+    @ValueSource(ints = {0, 1, 2})
+    @DisplayName("It should iterate over all pages completed on another thread")
+    public void shouldIterateOverPagesCompletedOnAnotherThread(int lookahead) {
+        Map<String, Page> pages = buildPages();
+        PaginatedIterator<Page, String> sut = new PaginatedIterator<>(
+                cursor -> {
+                    SlowCallbacksFuture<ApiResponse<Page>> page = new SlowCallbacksFuture<>();
+                    CompletableFuture.runAsync(() -> {
+                        sleep(20);
+                        page.complete(ApiResponse.<Page>builder()
+                                .data(pages.get(cursor))
+                                .build());
+                    });
+                    return page;
+                },
+                Page::getItems,
+                Page::getNextCursor,
+                null,
+                lookahead);
+
+        List<String> items = StreamSupport.stream(sut.spliterator(), false).collect(Collectors.toList());
+
+        assertEquals(Arrays.asList("a", "b", "c", "d"), items);
+    }
+
+    @Test
+    @DisplayName("It should cancel the in flight page request when closed")
+    public void shouldCancelTheInFlightPageWhenClosed() {
+        CompletableFuture<ApiResponse<Page>> inFlightPage = new CompletableFuture<>();
+        Map<String, CompletableFuture<ApiResponse<Page>>> pages = new HashMap<>();
+        pages.put(null, CompletableFuture.completedFuture(ApiResponse.<Page>builder()
+                .data(new Page(Collections.singletonList("a"), "cursor-1"))
+                .build()));
+        pages.put("cursor-1", inFlightPage);
+        PaginatedIterator<Page, String> sut =
+                new PaginatedIterator<>(pages::get, Page::getItems, Page::getNextCursor, null, 1);
+
+        assertEquals("a", sut.next());
+        sut.close();
+
+        assertTrue(inFlightPage.isCancelled());
+        assertFalse(sut.hasNext());
+    }
+
+    @Test
+    @DisplayName("It should throw an exception if a page cannot be fetched")
+    public void shouldThrowIfAPageCannotBeFetched() {
+        ApiResponse<Page> errorResponse = ApiResponse.<Page>builder()
+                .error(ProblemDetails.builder().title("server_error").build())
+                .build();
+        PaginatedIterator<Page, String> sut = new PaginatedIterator<>(
+                cursor -> CompletableFuture.completedFuture(errorResponse),
+                Page::getItems,
+                Page::getNextCursor,
+                null,
+                0);
+
+        assertThrows(TrueLayerException.class, sut::hasNext);
+    }
+
+    @Test
+    @DisplayName("It should throw an exception once the items are consumed if the next cursor cannot be read")
+    public void shouldThrowIfTheNextCursorCannotBeRead() {
+        List<String> requestedCursors = new ArrayList<>();
+        PaginatedIterator<Page, String> sut = new PaginatedIterator<>(
+                cursor -> {
+                    requestedCursors.add(cursor);
+                    return CompletableFuture.completedFuture(ApiResponse.<Page>builder()
+                            .data(new Page(Collections.singletonList("a"), "cursor-1"))
+                            .build());
+                },
+                Page::getItems,
+                page -> {
+                    throw new IllegalStateException("malformed cursor");
+                },
+                null,
+                1);
+
+        assertEquals("a", sut.next());
+        TrueLayerException thrown = assertThrows(TrueLayerException.class, sut::hasNext);
+
+        assertInstanceOf(IllegalStateException.class, thrown.getCause());
+        assertEquals(Collections.singletonList(null), requestedCursors);
+    }
+
+    @Test
+    @DisplayName("It should stop on a page without data")
+    public void shouldStopOnAPageWithoutData() {
+        List<String> requestedCursors = new ArrayList<>();
+        PaginatedIterator<Page, String> sut = buildIterator(Collections.emptyMap(), requestedCursors, 1);
+
+        assertFalse(sut.hasNext());
+        assertEquals(Collections.singletonList(null), requestedCursors);
+    }
+
+    private Map<String, Page> buildPages() {
+        Map<String, Page> pages = new HashMap<>();
+        pages.put(null, new Page(Arrays.asList("a", "b"), "cursor-1"));
+        pages.put("cursor-1", new Page(Collections.singletonList("c"), "cursor-2"));
+        pages.put("cursor-2", new Page(Collections.singletonList("d"), null));
+        return pages;
+    }
+
+    private PaginatedIterator<Page, String> buildIterator(
+            Map<String, Page> pages, List<String> requestedCursors, int lookahead) {
+        return new PaginatedIterator<>(
+                cursor -> {
+                    requestedCursors.add(cursor);
+                    return CompletableFuture.completedFuture(
+                            ApiResponse.<Page>builder().data(pages.get(cursor)).build());
+                },
+                Page::getItems,
+                Page::getNextCursor,
+                null,
+                lookahead);
+    }
+
+    @SneakyThrows
+    private static void sleep(long millis) {
+        Thread.sleep(millis);
+    }
+
+    /**
+     * Future whose callbacks run late, so that its consumers resume before the iterator bookkeeping is done.
+     */
+    private static class SlowCallbacksFuture<T> extends CompletableFuture<T> {
+        @Override
+        public CompletableFuture<T> whenComplete(BiConsumer<? super T, ? super Throwable> action) {
+            return super.whenComplete((result, throwable) -> {
+                sleep(50);
+                action.accept(result, throwable);
+            });
+        }
+    }
+
+    @Value
+    private static class Page {
+        List<String> items;
+        String nextCursor;
+    }
+}
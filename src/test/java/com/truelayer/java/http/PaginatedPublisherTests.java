@@ -0,0 +1,188 @@
+package com.truelayer.java.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.truelayer.java.TrueLayerException;
+import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.http.entities.ProblemDetails;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import lombok.Value;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+class PaginatedPublisherTests {
+
+    @Test
+    @DisplayName("It should emit the items of all pages")
+    public void shouldEmitAllPages() {
+        Map<String, Page> pages = new HashMap<>();
+        pages.put(null, new Page(Arrays.asList("a", "b"), "cursor-1"));
+        pages.put("cursor-1", new Page(Collections.singletonList("c"), null));
+        List<String> requestedCursors = new ArrayList<>();
+        PaginatedPublisher<Page, String> sut = buildPublisher(pages, requestedCursors);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        sut.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(Arrays.asList("a", "b", "c"), subscriber.items);
+        assertTrue(subscriber.completed);
+        assertEquals(Arrays.asList(null, "cursor-1"), requestedCursors);
+    }
+
+    @Test
+    @DisplayName("It should fetch pages only on demand")
+    public void shouldFetchPagesOnDemand() {
+        Map<String, Page> pages = new HashMap<>();
+        pages.put(null, new Page(Arrays.asList("a", "b"), "cursor-1"));
+        pages.put("cursor-1", new Page(Collections.singletonList("c"), null));
+        List<String> requestedCursors = new ArrayList<>();
+        PaginatedPublisher<Page, String> sut = buildPublisher(pages, requestedCursors);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        sut.subscribe(subscriber);
+        assertTrue(requestedCursors.isEmpty());
+
+        subscriber.subscription.request(2);
+
+        assertEquals(Arrays.asList("a", "b"), subscriber.items);
+        assertEquals(Collections.singletonList(null), requestedCursors);
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    @DisplayName("It should prefetch the next page while the current one is consumed")
+    public void shouldPrefetchTheNextPage() {
+        Map<String, Page> pages = new HashMap<>();
+        pages.put(null, new Page(Arrays.asList("a", "b"), "cursor-1"));
+        pages.put("cursor-1", new Page(Collections.singletonList("c"), "cursor-2"));
+        pages.put("cursor-2", new Page(Collections.singletonList("d"), null));
+        List<String> requestedCursors = new ArrayList<>();
+        PaginatedPublisher<Page, String> sut = new PaginatedPublisher<>(
+                cursor -> {
+                    requestedCursors.add(cursor);
+                    return CompletableFuture.completedFuture(
+                            ApiResponse.<Page>builder().data(pages.get(cursor)).build());
+                },
+                Page::getItems,
+                Page::getNextCursor,
+                null,
+                1);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        sut.subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        assertEquals(Collections.singletonList("a"), subscriber.items);
+        assertEquals(Arrays.asList(null, "cursor-1"), requestedCursors);
+    }
+
+    @Test
+    @DisplayName("It should cancel the in flight page request")
+    public void shouldCancelTheInFlightPage() {
+        CompletableFuture<ApiResponse<Page>> inFlightPage = new CompletableFuture<>();
+        PaginatedPublisher<Page, String> sut =
+                new PaginatedPublisher<>(cursor -> inFlightPage, Page::getItems, Page::getNextCursor, null);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        sut.subscribe(subscriber);
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+
+        assertTrue(inFlightPage.isCancelled());
+        assertTrue(subscriber.items.isEmpty());
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    @DisplayName("It should signal an error if a page cannot be fetched")
+    public void shouldSignalAnErrorIfAPageCannotBeFetched() {
+        ApiResponse<Page> errorResponse = ApiResponse.<Page>builder()
+                .error(ProblemDetails.builder().title("server_error").build())
+                .build();
+        PaginatedPublisher<Page, String> sut = new PaginatedPublisher<>(
+                cursor -> CompletableFuture.completedFuture(errorResponse), Page::getItems, Page::getNextCursor, null);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        sut.subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        assertInstanceOf(TrueLayerException.class, subscriber.error);
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    @DisplayName("It should signal an error if the next cursor cannot be read")
+    public void shouldSignalAnErrorIfTheNextCursorCannotBeRead() {
+        PaginatedPublisher<Page, String> sut = new PaginatedPublisher<>(
+                cursor -> CompletableFuture.completedFuture(ApiResponse.<Page>builder()
+                        .data(new Page(Collections.singletonList("a"), "cursor-1"))
+                        .build()),
+                Page::getItems,
+                page -> {
+                    throw new IllegalStateException("malformed cursor");
+                },
+                null);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        sut.subscribe(subscriber);
+        subscriber.subscription.request(2);
+
+        assertEquals(Collections.singletonList("a"), subscriber.items);
+        assertInstanceOf(TrueLayerException.class, subscriber.error);
+        assertFalse(subscriber.completed);
+    }
+
+    private PaginatedPublisher<Page, String> buildPublisher(Map<String, Page> pages, List<String> requestedCursors) {
+        return new PaginatedPublisher<>(
+                cursor -> {
+                    requestedCursors.add(cursor);
+                    return CompletableFuture.completedFuture(
+                            ApiResponse.<Page>builder().data(pages.get(cursor)).build());
+                },
+                Page::getItems,
+                Page::getNextCursor,
+                null);
+    }
+
+    @Value
+    private static class Page {
+        List<String> items;
+        String nextCursor;
+    }
+
+    private static class RecordingSubscriber implements Subscriber<String> {
+        private final List<String> items = new ArrayList<>();
+        private Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(String item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.truelayer.java.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.truelayer.java.TrueLayerException;
+import com.truelayer.java.Utils;
+import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.http.entities.ProblemDetails;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import lombok.Value;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.Okio;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StreamingItemsIteratorTests {
+    private static final MediaType JSON = MediaType.get("application/json");
+
+    @Test
+    @DisplayName("It should iterate the items skipping the other fields of the response")
+    public void shouldIterateTheItems() {
+        String json = "{\"pagination\":{\"next_cursor\":\"a-cursor\"},"
+                + "\"items\":[{\"id\":\"1\"},{\"id\":\"2\",\"unknown\":[1,2]}],\"total\":2}";
+        StreamingItemsIterator<Item> sut =
+                new StreamingItemsIterator<>(body(json), Utils.getObjectMapper(), Item.class);
+
+        List<Item> items = new ArrayList<>();
+        sut.forEachRemaining(items::add);
+
+        assertEquals(Arrays.asList(new Item("1"), new Item("2")), items);
+        assertThrows(NoSuchElementException.class, sut::next);
+    }
+
+    @Test
+    @DisplayName("It should not return items if the response has no items")
+    public void shouldNotReturnItemsIfMissing() {
+        StreamingItemsIterator<Item> sut =
+                new StreamingItemsIterator<>(body("{\"total\":0}"), Utils.getObjectMapper(), Item.class);
+
+        assertFalse(sut.hasNext());
+    }
+
+    @Test
+    @DisplayName("It should throw an exception if the response is malformed")
+    public void shouldThrowIfMalformed() {
+        StreamingItemsIterator<Item> sut =
+                new StreamingItemsIterator<>(body("{\"items\":[{\"id\":"), Utils.getObjectMapper(), Item.class);
+
+        assertThrows(TrueLayerException.class, sut::hasNext);
+        assertFalse(sut.hasNext());
+    }
+
+    @Test
+    @DisplayName("It should stop reading the body once closed")
+    public void shouldStopReadingOnceClosed() {
+        StreamingItemsIterator<Item> sut = new StreamingItemsIterator<>(
+                body("{\"items\":[{\"id\":\"1\"},{\"id\":\"2\"}]}"), Utils.getObjectMapper(), Item.class);
+
+        assertEquals(new Item("1"), sut.next());
+        sut.close();
+
+        assertFalse(sut.hasNext());
+    }
+
+    @Test
+    @DisplayName("It should keep the error of a failed response")
+    public void shouldKeepTheErrorOfAFailedResponse() {
+        ProblemDetails error = ProblemDetails.builder().title("server_error").build();
+
+        ApiResponse<StreamingItemsIterator<Item>> response = StreamingItemsIterator.fromResponse(
+                ApiResponse.<ResponseBody>builder().error(error).build(), Item.class);
+
+        assertTrue(response.isError());
+        assertEquals(error, response.getError());
+    }
+
+    @Test
+    @DisplayName("It should deserialize the items with the given object mapper")
+    public void shouldUseTheGivenObjectMapper() {
+        ObjectMapper strictObjectMapper =
+                Utils.newObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+
+        ApiResponse<StreamingItemsIterator<Item>> response = StreamingItemsIterator.fromResponse(
+                ApiResponse.<ResponseBody>builder()
+                        .data(body("{\"items\":[{\"id\":\"1\",\"unknown\":true}]}"))
+                        .build(),
+                strictObjectMapper,
+                Item.class);
+
+        assertThrows(TrueLayerException.class, response.getData()::hasNext);
+    }
+
+    @Test
+    @DisplayName("It should stream a response with 100k items")
+    public void shouldStreamALargeResponse() {
+        int size = 100_000;
+        // the payload is generated while read, so that it's never held in memory as a whole
+        BufferedSource source = Okio.buffer(Okio.source(generatePayload(size)));
+        StreamingItemsIterator<Item> sut = new StreamingItemsIterator<>(
+                ResponseBody.create(JSON, -1, source), Utils.getObjectMapper(), Item.class);
+
+        int count = 0;
+        while (sut.hasNext()) {
+            assertEquals(String.valueOf(count), sut.next().getId());
+            count++;
+        }
+
+        assertEquals(size, count);
+    }
+
+    private static ResponseBody body(String json) {
+        return ResponseBody.create(JSON, -1, new Buffer().writeUtf8(json));
+    }
+
+    private static InputStream generatePayload(int size) {
+        return new SequenceInputStream(new Enumeration<InputStream>() {
+            private int next = -1;
+
+            @Override
+            public boolean hasMoreElements() {
+                return next <= size;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                String chunk;
+                if (next == -1) {
+                    chunk = "{\"items\":[";
+                } else if (next == size) {
+                    chunk = "]}";
+                } else {
+                    chunk = (next > 0 ? "," : "") + "{\"id\":\"" + next + "\"}";
+                }
+                next++;
+                return new ByteArrayInputStream(chunk.getBytes(StandardCharsets.UTF_8));
+            }
+        });
+    }
+
+    @Value
+    static class Item {
+        String id;
+    }
+}
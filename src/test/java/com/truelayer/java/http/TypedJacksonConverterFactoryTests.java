@@ -0,0 +1,97 @@
+package com.truelayer.java.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.truelayer.java.SerializationOptions;
+import com.truelayer.java.Utils;
+import com.truelayer.java.http.mappers.ErrorMapper;
+import java.lang.annotation.Annotation;
+import lombok.SneakyThrows;
+import lombok.Value;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import retrofit2.Converter;
+
+class TypedJacksonConverterFactoryTests {
+
+    @SneakyThrows
+    @Test
+    @DisplayName("It should read responses and write requests with the library naming strategy")
+    public void shouldReadAndWriteSnakeCasePayloads() {
+        TypedJacksonConverterFactory sut = new TypedJacksonConverterFactory(Utils.getObjectMapper());
+
+        @SuppressWarnings("unchecked")
+        Converter<ResponseBody, Item> reader =
+                (Converter<ResponseBody, Item>) sut.responseBodyConverter(Item.class, new Annotation[0], null);
+        @SuppressWarnings("unchecked")
+        Converter<Item, RequestBody> writer = (Converter<Item, RequestBody>)
+                sut.requestBodyConverter(Item.class, new Annotation[0], new Annotation[0], null);
+
+        Item item = reader.convert(ResponseBody.create(
+                MediaType.get("application/json"), "{\"item_id\":\"an-id\",\"unknown\":true}"));
+        Buffer buffer = new Buffer();
+        writer.convert(new Item("an-id", null)).writeTo(buffer);
+
+        assertEquals(new Item("an-id", null), item);
+        assertEquals("{\"item_id\":\"an-id\"}", buffer.readUtf8());
+    }
+
+    @Test
+    @DisplayName("It should use the default library object mapper if no options are set")
+    public void shouldUseTheDefaultObjectMapper() {
+        assertSame(
+                Utils.getObjectMapper(),
+                TypedJacksonConverterFactory.create(null).getObjectMapper());
+        assertSame(
+                Utils.getObjectMapper(),
+                TypedJacksonConverterFactory.create(SerializationOptions.builder().build())
+                        .getObjectMapper());
+    }
+
+    @Test
+    @DisplayName("It should use a custom object mapper")
+    public void shouldUseACustomObjectMapper() {
+        ObjectMapper objectMapper = Utils.newObjectMapper();
+
+        TypedJacksonConverterFactory sut = TypedJacksonConverterFactory.create(
+                SerializationOptions.builder().objectMapper(objectMapper).build());
+
+        assertSame(objectMapper, sut.getObjectMapper());
+    }
+
+    @Test
+    @DisplayName("It should map errors with the configured error body size limit")
+    public void shouldMapErrorsWithTheConfiguredLimit() {
+        TypedJacksonConverterFactory sut = TypedJacksonConverterFactory.create(
+                SerializationOptions.builder().maxErrorBodySize(1024).build());
+
+        assertEquals(1024, sut.getErrorMapper().getMaxErrorBodySize());
+        assertEquals(
+                ErrorMapper.DEFAULT_MAX_ERROR_BODY_SIZE,
+                TypedJacksonConverterFactory.create(null).getErrorMapper().getMaxErrorBodySize());
+    }
+
+    @Test
+    @DisplayName("It should register Afterburner without modifying the shared object mapper")
+    public void shouldRegisterAfterburner() {
+        TypedJacksonConverterFactory sut = TypedJacksonConverterFactory.create(
+                SerializationOptions.builder().preferAfterburner(true).build());
+
+        assertNotSame(Utils.getObjectMapper(), sut.getObjectMapper());
+        assertTrue(sut.getObjectMapper().getRegisteredModuleIds().stream()
+                .anyMatch(id -> id.toString().contains("Afterburner")));
+        assertFalse(Utils.getObjectMapper().getRegisteredModuleIds().stream()
+                .anyMatch(id -> id.toString().contains("Afterburner")));
+    }
+
+    @Value
+    static class Item {
+        String itemId;
+        String description;
+    }
+}
@@ -0,0 +1,234 @@
+package com.truelayer.java.http.caching;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.http.entities.ProblemDetails;
+import com.truelayer.java.mandates.IMandatesApi;
+import com.truelayer.java.mandates.entities.mandatedetail.AuthorizedMandateDetail;
+import com.truelayer.java.mandates.entities.mandatedetail.MandateDetail;
+import com.truelayer.java.mandates.entities.mandatedetail.RevokedMandateDetail;
+import com.truelayer.java.payments.IPaymentsApi;
+import com.truelayer.java.payments.entities.paymentdetail.PaymentDetail;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import okhttp3.Headers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ResponseCacheTests {
+    private static final String A_PAYMENT_ID = "a-payment-id";
+    private static final String A_MANDATE_ID = "a-mandate-id";
+
+    @Test
+    @DisplayName("It should keep payments in a terminal status until evicted")
+    public void shouldKeepTerminalPayments() {
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L, 0L, Long.MAX_VALUE - 1);
+        PaymentDetail settledPayment = mock(PaymentDetail.class);
+        when(settledPayment.isSettled()).thenReturn(true);
+        IPaymentsApi paymentsApi = mockPaymentsApi(settledPayment);
+        IPaymentsApi sut = ResponseCache.builder().clock(clock).build().cache(paymentsApi);
+
+        sut.getPayment(A_PAYMENT_ID).join();
+        ApiResponse<PaymentDetail> response = sut.getPayment(A_PAYMENT_ID).join();
+
+        assertSame(settledPayment, response.getData());
+        verify(paymentsApi, times(1)).getPayment(A_PAYMENT_ID);
+    }
+
+    @Test
+    @DisplayName("It should expire payments in a non terminal status")
+    public void shouldExpireNonTerminalPayments() {
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L, 0L, 999L, 1000L, 1000L);
+        IPaymentsApi paymentsApi = mockPaymentsApi(mock(PaymentDetail.class));
+        IPaymentsApi sut = ResponseCache.builder()
+                .nonTerminalTimeToLive(Duration.ofSeconds(1))
+                .clock(clock)
+                .build()
+                .cache(paymentsApi);
+
+        sut.getPayment(A_PAYMENT_ID).join();
+        sut.getPayment(A_PAYMENT_ID).join();
+        verify(paymentsApi, times(1)).getPayment(A_PAYMENT_ID);
+
+        sut.getPayment(A_PAYMENT_ID).join();
+        verify(paymentsApi, times(2)).getPayment(A_PAYMENT_ID);
+    }
+
+    @Test
+    @DisplayName("It should not cache error responses")
+    public void shouldNotCacheErrors() {
+        IPaymentsApi paymentsApi = mock(IPaymentsApi.class);
+        when(paymentsApi.getPayment(A_PAYMENT_ID))
+                .thenReturn(CompletableFuture.completedFuture(ApiResponse.<PaymentDetail>builder()
+                        .error(ProblemDetails.builder().title("not_found").build())
+                        .build()));
+        IPaymentsApi sut = ResponseCache.builder().build().cache(paymentsApi);
+
+        sut.getPayment(A_PAYMENT_ID).join();
+        sut.getPayment(A_PAYMENT_ID).join();
+
+        verify(paymentsApi, times(2)).getPayment(A_PAYMENT_ID);
+    }
+
+    @Test
+    @DisplayName("It should refetch invalidated mandates")
+    public void shouldRefetchInvalidatedMandates() {
+        IMandatesApi mandatesApi = mockMandatesApi(mock(RevokedMandateDetail.class));
+        ResponseCache cache = ResponseCache.builder().build();
+        IMandatesApi sut = cache.cache(mandatesApi);
+
+        sut.getMandate(A_MANDATE_ID).join();
+        cache.invalidateMandate(A_MANDATE_ID);
+        sut.getMandate(A_MANDATE_ID).join();
+
+        verify(mandatesApi, times(2)).getMandate(A_MANDATE_ID);
+        assertEquals(new ResponseCache.Stats(1, 0, 2, 0), cache.stats());
+    }
+
+    @Test
+    @DisplayName("It should evict the least recently used entries")
+    public void shouldEvictLeastRecentlyUsedEntries() {
+        ResponseCache cache = ResponseCache.builder().maxEntries(1).build();
+        IPaymentsApi paymentsApi = mock(IPaymentsApi.class);
+        PaymentDetail settledPayment = mock(PaymentDetail.class);
+        when(settledPayment.isSettled()).thenReturn(true);
+        when(paymentsApi.getPayment(anyString()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(
+                        ApiResponse.<PaymentDetail>builder().data(settledPayment).build()));
+        IPaymentsApi sut = cache.cache(paymentsApi);
+
+        sut.getPayment("first").join();
+        sut.getPayment("second").join();
+        sut.getPayment("first").join();
+
+        verify(paymentsApi, times(2)).getPayment("first");
+        assertEquals(2, cache.stats().getEvictions());
+    }
+
+    @Test
+    @DisplayName("It should not keep mandates in a non terminal status beyond their time to live")
+    public void shouldNotKeepNonTerminalMandates() {
+        IMandatesApi mandatesApi = mockMandatesApi(mock(AuthorizedMandateDetail.class));
+        IMandatesApi sut = ResponseCache.builder()
+                .nonTerminalTimeToLive(Duration.ZERO)
+                .build()
+                .cache(mandatesApi);
+
+        sut.getMandate(A_MANDATE_ID).join();
+        sut.getMandate(A_MANDATE_ID).join();
+
+        verify(mandatesApi, times(2)).getMandate(A_MANDATE_ID);
+    }
+
+    @Test
+    @DisplayName("It should cancel the underlying request when cancelled through the cache")
+    public void shouldPropagateCancellationToTheUnderlyingRequest() {
+        IPaymentsApi paymentsApi = mock(IPaymentsApi.class);
+        CompletableFuture<ApiResponse<PaymentDetail>> upstream = new CompletableFuture<>();
+        when(paymentsApi.getPayment(A_PAYMENT_ID)).thenReturn(upstream);
+        IPaymentsApi sut = ResponseCache.builder().build().cache(paymentsApi);
+
+        sut.getPayment(A_PAYMENT_ID).cancel(true);
+
+        assertTrue(upstream.isCancelled());
+    }
+
+    @Test
+    @DisplayName("It should cancel the underlying revocation when cancelled through the cache")
+    public void shouldPropagateCancellationToTheUnderlyingRevocation() {
+        IMandatesApi mandatesApi = mock(IMandatesApi.class);
+        CompletableFuture<ApiResponse<Void>> upstream = new CompletableFuture<>();
+        when(mandatesApi.revokeMandate(A_MANDATE_ID)).thenReturn(upstream);
+        IMandatesApi sut = ResponseCache.builder().build().cache(mandatesApi);
+
+        sut.revokeMandate(A_MANDATE_ID).cancel(true);
+
+        assertTrue(upstream.isCancelled());
+    }
+
+    @Test
+    @DisplayName("It should not cache a response loaded while the resource was invalidated")
+    public void shouldNotCacheResponsesLoadedWhileInvalidated() {
+        PaymentDetail settledPayment = mock(PaymentDetail.class);
+        when(settledPayment.isSettled()).thenReturn(true);
+        IPaymentsApi paymentsApi = mock(IPaymentsApi.class);
+        CompletableFuture<ApiResponse<PaymentDetail>> upstream = new CompletableFuture<>();
+        when(paymentsApi.getPayment(A_PAYMENT_ID))
+                .thenReturn(upstream)
+                .thenReturn(CompletableFuture.completedFuture(
+                        ApiResponse.<PaymentDetail>builder().data(settledPayment).build()));
+        ResponseCache cache = ResponseCache.builder().build();
+        IPaymentsApi sut = cache.cache(paymentsApi);
+
+        CompletableFuture<ApiResponse<PaymentDetail>> loading = sut.getPayment(A_PAYMENT_ID);
+        cache.invalidatePayment(A_PAYMENT_ID);
+        upstream.complete(ApiResponse.<PaymentDetail>builder().data(settledPayment).build());
+
+        assertSame(settledPayment, loading.join().getData());
+        sut.getPayment(A_PAYMENT_ID).join();
+        verify(paymentsApi, times(2)).getPayment(A_PAYMENT_ID);
+    }
+
+    @Test
+    @DisplayName("It should partition the entries by client id")
+    public void shouldPartitionEntriesByClientId() {
+        PaymentDetail settledPayment = mock(PaymentDetail.class);
+        when(settledPayment.isSettled()).thenReturn(true);
+        IPaymentsApi firstPaymentsApi = mockPaymentsApi(settledPayment);
+        IPaymentsApi secondPaymentsApi = mockPaymentsApi(settledPayment);
+        ResponseCache cache = ResponseCache.builder().build();
+        IPaymentsApi firstClient = cache.cache(firstPaymentsApi, "first-client");
+        IPaymentsApi secondClient = cache.cache(secondPaymentsApi, "second-client");
+
+        firstClient.getPayment(A_PAYMENT_ID).join();
+        secondClient.getPayment(A_PAYMENT_ID).join();
+        firstClient.getPayment(A_PAYMENT_ID).join();
+        cache.invalidatePayment(A_PAYMENT_ID);
+        secondClient.getPayment(A_PAYMENT_ID).join();
+
+        verify(firstPaymentsApi, times(1)).getPayment(A_PAYMENT_ID);
+        verify(secondPaymentsApi, times(2)).getPayment(A_PAYMENT_ID);
+    }
+
+    @Test
+    @DisplayName("It should not return the metadata of the original response on cache hits")
+    public void shouldNotReturnStaleMetadataOnHits() {
+        RevokedMandateDetail revokedMandate = mock(RevokedMandateDetail.class);
+        IMandatesApi mandatesApi = mock(IMandatesApi.class);
+        when(mandatesApi.getMandate(A_MANDATE_ID))
+                .thenReturn(CompletableFuture.completedFuture(ApiResponse.<MandateDetail>builder()
+                        .data(revokedMandate)
+                        .status(200)
+                        .headers(Headers.of("X-Tl-Correlation-Id", "a-correlation-id"))
+                        .build()));
+        IMandatesApi sut = ResponseCache.builder().build().cache(mandatesApi);
+
+        ApiResponse<MandateDetail> miss = sut.getMandate(A_MANDATE_ID).join();
+        ApiResponse<MandateDetail> hit = sut.getMandate(A_MANDATE_ID).join();
+
+        assertTrue(miss.getMetadata().isPresent());
+        assertSame(revokedMandate, hit.getData());
+        assertFalse(hit.getMetadata().isPresent());
+    }
+
+    private IPaymentsApi mockPaymentsApi(PaymentDetail payment) {
+        IPaymentsApi paymentsApi = mock(IPaymentsApi.class);
+        when(paymentsApi.getPayment(A_PAYMENT_ID))
+                .thenReturn(CompletableFuture.completedFuture(
+                        ApiResponse.<PaymentDetail>builder().data(payment).build()));
+        return paymentsApi;
+    }
+
+    private IMandatesApi mockMandatesApi(MandateDetail mandate) {
+        IMandatesApi mandatesApi = mock(IMandatesApi.class);
+        when(mandatesApi.getMandate(A_MANDATE_ID))
+                .thenReturn(CompletableFuture.completedFuture(
+                        ApiResponse.<MandateDetail>builder().data(mandate).build()));
+        return mandatesApi;
+    }
+}
@@ -0,0 +1,113 @@
+package com.truelayer.java.http.coalescing;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.payments.IPaymentsApi;
+import com.truelayer.java.payments.entities.paymentdetail.PaymentDetail;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RequestCoalescerTests {
+
+    @Test
+    @DisplayName("It should share an in-flight call among identical requests")
+    public void shouldShareInFlightCalls() {
+        RequestCoalescer sut = new RequestCoalescer();
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> first = sut.execute("key", () -> {
+            calls.incrementAndGet();
+            return upstream;
+        });
+        CompletableFuture<String> second = sut.execute("key", () -> {
+            calls.incrementAndGet();
+            return upstream;
+        });
+        upstream.complete("result");
+
+        assertEquals(1, calls.get());
+        assertSame(first.join(), second.join());
+        assertEquals(new RequestCoalescer.Stats(2, 1), sut.stats());
+        assertEquals(0.5, sut.stats().hitRate());
+    }
+
+    @Test
+    @DisplayName("It should not reuse completed calls")
+    public void shouldNotReuseCompletedCalls() {
+        RequestCoalescer sut = new RequestCoalescer();
+        AtomicInteger calls = new AtomicInteger();
+
+        sut.execute("key", () -> CompletableFuture.completedFuture(calls.incrementAndGet()));
+        CompletableFuture<Integer> second =
+                sut.execute("key", () -> CompletableFuture.completedFuture(calls.incrementAndGet()));
+
+        assertEquals(2, second.join());
+        assertEquals(0, sut.stats().getCoalescedRequests());
+    }
+
+    @Test
+    @DisplayName("It should cancel the shared call only when all callers gave up")
+    public void shouldCancelTheSharedCallWhenAllCallersGaveUp() {
+        RequestCoalescer sut = new RequestCoalescer();
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        CompletableFuture<String> first = sut.execute("key", () -> upstream);
+        CompletableFuture<String> second = sut.execute("key", () -> upstream);
+
+        first.cancel(true);
+        assertFalse(upstream.isCancelled());
+
+        second.cancel(true);
+        assertTrue(upstream.isCancelled());
+    }
+
+    @Test
+    @DisplayName("It should complete the remaining callers if some of them gave up")
+    public void shouldCompleteRemainingCallers() {
+        RequestCoalescer sut = new RequestCoalescer();
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        CompletableFuture<String> first = sut.execute("key", () -> upstream);
+        CompletableFuture<String> second = sut.execute("key", () -> upstream);
+        first.cancel(true);
+        upstream.complete("result");
+
+        assertTrue(first.isCancelled());
+        assertEquals("result", second.join());
+    }
+
+    @Test
+    @DisplayName("It should coalesce the GET endpoints of an API interface")
+    public void shouldCoalesceGetEndpoints() {
+        RequestCoalescer sut = new RequestCoalescer();
+        IPaymentsApi paymentsApi = mock(IPaymentsApi.class);
+        CompletableFuture<ApiResponse<PaymentDetail>> upstream = new CompletableFuture<>();
+        when(paymentsApi.getPayment("a-payment-id")).thenReturn(upstream);
+        IPaymentsApi coalescingApi = sut.coalesce(IPaymentsApi.class, paymentsApi);
+
+        coalescingApi.getPayment("a-payment-id");
+        coalescingApi.getPayment("a-payment-id");
+
+        verify(paymentsApi, times(1)).getPayment("a-payment-id");
+    }
+
+    @Test
+    @DisplayName("It should implement the Object methods of the API proxy by identity")
+    public void shouldImplementObjectMethodsByIdentity() {
+        RequestCoalescer sut = new RequestCoalescer();
+        IPaymentsApi paymentsApi = mock(IPaymentsApi.class);
+        IPaymentsApi coalescingApi = sut.coalesce(IPaymentsApi.class, paymentsApi);
+        IPaymentsApi otherCoalescingApi = sut.coalesce(IPaymentsApi.class, paymentsApi);
+
+        assertEquals(coalescingApi, coalescingApi);
+        assertNotEquals(coalescingApi, otherCoalescingApi);
+        assertNotEquals(coalescingApi, paymentsApi);
+        assertEquals(System.identityHashCode(coalescingApi), coalescingApi.hashCode());
+        assertEquals("Coalescing(" + paymentsApi + ")", coalescingApi.toString());
+    }
+}
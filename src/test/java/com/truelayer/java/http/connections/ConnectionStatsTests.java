@@ -0,0 +1,47 @@
+package com.truelayer.java.http.connections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.truelayer.java.http.connections.ConnectionStats.ConnectionSnapshot;
+import java.util.List;
+import okhttp3.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConnectionStatsTests {
+
+    @Test
+    @DisplayName("It should track the calls multiplexed over a connection")
+    public void shouldTrackCallsPerConnection() {
+        ConnectionStats sut = new ConnectionStats();
+        ConnectionStatsEventListener listener = new ConnectionStatsEventListener(sut);
+        Connection connection = buildConnection();
+        Call call = mock(Call.class);
+
+        listener.connectionAcquired(call, connection);
+        listener.connectionAcquired(call, connection);
+        listener.connectionReleased(call, connection);
+
+        List<ConnectionSnapshot> snapshot = sut.snapshot();
+        assertEquals(1, snapshot.size());
+        assertEquals(new ConnectionSnapshot("api.truelayer.com", "h2", 1, 2, 2), snapshot.get(0));
+    }
+
+    @Test
+    @DisplayName("It should yield an empty snapshot if no connection was used")
+    public void shouldYieldAnEmptySnapshot() {
+        assertTrue(new ConnectionStats().snapshot().isEmpty());
+    }
+
+    private Connection buildConnection() {
+        Address address = mock(Address.class);
+        when(address.url()).thenReturn(HttpUrl.get("https://api.truelayer.com"));
+        Route route = mock(Route.class);
+        when(route.address()).thenReturn(address);
+        Connection connection = mock(Connection.class);
+        when(connection.route()).thenReturn(route);
+        when(connection.protocol()).thenReturn(Protocol.HTTP_2);
+        return connection;
+    }
+}
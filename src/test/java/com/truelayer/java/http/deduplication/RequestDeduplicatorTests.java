@@ -0,0 +1,185 @@
+package com.truelayer.java.http.deduplication;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.http.entities.ProblemDetails;
+import com.truelayer.java.payments.IPaymentsApi;
+import com.truelayer.java.payments.entities.CreatePaymentRequest;
+import com.truelayer.java.payments.entities.CreatePaymentResponse;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class RequestDeduplicatorTests {
+    private static final String AN_IDEMPOTENCY_KEY = "an-idempotency-key";
+
+    @Test
+    @DisplayName("It should attach duplicates to the in-flight request")
+    public void shouldAttachDuplicatesToTheInFlightRequest() {
+        RequestDeduplicator sut = RequestDeduplicator.builder().build();
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> first = sut.execute(AN_IDEMPOTENCY_KEY, () -> {
+            calls.incrementAndGet();
+            return upstream;
+        });
+        CompletableFuture<String> duplicate = sut.execute(AN_IDEMPOTENCY_KEY, () -> {
+            calls.incrementAndGet();
+            return upstream;
+        });
+        upstream.complete("result");
+
+        assertEquals(1, calls.get());
+        assertEquals("result", first.join());
+        assertEquals("result", duplicate.join());
+        assertEquals(new RequestDeduplicator.Stats(2, 1), sut.stats());
+    }
+
+    @Test
+    @DisplayName("It should return retained results to late duplicates until they expire")
+    public void shouldReturnRetainedResultsUntilTheyExpire() {
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L, 0L, 999L, 1000L);
+        RequestDeduplicator sut = RequestDeduplicator.builder()
+                .retention(Duration.ofSeconds(1))
+                .clock(clock)
+                .build();
+        AtomicInteger calls = new AtomicInteger();
+
+        sut.execute(AN_IDEMPOTENCY_KEY, () -> CompletableFuture.completedFuture(calls.incrementAndGet()));
+        CompletableFuture<Integer> late =
+                sut.execute(AN_IDEMPOTENCY_KEY, () -> CompletableFuture.completedFuture(calls.incrementAndGet()));
+        CompletableFuture<Integer> expired =
+                sut.execute(AN_IDEMPOTENCY_KEY, () -> CompletableFuture.completedFuture(calls.incrementAndGet()));
+
+        assertEquals(1, late.join());
+        assertEquals(2, expired.join());
+    }
+
+    @Test
+    @DisplayName("It should forget requests failed without a response")
+    public void shouldForgetFailedRequests() {
+        RequestDeduplicator sut = RequestDeduplicator.builder().build();
+        CompletableFuture<String> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IOException("connection reset"));
+
+        CompletableFuture<String> first = sut.execute(AN_IDEMPOTENCY_KEY, () -> failed);
+        CompletableFuture<String> retry =
+                sut.execute(AN_IDEMPOTENCY_KEY, () -> CompletableFuture.completedFuture("result"));
+
+        assertTrue(first.isCompletedExceptionally());
+        assertEquals("result", retry.join());
+    }
+
+    @Test
+    @DisplayName("It should forget requests completed with an error response")
+    public void shouldForgetErrorResponses() {
+        RequestDeduplicator sut = RequestDeduplicator.builder().build();
+        ApiResponse<String> unavailable = ApiResponse.<String>builder()
+                .error(ProblemDetails.builder()
+                        .type("https://docs.truelayer.com/docs/error-types")
+                        .title("service_unavailable")
+                        .status(503)
+                        .build())
+                .build();
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<ApiResponse<String>> first = sut.execute(AN_IDEMPOTENCY_KEY, () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(unavailable);
+        });
+        CompletableFuture<ApiResponse<String>> retry = sut.execute(AN_IDEMPOTENCY_KEY, () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(
+                    ApiResponse.<String>builder().data("result").build());
+        });
+
+        assertTrue(first.join().isError());
+        assertEquals("result", retry.join().getData());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    @DisplayName("It should retain a bounded number of keys")
+    public void shouldRetainABoundedNumberOfKeys() {
+        RequestDeduplicator sut = RequestDeduplicator.builder().maxEntries(1).build();
+        AtomicInteger calls = new AtomicInteger();
+
+        sut.execute("first", () -> CompletableFuture.completedFuture(calls.incrementAndGet()));
+        sut.execute("second", () -> CompletableFuture.completedFuture(calls.incrementAndGet()));
+        sut.execute("first", () -> CompletableFuture.completedFuture(calls.incrementAndGet()));
+
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    @DisplayName("It should never evict in-flight requests")
+    public void shouldNeverEvictInFlightRequests() {
+        RequestDeduplicator sut = RequestDeduplicator.builder().maxEntries(1).build();
+        AtomicInteger calls = new AtomicInteger();
+
+        sut.execute("first", () -> {
+            calls.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        sut.execute("second", () -> CompletableFuture.completedFuture(calls.incrementAndGet()));
+        sut.execute("first", () -> {
+            calls.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+
+        assertEquals(2, calls.get());
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {" "})
+    @DisplayName("It should not deduplicate requests without an idempotency key")
+    public void shouldNotDeduplicateRequestsWithoutAKey(String idempotencyKey) {
+        IPaymentsApi paymentsApi = mock(IPaymentsApi.class);
+        CreatePaymentRequest request = CreatePaymentRequest.builder().build();
+        when(paymentsApi.createPayment(idempotencyKey, request)).thenReturn(new CompletableFuture<>());
+        IPaymentsApi sut = RequestDeduplicator.builder().build().deduplicate(paymentsApi);
+
+        sut.createPayment(idempotencyKey, request);
+        sut.createPayment(idempotencyKey, request);
+
+        verify(paymentsApi, times(2)).createPayment(idempotencyKey, request);
+    }
+
+    @Test
+    @DisplayName("It should not cancel the original request if a caller gives up")
+    public void shouldNotCancelTheOriginalRequest() {
+        RequestDeduplicator sut = RequestDeduplicator.builder().build();
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        sut.execute(AN_IDEMPOTENCY_KEY, () -> upstream).cancel(true);
+
+        assertFalse(upstream.isCancelled());
+    }
+
+    @Test
+    @DisplayName("It should deduplicate payments created with the same idempotency key")
+    public void shouldDeduplicatePayments() {
+        IPaymentsApi paymentsApi = mock(IPaymentsApi.class);
+        CreatePaymentRequest request = CreatePaymentRequest.builder().build();
+        when(paymentsApi.createPayment(AN_IDEMPOTENCY_KEY, request)).thenReturn(new CompletableFuture<>());
+        IPaymentsApi sut = RequestDeduplicator.builder().build().deduplicate(paymentsApi);
+
+        CompletableFuture<ApiResponse<CreatePaymentResponse>> first = sut.createPayment(AN_IDEMPOTENCY_KEY, request);
+        sut.createPayment(AN_IDEMPOTENCY_KEY, request);
+
+        assertFalse(first.isDone());
+        verify(paymentsApi, times(1)).createPayment(AN_IDEMPOTENCY_KEY, request);
+    }
+}
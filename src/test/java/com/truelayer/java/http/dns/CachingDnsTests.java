@@ -0,0 +1,101 @@
+package com.truelayer.java.http.dns;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import lombok.SneakyThrows;
+import okhttp3.Dns;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CachingDnsTests {
+
+    private static final String A_HOSTNAME = "api.truelayer.com";
+
+    @SneakyThrows
+    @Test
+    @DisplayName("It should serve cached addresses within their time to live")
+    public void shouldServeCachedAddresses() {
+        Dns delegate = mock(Dns.class);
+        when(delegate.lookup(A_HOSTNAME)).thenReturn(anAddress());
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L, 0L, 1_000L);
+        CachingDns sut = buildDns(delegate, clock);
+
+        sut.lookup(A_HOSTNAME);
+        List<InetAddress> addresses = sut.lookup(A_HOSTNAME);
+
+        assertEquals(anAddress(), addresses);
+        verify(delegate, times(1)).lookup(A_HOSTNAME);
+        assertEquals(1, sut.stats().getCacheHits());
+    }
+
+    @SneakyThrows
+    @Test
+    @DisplayName("It should refresh addresses in background before they expire")
+    public void shouldRefreshAddressesBeforeExpiration() {
+        Dns delegate = mock(Dns.class);
+        when(delegate.lookup(A_HOSTNAME)).thenReturn(anAddress());
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L, 0L, 55_000L);
+        CachingDns sut = buildDns(delegate, clock);
+
+        sut.lookup(A_HOSTNAME);
+        sut.lookup(A_HOSTNAME);
+
+        verify(delegate, times(2)).lookup(A_HOSTNAME);
+        assertEquals(1, sut.stats().getCacheHits());
+        assertEquals(2, sut.stats().getResolutions());
+    }
+
+    @SneakyThrows
+    @Test
+    @DisplayName("It should serve stale addresses if the resolution fails")
+    public void shouldServeStaleAddressesOnFailure() {
+        Dns delegate = mock(Dns.class);
+        when(delegate.lookup(A_HOSTNAME)).thenReturn(anAddress()).thenThrow(new UnknownHostException());
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L, 0L, 120_000L);
+        CachingDns sut = buildDns(delegate, clock);
+
+        sut.lookup(A_HOSTNAME);
+        List<InetAddress> addresses = sut.lookup(A_HOSTNAME);
+
+        assertEquals(anAddress(), addresses);
+        assertEquals(1, sut.stats().getStaleHits());
+        assertEquals(1, sut.stats().getFailures());
+    }
+
+    @SneakyThrows
+    @Test
+    @DisplayName("It should throw if the resolution fails and no address is cached")
+    public void shouldThrowIfNoAddressIsCached() {
+        Dns delegate = mock(Dns.class);
+        when(delegate.lookup(A_HOSTNAME)).thenThrow(new UnknownHostException());
+        CachingDns sut = buildDns(delegate, Clock.systemUTC());
+
+        assertThrows(UnknownHostException.class, () -> sut.lookup(A_HOSTNAME));
+    }
+
+    private CachingDns buildDns(Dns delegate, Clock clock) {
+        return CachingDns.builder()
+                .delegate(delegate)
+                .timeToLive(Duration.ofMinutes(1))
+                .refreshAhead(Duration.ofSeconds(10))
+                .maxStaleness(Duration.ofMinutes(10))
+                .refreshExecutor(Runnable::run)
+                .clock(clock)
+                .build();
+    }
+
+    @SneakyThrows
+    private List<InetAddress> anAddress() {
+        return Collections.singletonList(InetAddress.getByAddress(A_HOSTNAME, new byte[] {10, 0, 0, 1}));
+    }
+}
@@ -0,0 +1,100 @@
+package com.truelayer.java.http.entities;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import okhttp3.Headers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ResponseMetadataTests {
+
+    @Test
+    @DisplayName("It should yield the status and headers of the response as received")
+    public void itShouldYieldStatusAndHeaders() {
+        Headers headers = Headers.of("X-Tl-Correlation-Id", "a-correlation-id", "Vary", "Accept", "Vary", "Origin");
+        ApiResponse<String> response = ApiResponse.<String>builder()
+                .data("a-payment")
+                .status(201)
+                .headers(headers)
+                .build();
+
+        ResponseMetadata sut = response.getMetadata().orElseThrow(IllegalStateException::new);
+
+        assertEquals(201, sut.getStatus());
+        assertEquals("a-correlation-id", sut.getCorrelationId().orElse(null));
+        assertEquals(Arrays.asList("Accept", "Origin"), sut.getHeaderValues("vary"));
+        assertFalse(sut.getHeader("ETag").isPresent());
+    }
+
+    @Test
+    @DisplayName("It should yield no metadata if not mapped from an HTTP response")
+    public void itShouldYieldNoMetadata() {
+        ApiResponse<String> response = ApiResponse.<String>builder().data("a-payment").build();
+
+        assertFalse(response.getMetadata().isPresent());
+    }
+
+    @Test
+    @DisplayName("It should not consider the metadata in equality")
+    public void itShouldNotConsiderMetadataInEquality() {
+        ApiResponse<String> response = ApiResponse.<String>builder()
+                .data("a-payment")
+                .status(200)
+                .headers(Headers.of("X-Tl-Correlation-Id", "a-correlation-id"))
+                .build();
+
+        assertEquals(ApiResponse.<String>builder().data("a-payment").build(), response);
+        assertFalse(response.toString().contains("a-correlation-id"));
+    }
+
+    @Test
+    @DisplayName("It should yield the rate limits, preferring the standard headers")
+    public void itShouldYieldRateLimits() {
+        ResponseMetadata sut = new ResponseMetadata(
+                200,
+                Headers.of(
+                        "RateLimit-Limit", "100",
+                        "X-RateLimit-Limit", "50",
+                        "X-RateLimit-Remaining", "42",
+                        "X-RateLimit-Reset", "not-a-number"));
+
+        assertEquals(100, sut.getRateLimitLimit().getAsLong());
+        assertEquals(42, sut.getRateLimitRemaining().getAsLong());
+        assertFalse(sut.getRateLimitReset().isPresent());
+    }
+
+    @Test
+    @DisplayName("It should yield the retry delay, either in seconds or as a date")
+    public void itShouldYieldRetryAfter() {
+        ResponseMetadata inSeconds = new ResponseMetadata(429, Headers.of("Retry-After", "120"));
+        ResponseMetadata asDate = new ResponseMetadata(
+                503,
+                Headers.of(
+                        "Date", "Wed, 21 Oct 2015 07:28:00 GMT",
+                        "Retry-After", "Wed, 21 Oct 2015 07:29:30 GMT"));
+
+        assertEquals(Duration.ofSeconds(120), inSeconds.getRetryAfter().orElse(null));
+        assertEquals(Duration.ofSeconds(90), asDate.getRetryAfter().orElse(null));
+        assertFalse(new ResponseMetadata(200, Headers.of()).getRetryAfter().isPresent());
+    }
+
+    @Test
+    @DisplayName("It should yield the server timings with a duration")
+    public void itShouldYieldServerTimings() {
+        ResponseMetadata sut = new ResponseMetadata(
+                200,
+                new Headers.Builder()
+                        .add("Server-Timing", "db;dur=53, cache;desc=\"Cache Read\";dur=23.2")
+                        .add("Server-Timing", "miss, app;dur=abc")
+                        .build());
+
+        Map<String, Duration> expected = new LinkedHashMap<>();
+        expected.put("db", Duration.ofMillis(53));
+        expected.put("cache", Duration.ofNanos(23_200_000));
+        assertEquals(expected, sut.getServerTimings());
+    }
+}
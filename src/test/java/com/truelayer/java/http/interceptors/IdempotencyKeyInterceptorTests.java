@@ -1,10 +1,14 @@
 package com.truelayer.java.http.interceptors;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
 
 import com.truelayer.java.Constants;
 import java.util.regex.Pattern;
+import okhttp3.HttpUrl;
 import okhttp3.Interceptor;
+import okhttp3.Request;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,4 +37,18 @@ class IdempotencyKeyInterceptorTests extends BaseInterceptorTests {
                 .matcher(request.header(Constants.HeaderNames.IDEMPOTENCY_KEY))
                 .matches()));
     }
+
+    @Test
+    @DisplayName("It should keep the Idempotency-Key header supplied by the caller")
+    public void shouldKeepTheSuppliedIdempotencyKeyHeader() {
+        Request request = new Request.Builder()
+                .url(HttpUrl.get("http://localhost"))
+                .header(Constants.HeaderNames.IDEMPOTENCY_KEY, "an-idempotency-key")
+                .build();
+        when(chain.request()).thenReturn(request);
+
+        intercept();
+
+        verifyThat(r -> assertEquals("an-idempotency-key", r.header(Constants.HeaderNames.IDEMPOTENCY_KEY)));
+    }
 }
@@ -0,0 +1,254 @@
+package com.truelayer.java.http.interceptors.logging;
+
+import static com.truelayer.java.Constants.HeaderNames.AUTHORIZATION;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.truelayer.java.http.interceptors.logging.AsyncHttpLogConsumer.DropPolicy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AsyncHttpLogConsumerTests {
+
+    @SneakyThrows
+    @Test
+    @DisplayName("It should hand traces over to the delegate on a background thread")
+    public void shouldHandTracesOverOnABackgroundThread() {
+        RecordingConsumer delegate = new RecordingConsumer(3);
+        Request request = buildRequest();
+
+        try (AsyncHttpLogConsumer sut =
+                AsyncHttpLogConsumer.builder().delegate(delegate).build()) {
+            sut.accept(new HttpLogEvent(new SensitiveHeaderGuard()).forRequest(request, "a-key"));
+            sut.accept(new HttpLogEvent(new SensitiveHeaderGuard())
+                    .forResponse(request, "a-key", buildResponse(request, 200, "{}")));
+            sut.accept(new HttpLogEvent(new SensitiveHeaderGuard()).forRequest(request, "another-key"));
+
+            assertTrue(delegate.received.await(5, TimeUnit.SECONDS));
+            assertEquals(3, sut.getPublishedCount());
+            assertEquals(0, sut.getDroppedCount());
+        }
+
+        assertEquals(
+                Arrays.asList(
+                        "[HTTP|a-key] --> GET http://localhost/ headers=[Authorization=***]",
+                        "[HTTP|a-key] <-- 200 GET http://localhost/ headers=[]",
+                        "[HTTP|another-key] --> GET http://localhost/ headers=[Authorization=***]"),
+                delegate.messages);
+        assertNotEquals(Thread.currentThread(), delegate.thread);
+    }
+
+    @SneakyThrows
+    @Test
+    @DisplayName("It should drop the newest traces once full")
+    public void shouldDropTheNewestTracesOnceFull() {
+        List<String> messages = fillWhileBlocked(DropPolicy.DROP_NEWEST);
+
+        assertEquals(Arrays.asList("1", "2", "3"), messages);
+    }
+
+    @SneakyThrows
+    @Test
+    @DisplayName("It should drop the oldest traces once full")
+    public void shouldDropTheOldestTracesOnceFull() {
+        List<String> messages = fillWhileBlocked(DropPolicy.DROP_OLDEST);
+
+        assertEquals(Arrays.asList("1", "3", "4"), messages);
+    }
+
+    @SneakyThrows
+    @Test
+    @DisplayName("It should keep the errors and the slow calls only, if successes are not sampled")
+    public void shouldKeepErrorsAndSlowCalls() {
+        RecordingConsumer delegate = new RecordingConsumer(2);
+        HttpLogSampling sampling = HttpLogSampling.builder()
+                .successRate(0)
+                .slowCallThreshold(Duration.ofSeconds(1))
+                .build();
+        Request request = buildRequest();
+
+        try (AsyncHttpLogConsumer sut = AsyncHttpLogConsumer.builder()
+                .delegate(delegate)
+                .sampling(sampling)
+                .build()) {
+            sut.accept(new HttpLogEvent(new SensitiveHeaderGuard()).forRequest(request, "a-key"));
+            sut.accept(new HttpLogEvent(new SensitiveHeaderGuard())
+                    .forResponse(request, "a-key", buildResponse(request, 200, "{}")));
+            sut.accept(new HttpLogEvent(new SensitiveHeaderGuard())
+                    .forResponse(request, "a-key", buildResponse(request, 500, "{}")));
+            Response slowResponse = buildResponse(request, 200, "{}")
+                    .newBuilder()
+                    .sentRequestAtMillis(0)
+                    .receivedResponseAtMillis(2000)
+                    .build();
+            sut.accept(new HttpLogEvent(new SensitiveHeaderGuard()).forResponse(request, "a-key", slowResponse));
+
+            assertTrue(delegate.received.await(5, TimeUnit.SECONDS));
+            assertEquals(2, sut.getSampledOutCount());
+        }
+
+        assertEquals(2, delegate.messages.size());
+        assertTrue(delegate.messages.get(0).contains("<-- 500"));
+        assertTrue(delegate.messages.get(1).contains("<-- 200"));
+    }
+
+    @SneakyThrows
+    @Test
+    @DisplayName("It should capture JSON response bodies with redacted fields")
+    public void shouldCaptureRedactedBodies() {
+        RecordingConsumer delegate = new RecordingConsumer(1);
+        Request request = buildRequest();
+        Response response = buildResponse(
+                request, 200, "{\"id\":\"a-payment\",\"user\":{\"email\":\"someone@example.com\"},\"iban\":\"GB123\"}");
+
+        try (AsyncHttpLogConsumer sut = AsyncHttpLogConsumer.builder()
+                .delegate(delegate)
+                .maxBodyBytes(1024)
+                .redactedBodyFields(new HashSet<>(Arrays.asList("user", "iban")))
+                .build()) {
+            sut.accept(new HttpLogEvent(new SensitiveHeaderGuard()).forResponse(request, "a-key", response));
+
+            assertTrue(delegate.received.await(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(
+                "[HTTP|a-key] <-- 200 GET http://localhost/ headers=[] "
+                        + "body={\"id\":\"a-payment\",\"user\":\"***\",\"iban\":\"***\"}",
+                delegate.messages.get(0));
+        assertEquals(
+                "{\"id\":\"a-payment\",\"user\":{\"email\":\"someone@example.com\"},\"iban\":\"GB123\"}",
+                response.body().string(),
+                "Response body consumed by the capture");
+    }
+
+    @SneakyThrows
+    @Test
+    @DisplayName("It should capture gzipped JSON response bodies with redacted fields")
+    public void shouldCaptureGzippedBodies() {
+        RecordingConsumer delegate = new RecordingConsumer(1);
+        Request request = buildRequest();
+        Buffer gzipped = new Buffer();
+        try (BufferedSink sink = Okio.buffer(new GzipSink(gzipped))) {
+            sink.writeUtf8("{\"id\":\"a-payment\",\"iban\":\"GB123\"}");
+        }
+        long gzippedSize = gzipped.size();
+        Response response = new Response.Builder()
+                .protocol(Protocol.HTTP_2)
+                .request(request)
+                .message("")
+                .header("Content-Encoding", "gzip")
+                .body(ResponseBody.create(MediaType.get("application/json"), gzippedSize, gzipped))
+                .code(200)
+                .build();
+
+        try (AsyncHttpLogConsumer sut = AsyncHttpLogConsumer.builder()
+                .delegate(delegate)
+                .maxBodyBytes(1024)
+                .redactedBodyFields(Collections.singleton("iban"))
+                .build()) {
+            sut.accept(new HttpLogEvent(new SensitiveHeaderGuard()).forResponse(request, "a-key", response));
+
+            assertTrue(delegate.received.await(5, TimeUnit.SECONDS));
+        }
+
+        assertTrue(
+                delegate.messages.get(0).endsWith("body={\"id\":\"a-payment\",\"iban\":\"***\"}"),
+                delegate.messages.get(0));
+        assertEquals(gzippedSize, response.body().bytes().length, "Response body consumed by the capture");
+    }
+
+    @Test
+    @DisplayName("It should never leak values truncated by the capture cap")
+    public void shouldNotLeakTruncatedValues() {
+        JsonBodyRedactor sut = new JsonBodyRedactor(Collections.singleton("iban"));
+
+        String redacted = sut.redact("{\"id\":\"a-payment\",\"iban\":\"GB12", true);
+
+        assertEquals("{\"id\":\"a-payment\",\"iban\":\"***\"...", redacted);
+    }
+
+    @SneakyThrows
+    private List<String> fillWhileBlocked(DropPolicy dropPolicy) {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingConsumer delegate = new RecordingConsumer(3) {
+            @Override
+            @SneakyThrows
+            public void accept(HttpLogEvent event) {
+                entered.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                super.accept(event);
+            }
+        };
+
+        try (AsyncHttpLogConsumer sut = AsyncHttpLogConsumer.builder()
+                .delegate(delegate)
+                .capacity(2)
+                .dropPolicy(dropPolicy)
+                .build()) {
+            sut.accept(new HttpLogEvent(new SensitiveHeaderGuard()).forRequest(buildRequest(), "1"));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            for (String key : Arrays.asList("2", "3", "4")) {
+                sut.accept(new HttpLogEvent(new SensitiveHeaderGuard()).forRequest(buildRequest(), key));
+            }
+            assertEquals(1, sut.getDroppedCount());
+            release.countDown();
+            assertTrue(delegate.received.await(5, TimeUnit.SECONDS));
+        }
+
+        return new ArrayList<>(delegate.events);
+    }
+
+    private static Request buildRequest() {
+        return new Request.Builder()
+                .url("http://localhost")
+                .header(AUTHORIZATION, "a-sensitive-token")
+                .build();
+    }
+
+    private static Response buildResponse(Request request, int code, String json) {
+        return new Response.Builder()
+                .protocol(Protocol.HTTP_2)
+                .request(request)
+                .message("")
+                .body(ResponseBody.create(MediaType.get("application/json"), json))
+                .code(code)
+                .build();
+    }
+
+    private static class RecordingConsumer implements HttpLogConsumer {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch received;
+        private volatile Thread thread;
+
+        RecordingConsumer(int expectedEvents) {
+            this.received = new CountDownLatch(expectedEvents);
+        }
+
+        @Override
+        public void accept(HttpLogEvent event) {
+            thread = Thread.currentThread();
+            messages.add(event.appendTo(new StringBuilder()).toString());
+            events.add(event.getIdempotencyKey());
+            received.countDown();
+        }
+    }
+}
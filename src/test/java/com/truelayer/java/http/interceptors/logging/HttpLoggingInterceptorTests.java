@@ -3,10 +3,15 @@ package com.truelayer.java.http.interceptors.logging;
 import static com.truelayer.java.Constants.HeaderNames.AUTHORIZATION;
 import static com.truelayer.java.Constants.HeaderNames.COOKIE;
 import static com.truelayer.java.TestUtils.JSON_RESPONSES_LOCATION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.Mockito.*;
 
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 import lombok.SneakyThrows;
 import okhttp3.*;
 import org.junit.jupiter.api.DisplayName;
@@ -53,4 +58,114 @@ class HttpLoggingInterceptorTests {
         interactions.verify(chain).proceed(request);
         interactions.verify(logConsumer).accept(anyString());
     }
+
+    @SneakyThrows
+    @Test
+    @DisplayName("It should not build any trace if the log consumer is disabled")
+    public void shouldNotBuildTracesIfDisabled() {
+        Request request = new Request.Builder().url("http://localhost").build();
+        Interceptor.Chain chain = mock(Interceptor.Chain.class);
+        when(chain.request()).thenReturn(request);
+        Response response = buildResponse(request);
+        when(chain.proceed(request)).thenReturn(response);
+        HttpLogConsumer logConsumer = mock(HttpLogConsumer.class);
+        when(logConsumer.isEnabled()).thenReturn(false);
+        SensitiveHeaderGuard sensitiveHeaderGuard = mock(SensitiveHeaderGuard.class);
+        HttpLoggingInterceptor sut = new HttpLoggingInterceptor(logConsumer, sensitiveHeaderGuard);
+
+        Response actualResponse = sut.intercept(chain);
+
+        assertEquals(response, actualResponse);
+        verify(logConsumer, never()).accept(any());
+        verifyNoInteractions(sensitiveHeaderGuard);
+    }
+
+    @SneakyThrows
+    @Test
+    @DisplayName("It should hand structured traces with sensitive headers masked")
+    public void shouldHandStructuredTracesWithSensitiveHeadersMasked() {
+        Request request = new Request.Builder()
+                .url("http://localhost")
+                .header(AUTHORIZATION, "a-sensitive-token")
+                .header("Idempotency-Key", "an-idempotency-key")
+                .build();
+        Interceptor.Chain chain = mock(Interceptor.Chain.class);
+        when(chain.request()).thenReturn(request);
+        when(chain.proceed(request)).thenReturn(buildResponse(request));
+        List<String> fields = new ArrayList<>();
+        HttpLogEvent.FieldVisitor visitor = new HttpLogEvent.FieldVisitor() {
+            @Override
+            public void onField(String key, String value) {
+                fields.add(key + "=" + value);
+            }
+
+            @Override
+            public void onField(String key, int value) {
+                fields.add(key + "=" + value);
+            }
+
+            @Override
+            public void onHeader(String name, String value) {
+                fields.add(name + ":" + value);
+            }
+        };
+        HttpLoggingInterceptor sut =
+                new HttpLoggingInterceptor((HttpLogConsumer) e -> e.visit(visitor), new SensitiveHeaderGuard());
+
+        sut.intercept(chain);
+
+        List<String> expectedFields = new ArrayList<>();
+        expectedFields.add("idempotency_key=an-idempotency-key");
+        expectedFields.add("direction=-->");
+        expectedFields.add("method=GET");
+        expectedFields.add("url=http://localhost/");
+        expectedFields.add("Authorization:***");
+        expectedFields.add("Idempotency-Key:an-idempotency-key");
+        expectedFields.add("idempotency_key=an-idempotency-key");
+        expectedFields.add("direction=<--");
+        expectedFields.add("code=200");
+        expectedFields.add("method=GET");
+        expectedFields.add("url=http://localhost/");
+        expectedFields.add("Cookie:***");
+        assertEquals(expectedFields, fields);
+    }
+
+    @SneakyThrows
+    @Test
+    @DisplayName("It should format text traces")
+    public void shouldFormatTextTraces() {
+        Request request = new Request.Builder()
+                .url("http://localhost")
+                .header(AUTHORIZATION, "a-sensitive-token")
+                .header("Idempotency-Key", "an-idempotency-key")
+                .build();
+        Interceptor.Chain chain = mock(Interceptor.Chain.class);
+        when(chain.request()).thenReturn(request);
+        when(chain.proceed(request)).thenReturn(buildResponse(request));
+        List<String> messages = new ArrayList<>();
+        Consumer<String> logMessageConsumer = messages::add;
+        HttpLoggingInterceptor sut = new HttpLoggingInterceptor(logMessageConsumer, new SensitiveHeaderGuard());
+
+        sut.intercept(chain);
+
+        assertEquals(2, messages.size());
+        assertEquals(
+                "[HTTP|an-idempotency-key] --> GET http://localhost/ "
+                        + "headers=[Authorization=***, Idempotency-Key=an-idempotency-key]",
+                messages.get(0));
+        assertEquals(
+                "[HTTP|an-idempotency-key] <-- 200 GET http://localhost/ headers=[Cookie=***]", messages.get(1));
+        assertFalse(messages.get(0).contains("a-sensitive-token"));
+    }
+
+    private static Response buildResponse(Request request) {
+        return new Response.Builder()
+                .protocol(Protocol.HTTP_2)
+                .request(request)
+                .message("")
+                .body(ResponseBody.create(MediaType.get("application/json"), "{}"))
+                .code(200)
+                .header(COOKIE, "a-cookie")
+                .build();
+    }
 }
@@ -3,8 +3,11 @@ package com.truelayer.java.http.mappers;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.truelayer.java.Constants;
 import com.truelayer.java.TestUtils;
+import com.truelayer.java.Utils;
 import com.truelayer.java.http.entities.ProblemDetails;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -92,6 +95,50 @@ class ErrorMapperTests {
         assertEquals(buildGenericError(ErrorMapper.GENERIC_ERROR_TITLE), actual);
     }
 
+    @SneakyThrows
+    @Test
+    @DisplayName("It should map the errors of a problem details")
+    public void shouldMapTheErrors() {
+        ErrorMapper sut = new ErrorMapper();
+        String json = "{\"errors\":{\"amount_in_minor\":[\"must be positive\"]},\"unknown\":{\"nested\":[1,2]},"
+                + "\"type\":\"https://docs.truelayer.com/docs/error-types#invalid-parameters\","
+                + "\"title\":\"Invalid Parameters\",\"status\":400,\"trace_id\":\"a-trace-id\"}";
+
+        ProblemDetails actual = sut.toProblemDetails(buildErrorResponse(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertTrue(actual.isWellFormed());
+        assertEquals("Invalid Parameters", actual.getTitle());
+        assertEquals("a-trace-id", actual.getTraceId());
+        assertEquals("must be positive", actual.getErrors().get("amount_in_minor").get(0).asText());
+        assertEquals(Utils.getObjectMapper().readTree(json).get("errors"), actual.getErrors());
+    }
+
+    @Test
+    @DisplayName("It should map an error body exceeding the size limit into a generic problem details")
+    public void shouldBuildAProblemDetailsForAnOversizedError() {
+        ErrorMapper sut = new ErrorMapper(16);
+        Response<?> invalidClientResponse = buildErrorResponse("/payments/401.invalid_signature.json");
+
+        ProblemDetails actual = sut.toProblemDetails(invalidClientResponse);
+
+        assertEquals(buildGenericError(ErrorMapper.GENERIC_ERROR_TITLE), actual);
+    }
+
+    @Test
+    @DisplayName("It should parse error bodies with the given object mapper")
+    public void shouldParseErrorsWithTheGivenObjectMapper() {
+        ObjectMapper objectMapper = Utils.newObjectMapper().enable(JsonParser.Feature.ALLOW_COMMENTS);
+        byte[] errorBody = "{/* legacy */ \"error\": \"invalid_client\"}".getBytes(StandardCharsets.UTF_8);
+
+        ProblemDetails actual = new ErrorMapper(objectMapper, ErrorMapper.DEFAULT_MAX_ERROR_BODY_SIZE)
+                .toProblemDetails(buildErrorResponse(errorBody));
+
+        assertEquals(buildGenericError("invalid_client"), actual);
+        assertEquals(
+                buildGenericError(ErrorMapper.GENERIC_ERROR_TITLE),
+                new ErrorMapper().toProblemDetails(buildErrorResponse(errorBody)));
+    }
+
     @SneakyThrows
     private Response<?> buildErrorResponse(String errorFile) {
         return buildErrorResponse(Files.readAllBytes(Paths.get(TestUtils.JSON_RESPONSES_LOCATION + errorFile)));
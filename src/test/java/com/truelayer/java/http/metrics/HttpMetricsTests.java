@@ -0,0 +1,76 @@
+package com.truelayer.java.http.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.truelayer.java.http.metrics.HttpMetrics.PhaseSnapshot;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Request;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HttpMetricsTests {
+
+    @Test
+    @DisplayName("It should yield the latency percentiles of each endpoint and phase")
+    public void shouldYieldLatencyPercentiles() {
+        HttpMetrics sut = new HttpMetrics();
+        for (int i = 1; i <= 1000; i++) {
+            sut.record("IPaymentsApi.createPayment", HttpPhase.SERVER, TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        sut.record("IPaymentsApi.createPayment", HttpPhase.SIGNING, TimeUnit.MICROSECONDS.toNanos(250));
+
+        List<PhaseSnapshot> snapshot = sut.snapshot();
+
+        assertEquals(2, snapshot.size());
+        PhaseSnapshot server = snapshot.stream()
+                .filter(s -> s.getPhase() == HttpPhase.SERVER)
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+        assertEquals("IPaymentsApi.createPayment", server.getEndpoint());
+        assertEquals(1000, server.getCount());
+        assertWithinResolution(Duration.ofMillis(500), server.getMean());
+        assertWithinResolution(Duration.ofMillis(500), server.getP50());
+        assertWithinResolution(Duration.ofMillis(900), server.getP90());
+        assertWithinResolution(Duration.ofMillis(990), server.getP99());
+        assertWithinResolution(Duration.ofMillis(999), server.getP999());
+        assertEquals(Duration.ofMillis(1000), server.getMax());
+    }
+
+    @Test
+    @DisplayName("It should bound the relative error of the recorded values")
+    public void shouldBoundTheRelativeError() {
+        int previousIndex = -1;
+        for (long micros = 0; micros < 10_000_000; micros = micros * 11 / 10 + 1) {
+            int index = LatencyHistogram.indexOf(micros);
+            long highestValue = LatencyHistogram.highestValueOf(index);
+
+            assertTrue(index >= previousIndex, "Buckets are not monotonic");
+            assertTrue(highestValue >= micros, "Value above its bucket");
+            assertTrue(highestValue - micros <= micros / 32, "Relative error above resolution");
+            previousIndex = index;
+        }
+    }
+
+    @Test
+    @DisplayName("It should name requests not made through an API interface after their method and host")
+    public void shouldNameRequestsAfterMethodAndHost() {
+        Request request = new Request.Builder().url("https://api.truelayer.com/any").build();
+
+        assertEquals("GET api.truelayer.com", HttpEndpoints.nameOf(request));
+    }
+
+    @Test
+    @DisplayName("It should yield an empty snapshot if nothing was recorded")
+    public void shouldYieldAnEmptySnapshot() {
+        assertTrue(new HttpMetrics().snapshot().isEmpty());
+    }
+
+    private static void assertWithinResolution(Duration expected, Duration actual) {
+        long tolerance = expected.toNanos() / 32;
+        assertTrue(
+                Math.abs(expected.toNanos() - actual.toNanos()) <= tolerance,
+                String.format("Expected %s but was %s", expected, actual));
+    }
+}
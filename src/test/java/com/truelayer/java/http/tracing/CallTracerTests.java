@@ -0,0 +1,207 @@
+package com.truelayer.java.http.tracing;
+
+import static com.truelayer.java.Constants.HeaderNames.TL_CORRELATION_ID;
+import static com.truelayer.java.Constants.HeaderNames.TRACEPARENT;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.truelayer.java.http.tracing.CallTracer.ActiveSpan;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.SneakyThrows;
+import okhttp3.Interceptor;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import retrofit2.Invocation;
+
+class CallTracerTests {
+
+    @Test
+    @DisplayName("It should generate valid W3C traceparent values")
+    public void shouldGenerateValidTraceparents() {
+        String traceparent = Traceparent.random();
+
+        assertTrue(traceparent.matches("00-[0-9a-f]{32}-[0-9a-f]{16}-01"), traceparent);
+        assertNotEquals(traceparent, Traceparent.random());
+    }
+
+    @SneakyThrows
+    @Test
+    @DisplayName("It should send the traceparent of the span with the request")
+    public void shouldSendTheTraceparentOfTheSpan() {
+        String traceparent = "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01";
+        RecordingTracer tracer = new RecordingTracer(traceparent);
+        CallTracer sut = new CallTracer(TracingOptions.builder()
+                .tracer(tracer)
+                .injectTraceparent(true)
+                .build());
+        Request request = buildRequest();
+
+        sut.start(request);
+        Request sentRequest = intercept(sut, request);
+
+        assertEquals(traceparent, sentRequest.header(TRACEPARENT));
+        assertEquals("GET localhost", tracer.endpoints.get(0));
+    }
+
+    @SneakyThrows
+    @Test
+    @DisplayName("It should send the traceparent even if the request was rebuilt by a previous interceptor")
+    public void shouldSendTheTraceparentOfRebuiltRequests() {
+        CallTracer sut = new CallTracer(TracingOptions.builder()
+                .tracer(new RecordingTracer(null))
+                .injectTraceparent(true)
+                .build());
+        Request request = new Request.Builder()
+                .url("http://localhost")
+                .tag(Invocation.class, Invocation.of(Object.class.getMethod("toString"), Collections.emptyList()))
+                .build();
+
+        sut.start(request);
+        Request sentRequest = intercept(
+                sut, request.newBuilder().header("User-Agent", "a-user-agent").build());
+
+        assertTrue(sentRequest.header(TRACEPARENT).matches("00-[0-9a-f]{32}-[0-9a-f]{16}-01"));
+    }
+
+    @SneakyThrows
+    @Test
+    @DisplayName("It should not send any traceparent if injection is disabled")
+    public void shouldNotSendTraceparentIfDisabled() {
+        CallTracer sut = new CallTracer(TracingOptions.builder()
+                .tracer(new RecordingTracer(null))
+                .build());
+        Request request = buildRequest();
+
+        sut.start(request);
+        Request sentRequest = intercept(sut, request);
+
+        assertNull(sentRequest.header(TRACEPARENT));
+    }
+
+    @Test
+    @DisplayName("It should end the span with the status, retries and correlation id of the final response")
+    public void shouldEndTheSpanWithTheResponseOutcome() {
+        RecordingTracer tracer = new RecordingTracer(null);
+        CallTracer sut = new CallTracer(TracingOptions.builder().tracer(tracer).build());
+        Request request = buildRequest();
+        Response redirect = buildResponse(request, 307).build();
+        Response response = buildResponse(request, 201)
+                .header(TL_CORRELATION_ID, "a-correlation-id")
+                .priorResponse(redirect)
+                .build();
+
+        ActiveSpan span = sut.start(request);
+        span.end(response);
+
+        SpanOutcome outcome = tracer.outcomes.get(0);
+        assertEquals("GET localhost", outcome.getEndpoint());
+        assertEquals(201, outcome.getStatus());
+        assertEquals(1, outcome.getRetries());
+        assertEquals("a-correlation-id", outcome.getCorrelationId());
+        assertNotNull(outcome.getDuration());
+        assertNull(outcome.getFailure());
+    }
+
+    @Test
+    @DisplayName("It should end the span with the failure of calls failed without a response")
+    public void shouldEndTheSpanWithTheFailure() {
+        RecordingTracer tracer = new RecordingTracer(null);
+        CallTracer sut = new CallTracer(TracingOptions.builder().tracer(tracer).build());
+        IOException failure = new IOException("connection reset");
+
+        sut.start(buildRequest()).end(failure);
+
+        SpanOutcome outcome = tracer.outcomes.get(0);
+        assertEquals(SpanOutcome.NO_STATUS, outcome.getStatus());
+        assertSame(failure, outcome.getFailure());
+    }
+
+    @Test
+    @DisplayName("It should run the task even if the tracer fails")
+    public void shouldRunTheTaskEvenIfTheTracerFails() {
+        ISpan failingSpan = new ISpan() {
+            @Override
+            public void runInContext(Runnable task) {
+                throw new IllegalStateException("no context");
+            }
+
+            @Override
+            public void end(SpanOutcome outcome) {
+                throw new IllegalStateException("cannot end");
+            }
+        };
+        CallTracer sut = new CallTracer(
+                TracingOptions.builder().tracer(endpoint -> failingSpan).build());
+        boolean[] ran = new boolean[1];
+
+        ActiveSpan span = sut.start(buildRequest());
+        span.end(new IOException("connection reset"));
+        span.runInContext(() -> ran[0] = true);
+
+        assertTrue(ran[0]);
+    }
+
+    @Test
+    @DisplayName("It should not be enabled with the no-op tracer")
+    public void shouldNotBeEnabledWithTheNoopTracer() {
+        assertFalse(new CallTracer(TracingOptions.builder().build()).isEnabled());
+    }
+
+    @SneakyThrows
+    private static Request intercept(CallTracer sut, Request request) {
+        Interceptor.Chain chain = mock(Interceptor.Chain.class);
+        when(chain.request()).thenReturn(request);
+        ArgumentCaptor<Request> sentRequest = ArgumentCaptor.forClass(Request.class);
+        when(chain.proceed(sentRequest.capture())).thenReturn(buildResponse(request, 200).build());
+
+        sut.traceContextInterceptor().intercept(chain);
+
+        return sentRequest.getValue();
+    }
+
+    private static Request buildRequest() {
+        return new Request.Builder().url("http://localhost").build();
+    }
+
+    private static Response.Builder buildResponse(Request request, int code) {
+        return new Response.Builder()
+                .protocol(Protocol.HTTP_2)
+                .request(request)
+                .message("")
+                .code(code);
+    }
+
+    private static class RecordingTracer implements ITracer {
+        private final String traceparent;
+        private final List<String> endpoints = new ArrayList<>();
+        private final List<SpanOutcome> outcomes = new ArrayList<>();
+
+        RecordingTracer(String traceparent) {
+            this.traceparent = traceparent;
+        }
+
+        @Override
+        public ISpan startSpan(String endpoint) {
+            endpoints.add(endpoint);
+            return new ISpan() {
+                @Override
+                public String getTraceparent() {
+                    return traceparent;
+                }
+
+                @Override
+                public void end(SpanOutcome outcome) {
+                    outcomes.add(outcome);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.truelayer.java.integration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.truelayer.java.TestUtils.assertNotError;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import com.truelayer.java.TestUtils;
+import com.truelayer.java.TestUtils.RequestStub;
+import com.truelayer.java.TrueLayerClient;
+import com.truelayer.java.http.metrics.HttpMetrics;
+import com.truelayer.java.http.metrics.HttpMetrics.PhaseSnapshot;
+import com.truelayer.java.http.metrics.HttpPhase;
+import java.net.URI;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.*;
+
+@WireMockTest
+@Tag("integration")
+public class HttpMetricsIntegrationTests {
+
+    private TrueLayerClient tlClient;
+
+    private HttpMetrics httpMetrics;
+
+    @BeforeEach
+    public void setup(WireMockRuntimeInfo wireMockRuntimeInfo) {
+        httpMetrics = new HttpMetrics();
+        tlClient = TrueLayerClient.New()
+                .clientCredentials(TestUtils.getClientCredentials())
+                .signingOptions(TestUtils.getSigningOptions())
+                .environment(TestUtils.getTestEnvironment(URI.create(wireMockRuntimeInfo.getHttpBaseUrl())))
+                .withHttpMetrics(httpMetrics)
+                .build();
+    }
+
+    @SneakyThrows
+    @Test
+    @DisplayName("It should record the latency of the phases of each endpoint")
+    public void itShouldRecordPhasesPerEndpoint() {
+        RequestStub.New()
+                .method("post")
+                .path(urlPathEqualTo("/connect/token"))
+                .status(200)
+                .bodyFile("auth/200.access_token.json")
+                .build();
+        RequestStub.New()
+                .method("get")
+                .path(urlPathEqualTo("/merchant-accounts"))
+                .status(200)
+                .bodyFile("merchant_accounts/200.list_merchant_accounts.json")
+                .build();
+
+        assertNotError(tlClient.merchantAccounts().listMerchantAccounts().get());
+
+        List<PhaseSnapshot> snapshot = httpMetrics.snapshot();
+        assertTrue(phasesOf(snapshot, "IAuthenticationApi.getOauthToken")
+                .containsAll(EnumSet.of(HttpPhase.QUEUE, HttpPhase.CONNECT, HttpPhase.SERVER, HttpPhase.TOTAL)));
+        assertTrue(phasesOf(snapshot, "IMerchantAccountsApi.listMerchantAccounts")
+                .containsAll(EnumSet.of(
+                        HttpPhase.QUEUE, HttpPhase.TOKEN, HttpPhase.REQUEST, HttpPhase.SERVER, HttpPhase.RESPONSE)));
+    }
+
+    private static Set<HttpPhase> phasesOf(List<PhaseSnapshot> snapshot, String endpoint) {
+        return snapshot.stream()
+                .filter(s -> s.getEndpoint().equals(endpoint))
+                .map(PhaseSnapshot::getPhase)
+                .collect(Collectors.toSet());
+    }
+}
@@ -7,12 +7,17 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.truelayer.java.TestUtils.RequestStub;
 import com.truelayer.java.entities.CurrencyCode;
+import com.truelayer.java.http.StreamingItemsIterator;
 import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.http.entities.ResponseMetadata;
 import com.truelayer.java.merchantaccounts.entities.*;
 import com.truelayer.java.merchantaccounts.entities.sweeping.Frequency;
 import com.truelayer.java.merchantaccounts.entities.sweeping.SweepingSettings;
+import com.truelayer.java.merchantaccounts.entities.transactions.Transaction;
 import com.truelayer.java.merchantaccounts.entities.transactions.TransactionTypeQuery;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -47,6 +52,9 @@ public class MerchantAccountsIntegrationTests extends IntegrationTests {
         ListMerchantAccountsResponse expected =
                 deserializeJsonFileTo(jsonResponseFile, ListMerchantAccountsResponse.class);
         assertEquals(expected, response.getData());
+        ResponseMetadata metadata = response.getMetadata().orElseThrow(IllegalStateException::new);
+        assertEquals(200, metadata.getStatus());
+        assertTrue(metadata.getCorrelationId().isPresent());
     }
 
     @SneakyThrows
@@ -109,6 +117,43 @@ public class MerchantAccountsIntegrationTests extends IntegrationTests {
         assertEquals(expected, response.getData());
     }
 
+    @SneakyThrows
+    @Test
+    @DisplayName("It should stream the list of transactions for a given merchant account")
+    public void shouldStreamTransactions() {
+        String jsonResponseFile = "merchant_accounts/200.get_transactions.json";
+        RequestStub.New()
+                .method("post")
+                .path(urlPathEqualTo("/connect/token"))
+                .status(200)
+                .bodyFile("auth/200.access_token.json")
+                .build();
+        RequestStub.New()
+                .method("get")
+                .path(urlPathEqualTo("/merchant-accounts/" + A_MERCHANT_ACCOUNT_ID + "/transactions"))
+                .withAuthorization()
+                .status(200)
+                .bodyFile(jsonResponseFile)
+                .build();
+
+        ListTransactionsQuery query = ListTransactionsQuery.builder()
+                .from(ZonedDateTime.parse("2021-03-01T00:00:00Z"))
+                .to(ZonedDateTime.parse("2022-03-01T00:00:00Z"))
+                .type(TransactionTypeQuery.PAYMENT)
+                .build();
+        ApiResponse<StreamingItemsIterator<Transaction>> response = tlClient.merchantAccounts()
+                .streamTransactions(A_MERCHANT_ACCOUNT_ID, query)
+                .get();
+
+        assertNotError(response);
+        List<Transaction> transactions = new ArrayList<>();
+        try (StreamingItemsIterator<Transaction> iterator = response.getData()) {
+            iterator.forEachRemaining(transactions::add);
+        }
+        ListTransactionsResponse expected = deserializeJsonFileTo(jsonResponseFile, ListTransactionsResponse.class);
+        assertEquals(expected.getItems(), transactions);
+    }
+
     @SneakyThrows
     @Test
     @DisplayName("It should get the sweeping settings for a given merchant account")
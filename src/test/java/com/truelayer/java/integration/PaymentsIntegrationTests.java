@@ -113,6 +113,34 @@ public class PaymentsIntegrationTests extends IntegrationTests {
         assertEquals(expected, response.getData());
     }
 
+    @Test
+    @DisplayName("It should get the payment details through the reactive API")
+    @SneakyThrows
+    public void shouldReturnAPaymentDetailThroughTheReactiveApi() {
+        String jsonResponseFile = "payments/200.get_payment_by_id.settled.json";
+        RequestStub.New()
+                .method("post")
+                .path(urlPathEqualTo("/connect/token"))
+                .status(200)
+                .bodyFile("auth/200.access_token.json")
+                .build();
+        RequestStub.New()
+                .method("get")
+                .path(urlPathMatching("/payments/" + A_PAYMENT_ID))
+                .withAuthorization()
+                .status(200)
+                .bodyFile(jsonResponseFile)
+                .build();
+
+        ApiResponse<PaymentDetail> response = TestUtils.awaitFirst(
+                        tlClient.reactivePayments().getPayment(A_PAYMENT_ID))
+                .get();
+
+        assertNotError(response);
+        PaymentDetail expected = TestUtils.deserializeJsonFileTo(jsonResponseFile, PaymentDetail.class);
+        assertEquals(expected, response.getData());
+    }
+
     @Test
     @DisplayName("It should return an error if a payment is not found")
     @SneakyThrows
@@ -0,0 +1,73 @@
+package com.truelayer.java.integration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.truelayer.java.Constants.HeaderNames.TRACEPARENT;
+import static com.truelayer.java.TestUtils.assertNotError;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import com.truelayer.java.TestUtils;
+import com.truelayer.java.TestUtils.RequestStub;
+import com.truelayer.java.TrueLayerClient;
+import com.truelayer.java.http.tracing.ISpan;
+import com.truelayer.java.http.tracing.ITracer;
+import com.truelayer.java.http.tracing.SpanOutcome;
+import com.truelayer.java.http.tracing.TracingOptions;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.*;
+
+@WireMockTest
+@Tag("integration")
+public class TracingIntegrationTests {
+
+    private TrueLayerClient tlClient;
+
+    private final List<SpanOutcome> outcomes = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void setup(WireMockRuntimeInfo wireMockRuntimeInfo) {
+        ITracer tracer = endpoint -> (ISpan) outcomes::add;
+        tlClient = TrueLayerClient.New()
+                .clientCredentials(TestUtils.getClientCredentials())
+                .signingOptions(TestUtils.getSigningOptions())
+                .environment(TestUtils.getTestEnvironment(URI.create(wireMockRuntimeInfo.getHttpBaseUrl())))
+                .withTracing(TracingOptions.builder()
+                        .tracer(tracer)
+                        .injectTraceparent(true)
+                        .build())
+                .build();
+    }
+
+    @SneakyThrows
+    @Test
+    @DisplayName("It should trace each call and send its trace context")
+    public void itShouldTraceEachCall() {
+        RequestStub.New()
+                .method("post")
+                .path(urlPathEqualTo("/connect/token"))
+                .status(200)
+                .bodyFile("auth/200.access_token.json")
+                .build();
+        RequestStub.New()
+                .method("get")
+                .path(urlPathEqualTo("/merchant-accounts"))
+                .status(200)
+                .bodyFile("merchant_accounts/200.list_merchant_accounts.json")
+                .build();
+
+        assertNotError(tlClient.merchantAccounts().listMerchantAccounts().get());
+
+        verify(1, getRequestedFor(urlPathEqualTo("/merchant-accounts"))
+                .withHeader(TRACEPARENT, matching("00-[0-9a-f]{32}-[0-9a-f]{16}-01")));
+        SpanOutcome outcome = outcomes.stream()
+                .filter(o -> o.getEndpoint().equals("IMerchantAccountsApi.listMerchantAccounts"))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+        assertEquals(200, outcome.getStatus());
+        assertNotNull(outcome.getCorrelationId());
+    }
+}
@@ -0,0 +1,84 @@
+package com.truelayer.java.integration.cache;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.truelayer.java.TestUtils.assertNotError;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import com.truelayer.java.HttpCacheOptions;
+import com.truelayer.java.TestUtils;
+import com.truelayer.java.TestUtils.RequestStub;
+import com.truelayer.java.TrueLayerClient;
+import com.truelayer.java.http.caching.HttpCacheStats;
+import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.merchantaccounts.entities.ListMerchantAccountsResponse;
+import java.io.File;
+import java.net.URI;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+@WireMockTest
+@Tag("integration")
+public class HttpCacheTests {
+    private static final String AN_ETAG = "\"v1\"";
+
+    @TempDir
+    File cacheDirectory;
+
+    private TrueLayerClient tlClient;
+
+    private HttpCacheStats cacheStats;
+
+    @BeforeEach
+    public void setup(WireMockRuntimeInfo wireMockRuntimeInfo) {
+        cacheStats = new HttpCacheStats();
+        tlClient = TrueLayerClient.New()
+                .clientCredentials(TestUtils.getClientCredentials())
+                .signingOptions(TestUtils.getSigningOptions())
+                .environment(TestUtils.getTestEnvironment(URI.create(wireMockRuntimeInfo.getHttpBaseUrl())))
+                .withHttpCache(HttpCacheOptions.builder()
+                        .directory(cacheDirectory)
+                        .stats(cacheStats)
+                        .build())
+                .build();
+    }
+
+    @SneakyThrows
+    @Test
+    @DisplayName("It should revalidate cached responses using their ETag")
+    public void itShouldRevalidateCachedResponses() {
+        RequestStub.New()
+                .method("post")
+                .path(urlPathEqualTo("/connect/token"))
+                .status(200)
+                .bodyFile("auth/200.access_token.json")
+                .build();
+        stubFor(get(urlPathEqualTo("/merchant-accounts"))
+                .atPriority(2)
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withHeader("ETag", AN_ETAG)
+                        .withBodyFile("merchant_accounts/200.list_merchant_accounts.json")));
+        stubFor(get(urlPathEqualTo("/merchant-accounts"))
+                .atPriority(1)
+                .withHeader("If-None-Match", equalTo(AN_ETAG))
+                .willReturn(aResponse().withStatus(304).withHeader("ETag", AN_ETAG)));
+
+        ApiResponse<ListMerchantAccountsResponse> first =
+                tlClient.merchantAccounts().listMerchantAccounts().get();
+        ApiResponse<ListMerchantAccountsResponse> second =
+                tlClient.merchantAccounts().listMerchantAccounts().get();
+
+        assertNotError(first);
+        assertNotError(second);
+        assertEquals(first.getData(), second.getData());
+        verify(1, getRequestedFor(urlPathEqualTo("/merchant-accounts")).withHeader("If-None-Match", equalTo(AN_ETAG)));
+        HttpCacheStats.Snapshot stats = cacheStats.snapshot();
+        assertEquals(1, stats.getMisses());
+        assertEquals(1, stats.getConditionalHits());
+        assertTrue(stats.getBytesSaved() > 0);
+    }
+}
@@ -0,0 +1,85 @@
+package com.truelayer.java.management;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.truelayer.java.TrueLayerException;
+import com.truelayer.java.auth.entities.AccessToken;
+import com.truelayer.java.http.auth.cache.SimpleCredentialsCache;
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import lombok.SneakyThrows;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TrueLayerClientManagementTests {
+    private static final String A_CLIENT_NAME = "a-client";
+
+    @AfterEach
+    public void teardown() {
+        TrueLayerClientManagement.unregister(A_CLIENT_NAME);
+    }
+
+    @SneakyThrows
+    @Test
+    @DisplayName("It should expose the state of the client internals over JMX")
+    public void shouldExposeTheClientState() {
+        SimpleCredentialsCache credentialsCache =
+                new SimpleCredentialsCache(Clock.fixed(Instant.parse("2022-01-01T00:00:00Z"), ZoneOffset.UTC));
+        credentialsCache.storeToken(new AccessToken("a-token", 3600, "payments", "Bearer"));
+        new TrueLayerClientManagement(new OkHttpClient(), credentialsCache).register(A_CLIENT_NAME);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = TrueLayerClientManagement.objectNameOf(A_CLIENT_NAME);
+
+        assertEquals(0, server.getAttribute(objectName, "ConnectionCount"));
+        assertEquals(0, server.getAttribute(objectName, "QueuedCallsCount"));
+        assertEquals(true, server.getAttribute(objectName, "TokenCached"));
+        assertEquals(3600L, server.getAttribute(objectName, "TokenSecondsToExpiry"));
+
+        server.invoke(objectName, "invalidateToken", null, null);
+
+        assertEquals(false, server.getAttribute(objectName, "TokenCached"));
+        assertEquals(-1L, server.getAttribute(objectName, "TokenSecondsToExpiry"));
+    }
+
+    @Test
+    @DisplayName("It should report unknown token state if credentials caching is disabled")
+    public void shouldReportUnknownTokenState() {
+        TrueLayerClientManagement sut = new TrueLayerClientManagement(new OkHttpClient(), null);
+
+        assertFalse(sut.isCredentialsCachingEnabled());
+        assertFalse(sut.isTokenCached());
+        assertEquals(-1, sut.getTokenSecondsToExpiry());
+    }
+
+    @Test
+    @DisplayName("It should unregister the bean when its registration is closed")
+    public void shouldUnregisterWhenTheRegistrationIsClosed() {
+        TrueLayerClientManagement.Registration registration =
+                new TrueLayerClientManagement(new OkHttpClient(), null).register(A_CLIENT_NAME);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = TrueLayerClientManagement.objectNameOf(A_CLIENT_NAME);
+
+        registration.close();
+
+        assertFalse(server.isRegistered(objectName));
+        new TrueLayerClientManagement(new OkHttpClient(), null).register(A_CLIENT_NAME);
+        registration.close();
+        assertTrue(server.isRegistered(objectName));
+    }
+
+    @Test
+    @DisplayName("It should fail registering two clients with the same name")
+    public void shouldFailRegisteringTwoClientsWithTheSameName() {
+        new TrueLayerClientManagement(new OkHttpClient(), null).register(A_CLIENT_NAME);
+
+        assertThrows(
+                TrueLayerException.class,
+                () -> new TrueLayerClientManagement(new OkHttpClient(), null).register(A_CLIENT_NAME));
+    }
+}
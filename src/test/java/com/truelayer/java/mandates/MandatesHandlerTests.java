@@ -1,15 +1,22 @@
 package com.truelayer.java.mandates;
 
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.truelayer.java.mandates.entities.CreateMandateRequest;
 import com.truelayer.java.mandates.entities.ListMandatesQuery;
+import com.truelayer.java.mandates.entities.mandatedetail.MandateDetail;
 import com.truelayer.java.payments.entities.StartAuthorizationFlowRequest;
 import com.truelayer.java.payments.entities.SubmitProviderSelectionRequest;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 class MandatesHandlerTests {
     private static final String A_MANDATE_ID = "a-mandate-id";
@@ -84,6 +91,40 @@ class MandatesHandlerTests {
         verify(mandatesApi, times(1)).listMandates(A_USER_ID, A_CURSOR, A_LIMIT);
     }
 
+    @Test
+    @DisplayName("It should call the list mandates endpoint only once the publisher is subscribed")
+    public void shouldCallListMandatesEndpointOnDemand() {
+        IMandatesApi mandatesApi = Mockito.mock(IMandatesApi.class);
+        MandatesHandler sut = new MandatesHandler(mandatesApi);
+        ListMandatesQuery query = ListMandatesQuery.builder()
+                .userId(A_USER_ID)
+                .cursor(A_CURSOR)
+                .limit(A_LIMIT)
+                .build();
+        when(mandatesApi.listMandates(A_USER_ID, A_CURSOR, A_LIMIT)).thenReturn(new CompletableFuture<>());
+
+        Publisher<MandateDetail> publisher = sut.listMandatesPublisher(query);
+        verify(mandatesApi, never()).listMandates(A_USER_ID, A_CURSOR, A_LIMIT);
+
+        publisher.subscribe(new Subscriber<MandateDetail>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(MandateDetail mandateDetail) {}
+
+            @Override
+            public void onError(Throwable throwable) {}
+
+            @Override
+            public void onComplete() {}
+        });
+
+        verify(mandatesApi, times(1)).listMandates(A_USER_ID, A_CURSOR, A_LIMIT);
+    }
+
     @Test
     @DisplayName("It should call the get mandate endpoint")
     public void shouldCallGetMandatesEndpoint() {
@@ -0,0 +1,226 @@
+package com.truelayer.java.merchantaccounts;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.truelayer.java.TrueLayerException;
+import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.http.entities.ProblemDetails;
+import com.truelayer.java.merchantaccounts.entities.ListTransactionsResponse;
+import com.truelayer.java.merchantaccounts.entities.transactions.Transaction;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimeSlicedTransactionsIteratorTests {
+    private static final ZonedDateTime FROM = ZonedDateTime.of(2023, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("It should fetch the windows with bounded concurrency and merge them in timestamp order")
+    public void shouldMergeWindowsInTimestampOrder() {
+        List<ZonedDateTime> requestedWindows = new ArrayList<>();
+        BiFunction<ZonedDateTime, ZonedDateTime, CompletableFuture<ApiResponse<ListTransactionsResponse>>> fetcher =
+                (from, to) -> {
+                    requestedWindows.add(from);
+                    // transactions are returned in reverse order on purpose
+                    return respondWith(transaction(from.toString() + "-2", from.plusHours(2)), transaction(
+                            from.toString() + "-1", from.plusHours(1)));
+                };
+        TimeSlicedTransactionsIterator sut = new TimeSlicedTransactionsIterator(
+                fetcher,
+                FROM,
+                FROM.plusDays(3),
+                TimeSlicingOptions.builder().maxConcurrency(2).build());
+
+        assertTrue(sut.hasNext());
+        assertEquals(Arrays.asList(FROM, FROM.plusDays(1)), requestedWindows);
+
+        List<ZonedDateTime> timestamps = new ArrayList<>();
+        sut.forEachRemaining(t -> timestamps.add(t.getTimestamp()));
+
+        assertEquals(6, timestamps.size());
+        List<ZonedDateTime> sorted = new ArrayList<>(timestamps);
+        sorted.sort(Comparator.naturalOrder());
+        assertEquals(sorted, timestamps);
+    }
+
+    @Test
+    @DisplayName("It should split the windows failed because of server errors")
+    public void shouldSplitFailedWindows() {
+        List<Duration> requestedWindows = new ArrayList<>();
+        BiFunction<ZonedDateTime, ZonedDateTime, CompletableFuture<ApiResponse<ListTransactionsResponse>>> fetcher =
+                (from, to) -> {
+                    Duration length = Duration.between(from, to);
+                    requestedWindows.add(length);
+                    if (length.compareTo(Duration.ofHours(12)) > 0) {
+                        return CompletableFuture.completedFuture(ApiResponse.<ListTransactionsResponse>builder()
+                                .error(ProblemDetails.builder().status(504).build())
+                                .build());
+                    }
+                    return respondWith(transaction(from.toString(), from));
+                };
+        TimeSlicedTransactionsIterator sut = new TimeSlicedTransactionsIterator(
+                fetcher, FROM, FROM.plusDays(1), TimeSlicingOptions.builder().build());
+
+        List<Transaction> transactions = new ArrayList<>();
+        sut.forEachRemaining(transactions::add);
+
+        assertEquals(2, transactions.size());
+        assertEquals(Arrays.asList(Duration.ofDays(1), Duration.ofHours(12), Duration.ofHours(12)), requestedWindows);
+    }
+
+    @Test
+    @DisplayName("It should throw an exception on client errors")
+    public void shouldThrowOnClientErrors() {
+        TimeSlicedTransactionsIterator sut = new TimeSlicedTransactionsIterator(
+                (from, to) -> CompletableFuture.completedFuture(ApiResponse.<ListTransactionsResponse>builder()
+                        .error(ProblemDetails.builder().status(400).build())
+                        .build()),
+                FROM,
+                FROM.plusDays(1),
+                TimeSlicingOptions.builder().build());
+
+        assertThrows(TrueLayerException.class, sut::hasNext);
+    }
+
+    @Test
+    @DisplayName("It should shrink the following windows if a window returns too many transactions")
+    public void shouldShrinkWindows() {
+        List<Duration> requestedWindows = new ArrayList<>();
+        BiFunction<ZonedDateTime, ZonedDateTime, CompletableFuture<ApiResponse<ListTransactionsResponse>>> fetcher =
+                (from, to) -> {
+                    requestedWindows.add(Duration.between(from, to));
+                    return respondWith(
+                            transaction(from + "-1", from),
+                            transaction(from + "-2", from),
+                            transaction(from + "-3", from),
+                            transaction(from + "-4", from));
+                };
+        TimeSlicedTransactionsIterator sut = new TimeSlicedTransactionsIterator(
+                fetcher,
+                FROM,
+                FROM.plusDays(2),
+                TimeSlicingOptions.builder()
+                        .maxItemsPerWindow(2)
+                        .maxConcurrency(1)
+                        .build());
+
+        sut.forEachRemaining(t -> {});
+
+        assertEquals(Duration.ofDays(1), requestedWindows.get(0));
+        assertEquals(Duration.ofHours(12), requestedWindows.get(1));
+    }
+
+    @Test
+    @DisplayName("It should emit once the transactions returned by adjacent windows")
+    public void shouldDeduplicateBoundaryTransactions() {
+        Transaction boundary = transaction("boundary", FROM.plusDays(1));
+        TimeSlicedTransactionsIterator sut = new TimeSlicedTransactionsIterator(
+                (from, to) -> respondWith(boundary),
+                FROM,
+                FROM.plusDays(2),
+                TimeSlicingOptions.builder().build());
+
+        List<Transaction> transactions = new ArrayList<>();
+        sut.forEachRemaining(transactions::add);
+
+        assertEquals(Collections.singletonList(boundary), transactions);
+    }
+
+    @Test
+    @DisplayName("It should cancel the in flight requests when closed")
+    public void shouldCancelInFlightRequestsWhenClosed() {
+        CompletableFuture<ApiResponse<ListTransactionsResponse>> inFlight = new CompletableFuture<>();
+        TimeSlicedTransactionsIterator sut = new TimeSlicedTransactionsIterator(
+                (from, to) -> from.equals(FROM) ? respondWith(transaction("a", FROM)) : inFlight,
+                FROM,
+                FROM.plusDays(2),
+                TimeSlicingOptions.builder().build());
+
+        sut.next();
+        sut.close();
+
+        assertTrue(inFlight.isCancelled());
+        assertFalse(sut.hasNext());
+    }
+
+    @Test
+    @DisplayName("It should fetch the halves of failed windows within the concurrency limit")
+    public void shouldFetchHalvesWithinConcurrencyLimit() {
+        List<ZonedDateTime> requestedWindows = new ArrayList<>();
+        BiFunction<ZonedDateTime, ZonedDateTime, CompletableFuture<ApiResponse<ListTransactionsResponse>>> fetcher =
+                (from, to) -> {
+                    requestedWindows.add(from);
+                    if (Duration.between(from, to).compareTo(Duration.ofHours(12)) > 0) {
+                        return CompletableFuture.completedFuture(ApiResponse.<ListTransactionsResponse>builder()
+                                .error(ProblemDetails.builder().status(504).build())
+                                .build());
+                    }
+                    return respondWith(transaction(from.toString(), from));
+                };
+        TimeSlicedTransactionsIterator sut = new TimeSlicedTransactionsIterator(
+                fetcher,
+                FROM,
+                FROM.plusDays(1),
+                TimeSlicingOptions.builder().maxConcurrency(1).build());
+
+        sut.forEachRemaining(t -> {});
+
+        // with a single window in flight, the second half is only fetched once the first one is consumed
+        assertEquals(Arrays.asList(FROM, FROM, FROM.plusHours(12)), requestedWindows);
+    }
+
+    @Test
+    @DisplayName("It should reject invalid time slicing options")
+    public void shouldRejectInvalidOptions() {
+        BiFunction<ZonedDateTime, ZonedDateTime, CompletableFuture<ApiResponse<ListTransactionsResponse>>> fetcher =
+                (from, to) -> respondWith();
+
+        assertThrows(
+                TrueLayerException.class,
+                () -> new TimeSlicedTransactionsIterator(
+                        fetcher,
+                        FROM,
+                        FROM.plusDays(1),
+                        TimeSlicingOptions.builder().initialWindow(Duration.ZERO).build()));
+        assertThrows(
+                TrueLayerException.class,
+                () -> new TimeSlicedTransactionsIterator(
+                        fetcher,
+                        FROM,
+                        FROM.plusDays(1),
+                        TimeSlicingOptions.builder()
+                                .initialWindow(Duration.ofMinutes(1))
+                                .minWindow(Duration.ofHours(1))
+                                .build()));
+        assertThrows(
+                TrueLayerException.class,
+                () -> new TimeSlicedTransactionsIterator(
+                        fetcher,
+                        FROM,
+                        FROM.plusDays(1),
+                        TimeSlicingOptions.builder().maxConcurrency(0).build()));
+        assertThrows(
+                NullPointerException.class,
+                () -> new TimeSlicedTransactionsIterator(
+                        fetcher, null, FROM.plusDays(1), TimeSlicingOptions.builder().build()));
+    }
+
+    private static CompletableFuture<ApiResponse<ListTransactionsResponse>> respondWith(Transaction... transactions) {
+        return CompletableFuture.completedFuture(ApiResponse.<ListTransactionsResponse>builder()
+                .data(new ListTransactionsResponse(Arrays.asList(transactions)))
+                .build());
+    }
+
+    private static Transaction transaction(String id, ZonedDateTime timestamp) {
+        Transaction transaction = mock(Transaction.class);
+        when(transaction.getId()).thenReturn(id);
+        when(transaction.getTimestamp()).thenReturn(timestamp);
+        return transaction;
+    }
+}
@@ -0,0 +1,198 @@
+package com.truelayer.java.merchantaccounts;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.truelayer.java.TrueLayerException;
+import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.http.entities.ProblemDetails;
+import com.truelayer.java.merchantaccounts.checkpoints.Checkpoint;
+import com.truelayer.java.merchantaccounts.checkpoints.ICheckpointStore;
+import com.truelayer.java.merchantaccounts.entities.ListTransactionsQuery;
+import com.truelayer.java.merchantaccounts.entities.ListTransactionsResponse;
+import com.truelayer.java.merchantaccounts.entities.transactions.Transaction;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class TransactionsSynchronizerTests {
+    private static final String MERCHANT_ACCOUNT_ID = "a-merchant-account-id";
+    private static final ZonedDateTime NOW = ZonedDateTime.of(2023, 1, 2, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("It should sync the initial lookback on the first run")
+    public void shouldSyncTheInitialLookbackOnTheFirstRun() {
+        IMerchantAccountsHandler handler = mock(IMerchantAccountsHandler.class);
+        when(handler.listTransactions(eq(MERCHANT_ACCOUNT_ID), any(ListTransactionsQuery.class)))
+                .thenReturn(respondWith(transaction("t-1", Transaction.Status.PENDING, NOW.minusHours(1))));
+        InMemoryCheckpointStore store = new InMemoryCheckpointStore();
+
+        List<Transaction> transactions = new TransactionsSynchronizer(handler, buildOptions(store))
+                .sync(MERCHANT_ACCOUNT_ID)
+                .join();
+
+        assertEquals(1, transactions.size());
+        ListTransactionsQuery query = captureQuery(handler);
+        assertEquals(NOW.minusDays(1), query.from());
+        assertEquals(NOW, query.to());
+        assertEquals(NOW, store.checkpoints.get(MERCHANT_ACCOUNT_ID).getHighWaterMark());
+    }
+
+    @Test
+    @DisplayName("It should resume from the checkpoint with the configured overlap and emit only new or changed transactions")
+    public void shouldEmitOnlyNewOrChangedTransactions() {
+        Map<String, String> fingerprints = new LinkedHashMap<>();
+        fingerprints.put("t-1", "settled|" + NOW.minusHours(3).toInstant());
+        fingerprints.put("t-2", "pending|" + NOW.minusHours(2).toInstant());
+        InMemoryCheckpointStore store = new InMemoryCheckpointStore();
+        store.save(MERCHANT_ACCOUNT_ID, new Checkpoint(NOW.minusHours(1), fingerprints));
+        IMerchantAccountsHandler handler = mock(IMerchantAccountsHandler.class);
+        when(handler.listTransactions(eq(MERCHANT_ACCOUNT_ID), any(ListTransactionsQuery.class)))
+                .thenReturn(respondWith(
+                        transaction("t-1", Transaction.Status.SETTLED, NOW.minusHours(3)),
+                        transaction("t-2", Transaction.Status.SETTLED, NOW.minusHours(2)),
+                        transaction("t-3", Transaction.Status.PENDING, NOW.minusMinutes(30))));
+
+        List<Transaction> transactions = new TransactionsSynchronizer(handler, buildOptions(store))
+                .sync(MERCHANT_ACCOUNT_ID)
+                .join();
+
+        assertEquals(Arrays.asList("t-2", "t-3"), ids(transactions));
+        assertEquals(NOW.minusHours(1).minusMinutes(5), captureQuery(handler).from());
+    }
+
+    @Test
+    @DisplayName("It should bound the number of tracked transactions, evicting the oldest ones")
+    public void shouldBoundTheTrackedTransactions() {
+        IMerchantAccountsHandler handler = mock(IMerchantAccountsHandler.class);
+        when(handler.listTransactions(eq(MERCHANT_ACCOUNT_ID), any(ListTransactionsQuery.class)))
+                .thenReturn(respondWith(
+                        transaction("t-1", Transaction.Status.SETTLED, NOW.minusHours(3)),
+                        transaction("t-2", Transaction.Status.SETTLED, NOW.minusHours(2)),
+                        transaction("t-3", Transaction.Status.SETTLED, NOW.minusHours(1))));
+        InMemoryCheckpointStore store = new InMemoryCheckpointStore();
+        TransactionsSyncOptions options = TransactionsSyncOptions.builder()
+                .checkpointStore(store)
+                .maxTrackedTransactions(2)
+                .clock(Clock.fixed(NOW.toInstant(), ZoneOffset.UTC))
+                .build();
+
+        new TransactionsSynchronizer(handler, options).sync(MERCHANT_ACCOUNT_ID).join();
+
+        assertEquals(
+                Arrays.asList("t-2", "t-3"),
+                new ArrayList<>(store.checkpoints.get(MERCHANT_ACCOUNT_ID).getFingerprints().keySet()));
+    }
+
+    @Test
+    @DisplayName("It should not update the checkpoint if the transactions cannot be fetched")
+    public void shouldNotUpdateTheCheckpointOnErrors() {
+        IMerchantAccountsHandler handler = mock(IMerchantAccountsHandler.class);
+        when(handler.listTransactions(eq(MERCHANT_ACCOUNT_ID), any(ListTransactionsQuery.class)))
+                .thenReturn(CompletableFuture.completedFuture(ApiResponse.<ListTransactionsResponse>builder()
+                        .error(ProblemDetails.builder().status(500).build())
+                        .build()));
+        InMemoryCheckpointStore store = new InMemoryCheckpointStore();
+
+        CompletionException thrown = assertThrows(CompletionException.class, () -> new TransactionsSynchronizer(
+                        handler, buildOptions(store))
+                .sync(MERCHANT_ACCOUNT_ID)
+                .join());
+
+        assertInstanceOf(TrueLayerException.class, thrown.getCause());
+        assertTrue(store.checkpoints.isEmpty());
+    }
+
+    @Test
+    @DisplayName("It should throw an exception if the checkpoint store is not set")
+    public void shouldRequireACheckpointStore() {
+        IMerchantAccountsHandler handler = mock(IMerchantAccountsHandler.class);
+
+        assertThrows(
+                TrueLayerException.class,
+                () -> new TransactionsSynchronizer(handler, TransactionsSyncOptions.builder().build())
+                        .sync(MERCHANT_ACCOUNT_ID));
+        verifyNoInteractions(handler);
+    }
+
+    @Test
+    @DisplayName("It should save the checkpoint on the configured executor")
+    public void shouldSaveTheCheckpointOnTheConfiguredExecutor() {
+        IMerchantAccountsHandler handler = mock(IMerchantAccountsHandler.class);
+        when(handler.listTransactions(eq(MERCHANT_ACCOUNT_ID), any(ListTransactionsQuery.class)))
+                .thenReturn(respondWith(transaction("t-1", Transaction.Status.PENDING, NOW.minusHours(1))));
+        InMemoryCheckpointStore store = new InMemoryCheckpointStore();
+        List<Runnable> tasks = new ArrayList<>();
+        TransactionsSyncOptions options = TransactionsSyncOptions.builder()
+                .checkpointStore(store)
+                .checkpointExecutor(tasks::add)
+                .clock(Clock.fixed(NOW.toInstant(), ZoneOffset.UTC))
+                .build();
+
+        CompletableFuture<List<Transaction>> sync =
+                new TransactionsSynchronizer(handler, options).sync(MERCHANT_ACCOUNT_ID);
+
+        assertFalse(sync.isDone());
+        assertTrue(store.checkpoints.isEmpty());
+        tasks.forEach(Runnable::run);
+        assertEquals(1, sync.join().size());
+        assertEquals(NOW, store.checkpoints.get(MERCHANT_ACCOUNT_ID).getHighWaterMark());
+    }
+
+    private static TransactionsSyncOptions buildOptions(ICheckpointStore store) {
+        return TransactionsSyncOptions.builder()
+                .checkpointStore(store)
+                .overlap(Duration.ofMinutes(5))
+                .clock(Clock.fixed(NOW.toInstant(), ZoneOffset.UTC))
+                .build();
+    }
+
+    private static ListTransactionsQuery captureQuery(IMerchantAccountsHandler handler) {
+        ArgumentCaptor<ListTransactionsQuery> query = ArgumentCaptor.forClass(ListTransactionsQuery.class);
+        verify(handler).listTransactions(eq(MERCHANT_ACCOUNT_ID), query.capture());
+        return query.getValue();
+    }
+
+    private static List<String> ids(List<Transaction> transactions) {
+        List<String> ids = new ArrayList<>();
+        transactions.forEach(t -> ids.add(t.getId()));
+        return ids;
+    }
+
+    private static CompletableFuture<ApiResponse<ListTransactionsResponse>> respondWith(Transaction... transactions) {
+        return CompletableFuture.completedFuture(ApiResponse.<ListTransactionsResponse>builder()
+                .data(new ListTransactionsResponse(Arrays.asList(transactions)))
+                .build());
+    }
+
+    private static Transaction transaction(String id, Transaction.Status status, ZonedDateTime timestamp) {
+        Transaction transaction = mock(Transaction.class);
+        when(transaction.getId()).thenReturn(id);
+        when(transaction.getStatus()).thenReturn(status);
+        when(transaction.getTimestamp()).thenReturn(timestamp);
+        return transaction;
+    }
+
+    private static class InMemoryCheckpointStore implements ICheckpointStore {
+        private final Map<String, Checkpoint> checkpoints = new HashMap<>();
+
+        @Override
+        public Optional<Checkpoint> load(String merchantAccountId) {
+            return Optional.ofNullable(checkpoints.get(merchantAccountId));
+        }
+
+        @Override
+        public void save(String merchantAccountId, Checkpoint checkpoint) {
+            checkpoints.put(merchantAccountId, checkpoint);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.truelayer.java.merchantaccounts.checkpoints;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileCheckpointStoreTests {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("It should return an empty checkpoint for unknown merchant accounts")
+    public void shouldReturnEmptyForUnknownMerchantAccounts() {
+        FileCheckpointStore sut = new FileCheckpointStore(directory);
+
+        assertFalse(sut.load("a-merchant-account-id").isPresent());
+    }
+
+    @Test
+    @DisplayName("It should save and load a checkpoint preserving the fingerprints order")
+    public void shouldSaveAndLoadCheckpoints() {
+        FileCheckpointStore sut = new FileCheckpointStore(directory.resolve("checkpoints"));
+        ZonedDateTime highWaterMark = ZonedDateTime.of(2023, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+        Map<String, String> fingerprints = new LinkedHashMap<>();
+        fingerprints.put("t-2", "settled|2023-01-01T10:00:00Z");
+        fingerprints.put("t-1", "pending|2023-01-01T11:00:00Z");
+
+        sut.save("a-merchant-account-id", new Checkpoint(highWaterMark, fingerprints));
+        sut.save("a-merchant-account-id", new Checkpoint(highWaterMark, fingerprints));
+        Checkpoint checkpoint = sut.load("a-merchant-account-id").get();
+
+        assertEquals(highWaterMark.toInstant(), checkpoint.getHighWaterMark().toInstant());
+        assertEquals(Arrays.asList("t-2", "t-1"), new ArrayList<>(checkpoint.getFingerprints().keySet()));
+        assertFalse(sut.load("another-merchant-account-id").isPresent());
+    }
+}
@@ -0,0 +1,150 @@
+package com.truelayer.java.paymentsproviders;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.truelayer.java.http.entities.ApiResponse;
+import com.truelayer.java.http.entities.ProblemDetails;
+import com.truelayer.java.paymentsproviders.entities.*;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PaymentsProvidersCatalogTests {
+
+    private static final PaymentsProvider A_UK_PROVIDER = buildProvider(
+            "ob-uk-bank",
+            "GB",
+            new Capabilities(
+                    new PaymentsCapabilities(new BankTransferCapabilities(null, Collections.emptyList())),
+                    new MandatesCapabilities(new VrpSweepingCapabilities(null), null)));
+
+    private static final PaymentsProvider A_FR_PROVIDER = buildProvider(
+            "xs2a-fr-bank",
+            "FR",
+            new Capabilities(
+                    new PaymentsCapabilities(new BankTransferCapabilities(null, Collections.emptyList())), null));
+
+    @Test
+    @DisplayName("It should index the preloaded providers")
+    public void shouldIndexPreloadedProviders() {
+        IPaymentsProvidersHandler handler = mock(IPaymentsProvidersHandler.class);
+        mockProvider(handler, A_UK_PROVIDER);
+        mockProvider(handler, A_FR_PROVIDER);
+        PaymentsProvidersCatalog sut = PaymentsProvidersCatalog.builder()
+                .paymentsProvidersHandler(handler)
+                .providerIds(Arrays.asList(A_UK_PROVIDER.getId(), A_FR_PROVIDER.getId()))
+                .build();
+
+        sut.preload().join();
+
+        assertEquals(A_UK_PROVIDER, sut.getProvider(A_UK_PROVIDER.getId()).get());
+        assertEquals(Collections.singletonList(A_FR_PROVIDER), sut.findByCountry("FR"));
+        assertEquals(
+                Arrays.asList(A_UK_PROVIDER, A_FR_PROVIDER),
+                sut.findByCapability(ProviderCapability.PAYMENTS_BANK_TRANSFER));
+        assertEquals(
+                Collections.singletonList(A_UK_PROVIDER),
+                sut.find("GB", ProviderCapability.MANDATES_VRP_SWEEPING));
+        assertTrue(sut.find("FR", ProviderCapability.MANDATES_VRP_SWEEPING).isEmpty());
+        assertTrue(sut.findByCapability(ProviderCapability.MANDATES_VRP_COMMERCIAL).isEmpty());
+    }
+
+    @Test
+    @DisplayName("It should keep the previous version of providers that cannot be refreshed")
+    public void shouldKeepPreviousVersionOnRefreshErrors() {
+        IPaymentsProvidersHandler handler = mock(IPaymentsProvidersHandler.class);
+        mockProvider(handler, A_UK_PROVIDER);
+        PaymentsProvidersCatalog sut = PaymentsProvidersCatalog.builder()
+                .paymentsProvidersHandler(handler)
+                .providerIds(Collections.singletonList(A_UK_PROVIDER.getId()))
+                .build();
+        sut.preload().join();
+
+        when(handler.getProvider(A_UK_PROVIDER.getId()))
+                .thenReturn(CompletableFuture.completedFuture(ApiResponse.<PaymentsProvider>builder()
+                        .error(ProblemDetails.builder().title("server_error").build())
+                        .build()));
+        sut.preload().join();
+
+        assertEquals(A_UK_PROVIDER, sut.getProvider(A_UK_PROVIDER.getId()).get());
+    }
+
+    @Test
+    @DisplayName("It should return no providers if the catalog is empty")
+    public void shouldReturnNoProvidersIfEmpty() {
+        PaymentsProvidersCatalog sut = PaymentsProvidersCatalog.builder()
+                .paymentsProvidersHandler(mock(IPaymentsProvidersHandler.class))
+                .build();
+
+        sut.preload().join();
+
+        assertFalse(sut.getProvider("a-provider").isPresent());
+        assertTrue(sut.findByCountry("GB").isEmpty());
+        assertTrue(sut.find("GB", ProviderCapability.PAYMENTS_BANK_TRANSFER).isEmpty());
+    }
+
+    @Test
+    @DisplayName("It should keep refreshing in background after a failed refresh")
+    public void shouldKeepRefreshingAfterAFailure() {
+        IPaymentsProvidersHandler handler = mock(IPaymentsProvidersHandler.class);
+        when(handler.getProvider(A_UK_PROVIDER.getId()))
+                .thenThrow(new IllegalStateException("a failure"))
+                .thenReturn(CompletableFuture.completedFuture(
+                        ApiResponse.<PaymentsProvider>builder().data(A_UK_PROVIDER).build()));
+        PaymentsProvidersCatalog sut = PaymentsProvidersCatalog.builder()
+                .paymentsProvidersHandler(handler)
+                .providerIds(Collections.singletonList(A_UK_PROVIDER.getId()))
+                .refreshInterval(Duration.ofMillis(10))
+                .build();
+
+        sut.startBackgroundRefresh();
+
+        verify(handler, timeout(5000).atLeast(2)).getProvider(A_UK_PROVIDER.getId());
+        sut.close();
+    }
+
+    @Test
+    @DisplayName("It should shut down the default refresh executor when closed")
+    public void shouldShutDownTheDefaultExecutorWhenClosed() {
+        PaymentsProvidersCatalog sut = PaymentsProvidersCatalog.builder()
+                .paymentsProvidersHandler(mock(IPaymentsProvidersHandler.class))
+                .build();
+        sut.startBackgroundRefresh();
+
+        sut.close();
+
+        assertTrue(sut.getRefreshExecutor().isShutdown());
+    }
+
+    @Test
+    @DisplayName("It should not shut down a given refresh executor when closed")
+    public void shouldNotShutDownAGivenExecutorWhenClosed() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        PaymentsProvidersCatalog sut = PaymentsProvidersCatalog.builder()
+                .paymentsProvidersHandler(mock(IPaymentsProvidersHandler.class))
+                .refreshExecutor(executor)
+                .build();
+        sut.startBackgroundRefresh();
+
+        sut.close();
+
+        assertFalse(executor.isShutdown());
+        executor.shutdownNow();
+    }
+
+    private static PaymentsProvider buildProvider(String id, String countryCode, Capabilities capabilities) {
+        return new PaymentsProvider(id, id, null, null, null, countryCode, capabilities);
+    }
+
+    private void mockProvider(IPaymentsProvidersHandler handler, PaymentsProvider provider) {
+        when(handler.getProvider(provider.getId()))
+                .thenReturn(CompletableFuture.completedFuture(
+                        ApiResponse.<PaymentsProvider>builder().data(provider).build()));
+    }
+}
@@ -0,0 +1,129 @@
+package com.truelayer.java.serialization;
+
+import static com.truelayer.java.TestUtils.JSON_RESPONSES_LOCATION;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.truelayer.java.Utils;
+import com.truelayer.java.mandates.entities.ListMandatesResponse;
+import com.truelayer.java.mandates.entities.mandatedetail.MandateDetail;
+import com.truelayer.java.merchantaccounts.entities.ListTransactionsResponse;
+import com.truelayer.java.merchantaccounts.entities.transactions.Transaction;
+import com.truelayer.java.payments.entities.AuthorizationFlowResponse;
+import com.truelayer.java.payments.entities.paymentdetail.*;
+import com.truelayer.java.payments.entities.paymentdetail.forminput.image.Image;
+import java.io.File;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class SubtypeDeserializerTests {
+
+    @SneakyThrows
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+        "payments/200.get_payment_by_id.authorization_required.json, PaymentDetail",
+        "payments/200.get_payment_by_id.authorizing.json, PaymentDetail",
+        "payments/200.get_payment_by_id.authorized.json, PaymentDetail",
+        "payments/200.get_payment_by_id.executed.json, PaymentDetail",
+        "payments/200.get_payment_by_id.settled.json, PaymentDetail",
+        "payments/200.get_payment_by_id.failed.json, PaymentDetail",
+        "payments/200.start_authorization_flow.authorizing.consent.json, AuthorizationFlowResponse",
+        "payments/200.start_authorization_flow.authorizing.form.json, AuthorizationFlowResponse",
+        "payments/200.start_authorization_flow.authorizing.redirect.json, AuthorizationFlowResponse",
+        "mandates/200.get_mandate_by_id.authorized.json, MandateDetail",
+        "mandates/200.get_mandate_by_id.revoked.json, MandateDetail",
+        "mandates/200.list_mandates.json, ListMandatesResponse",
+        "merchant_accounts/200.get_transactions.json, ListTransactionsResponse"
+    })
+    @DisplayName("It should deserialize the fixtures as the annotation based deserialization")
+    public void shouldDeserializeFixturesAsAnnotationBasedDeserialization(String fixture, String type) {
+        Class<?> targetType = Class.forName(getPackage(type) + "." + type);
+        File file = new File(JSON_RESPONSES_LOCATION + fixture);
+
+        Object expected = buildAnnotationBasedObjectMapper().readValue(file, targetType);
+        Object actual = Utils.getObjectMapper().readValue(file, targetType);
+
+        assertEquals(expected, actual);
+    }
+
+    @SneakyThrows
+    @Test
+    @DisplayName("It should resolve the subtype when the discriminator is not the first property")
+    public void shouldResolveTheSubtypeWhenTheDiscriminatorIsNotFirst() {
+        String json = "{\"id\":\"a-payment-id\",\"amount_in_minor\":100,\"currency\":\"GBP\","
+                + "\"metadata\":{\"key\":\"value\"},\"status\":\"failed\",\"failure_reason\":\"canceled\"}";
+
+        PaymentDetail paymentDetail = Utils.getObjectMapper().readValue(json, PaymentDetail.class);
+
+        assertTrue(paymentDetail.isFailed());
+        assertEquals("a-payment-id", paymentDetail.getId());
+        assertEquals(100, paymentDetail.getAmountInMinor());
+        assertEquals("value", paymentDetail.getMetadata().get("key"));
+        assertEquals("canceled", paymentDetail.asFailed().getFailureReason());
+    }
+
+    @SneakyThrows
+    @Test
+    @DisplayName("It should use the default subtype when the discriminator is missing")
+    public void shouldUseTheDefaultSubtypeWhenTheDiscriminatorIsMissing() {
+        PaymentDetail paymentDetail = Utils.getObjectMapper().readValue("{\"id\":\"an-id\"}", PaymentDetail.class);
+
+        assertTrue(paymentDetail.isAuthorizationRequired());
+        assertEquals("an-id", paymentDetail.getId());
+    }
+
+    @Test
+    @DisplayName("It should fail on unknown discriminators if there is no default subtype")
+    public void shouldFailOnUnknownDiscriminators() {
+        assertThrows(
+                JsonMappingException.class,
+                () -> Utils.getObjectMapper().readValue("{\"type\":\"unknown\"}", Image.class));
+    }
+
+    @SneakyThrows
+    @Test
+    @DisplayName("It should deserialize a subtype requested explicitly")
+    public void shouldDeserializeASubtypeRequestedExplicitly() {
+        SettledPaymentDetail paymentDetail = Utils.getObjectMapper()
+                .readValue("{\"id\":\"an-id\",\"status\":\"settled\"}", SettledPaymentDetail.class);
+
+        assertEquals("an-id", paymentDetail.getId());
+    }
+
+    private static String getPackage(String type) {
+        switch (type) {
+            case "PaymentDetail":
+                return PaymentDetail.class.getPackage().getName();
+            case "AuthorizationFlowResponse":
+                return AuthorizationFlowResponse.class.getPackage().getName();
+            case "MandateDetail":
+                return MandateDetail.class.getPackage().getName();
+            case "ListMandatesResponse":
+                return ListMandatesResponse.class.getPackage().getName();
+            default:
+                return ListTransactionsResponse.class.getPackage().getName();
+        }
+    }
+
+    /**
+     * Builds an object mapper that falls back to the Jackson type deserializers driven by
+     * <code>@JsonTypeInfo</code>, to be used as a reference.
+     */
+    private static ObjectMapper buildAnnotationBasedObjectMapper() {
+        return Utils.newObjectMapper()
+                .addMixIn(PaymentDetail.class, AnnotationBased.class)
+                .addMixIn(MandateDetail.class, AnnotationBased.class)
+                .addMixIn(Transaction.class, AnnotationBased.class)
+                .addMixIn(AuthorizationFlowAction.class, AnnotationBased.class)
+                .addMixIn(Image.class, AnnotationBased.class);
+    }
+
+    @JsonDeserialize(using = JsonDeserializer.None.class)
+    private abstract static class AnnotationBased {}
+}